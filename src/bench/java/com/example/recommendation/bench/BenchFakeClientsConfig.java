@@ -0,0 +1,38 @@
+package com.example.recommendation.bench;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import com.example.recommendation.external.naver.NaverClient;
+import com.example.recommendation.external.openai.OpenAiGateway;
+
+/**
+ * 벤치마크용 외부 클라이언트 교체
+ *
+ * - OpenAI / Naver 호출을 고정 지연 fake로 바꾼다
+ * - 그 외 파이프라인(캐시 / 평가 / 조립 / 세션)은 운영 구성 그대로
+ * - bench 프로필에서만 (같은 패키지 트리라 컴포넌트 스캔 대상 → stub 서버 하네스와 분리)
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("bench")
+class BenchFakeClientsConfig {
+
+    @Bean
+    @Primary
+    OpenAiGateway latencyOpenAiGateway(
+            @Value("${bench.openai.latency-ms:400}") long latencyMs
+    ) {
+        return new LatencyOpenAiGateway(latencyMs);
+    }
+
+    @Bean
+    @Primary
+    NaverClient latencyNaverClient(
+            @Value("${bench.naver.latency-ms:150}") long latencyMs
+    ) {
+        return new LatencyNaverClient(latencyMs);
+    }
+}
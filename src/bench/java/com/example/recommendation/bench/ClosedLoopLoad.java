@@ -0,0 +1,221 @@
+package com.example.recommendation.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 닫힌 루프(closed-loop) 부하 발생기
+ *
+ * - 가상 사용자 N명이 응답을 받자마자 다음 요청을 보낸다
+ * - 사용자는 대화 스크립트를 하나씩 돌며, 대화마다 새 세션으로 시작
+ *   → 대화 안의 턴은 같은 세션 쿠키로 이어진다
+ *   → 무상태 모드면 응답 stateToken을 다음 요청 본문에 그대로 싣는다
+ * - 대화는 5턴 이하로 (context 6턴 자동 리셋 경로는 측정 대상 ❌)
+ * - 응답 type(RECOMMEND / REQUERY ...)별 지연도 따로 집계
+ * - 워밍업 구간은 버리고 측정 구간만 집계
+ */
+final class ClosedLoopLoad {
+
+    private static final Pattern RESPONSE_TYPE =
+            Pattern.compile("\"type\"\\s*:\\s*\"([A-Z_]+)\"");
+
+    private static final Pattern STATE_TOKEN =
+            Pattern.compile("\"stateToken\"\\s*:\\s*\"([A-Za-z0-9_-]+)\"");
+
+    private ClosedLoopLoad() {
+    }
+
+    record Latencies(long count, long p50Ms, long p95Ms, long p99Ms) {
+
+        static Latencies of(List<Long> sorted) {
+            return new Latencies(
+                    sorted.size(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99)
+            );
+        }
+    }
+
+    record StepResult(
+            int concurrency,
+            long requests,
+            long errors,
+            double rps,
+            Latencies overall,
+            Map<String, Latencies> byType
+    ) {
+        long p50Ms() {
+            return overall.p50Ms();
+        }
+
+        long p99Ms() {
+            return overall.p99Ms();
+        }
+
+        double errorRate() {
+            long total = requests + errors;
+            return total == 0 ? 0.0 : (double) errors / total;
+        }
+    }
+
+    static StepResult run(
+            HttpClient client,
+            URI uri,
+            List<List<String>> conversations,
+            int concurrency,
+            Duration warmup,
+            Duration measure
+    ) throws Exception {
+
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + measure.toNanos();
+
+        List<Future<UserStats>> users = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int firstConversation = i;
+                users.add(executor.submit(() -> runUser(
+                        client, uri, conversations, firstConversation,
+                        measureStart, measureEnd
+                )));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            Map<String, List<Long>> latenciesByType = new TreeMap<>();
+            long errors = 0;
+            for (Future<UserStats> user : users) {
+                UserStats stats = user.get();
+                for (Sample sample : stats.samples()) {
+                    latencies.add(sample.latencyMs());
+                    latenciesByType
+                            .computeIfAbsent(sample.type(), t -> new ArrayList<>())
+                            .add(sample.latencyMs());
+                }
+                errors += stats.errors();
+            }
+
+            Collections.sort(latencies);
+            Map<String, Latencies> byType = new TreeMap<>();
+            latenciesByType.forEach((type, values) -> {
+                Collections.sort(values);
+                byType.put(type, Latencies.of(values));
+            });
+
+            double seconds = measure.toNanos() / 1_000_000_000.0;
+
+            return new StepResult(
+                    concurrency,
+                    latencies.size(),
+                    errors,
+                    latencies.size() / seconds,
+                    Latencies.of(latencies),
+                    byType
+            );
+        }
+    }
+
+    private record Sample(String type, long latencyMs) {
+    }
+
+    private record UserStats(List<Sample> samples, long errors) {
+    }
+
+    private static UserStats runUser(
+            HttpClient client,
+            URI uri,
+            List<List<String>> conversations,
+            int firstConversation,
+            long measureStart,
+            long measureEnd
+    ) {
+        List<Sample> samples = new ArrayList<>();
+        long errors = 0;
+        int conversationIndex = firstConversation;
+
+        while (System.nanoTime() < measureEnd) {
+
+            // 대화마다 새 세션
+            String sessionCookie = null;
+            String stateToken = null;
+            List<String> conversation =
+                    conversations.get(conversationIndex++ % conversations.size());
+
+            for (String input : conversation) {
+                if (System.nanoTime() >= measureEnd) {
+                    break;
+                }
+
+                HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                stateToken == null
+                                        ? "{\"userInput\":\"" + input + "\"}"
+                                        : "{\"userInput\":\"" + input
+                                                + "\",\"stateToken\":\"" + stateToken + "\"}"
+                        ));
+                if (sessionCookie != null) {
+                    request.header("Cookie", sessionCookie);
+                }
+
+                long start = System.nanoTime();
+                String type = null;
+                try {
+                    HttpResponse<String> response =
+                            client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 200) {
+                        type = responseType(response.body());
+                        Matcher token = STATE_TOKEN.matcher(response.body());
+                        if (token.find()) {
+                            stateToken = token.group(1);
+                        }
+                    }
+                    sessionCookie = response.headers()
+                            .firstValue("Set-Cookie")
+                            .map(value -> value.split(";", 2)[0])
+                            .orElse(sessionCookie);
+                } catch (Exception e) {
+                    type = null;
+                }
+                long end = System.nanoTime();
+
+                if (start >= measureStart && end <= measureEnd) {
+                    if (type != null) {
+                        samples.add(new Sample(type, (end - start) / 1_000_000));
+                    } else {
+                        errors++;
+                    }
+                }
+            }
+        }
+        return new UserStats(samples, errors);
+    }
+
+    private static String responseType(String body) {
+        Matcher matcher = RESPONSE_TYPE.matcher(body);
+        return matcher.find() ? matcher.group(1) : "UNKNOWN";
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
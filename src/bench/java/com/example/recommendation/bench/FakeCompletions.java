@@ -0,0 +1,151 @@
+package com.example.recommendation.bench;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 벤치마크용 OpenAI 응답 생성기 (fake 게이트웨이 / stub 서버 공용)
+ *
+ * - 요청 프롬프트를 보고 호출 종류별로 파서가 받아들이는 모양을 돌려준다
+ *   (조건 추출 JSON / 답변 해석 JSON / 카드 설명 맵 / 그 외 문장)
+ * - 조건 추출은 "사용자 입력" 부분만 보고 아는 상품명이 있을 때만 searchKeyword
+ *   → 모호한 발화는 실제처럼 REQUERY 턴이 된다
+ *
+ * 운영 코드 ❌ / bench 소스셋 전용
+ */
+final class FakeCompletions {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Pattern PRODUCT_ID =
+            Pattern.compile("상품 ID: (\\d+)");
+
+    private static final String USER_INPUT_MARKER = "사용자 입력:";
+
+    private static final List<String> CATEGORIES =
+            List.of("노트북", "의자", "청소기", "가습기", "선풍기", "이어폰");
+
+    private static final List<String> OPTIONS =
+            List.of("가벼운", "허리", "저소음", "무선", "16인치");
+
+    private static final List<String> BRANDS =
+            List.of("삼성", "LG");
+
+    private static final String INTERPRETATION_JSON = """
+            {"primaryIntent":"ANSWER","normalizedValue":"가벼운","secondarySignals":[]}""";
+
+    private FakeCompletions() {
+    }
+
+    /**
+     * chat completion 요청 본문 → 응답 content
+     */
+    static String contentFor(Map<String, Object> body) {
+
+        String prompt = promptOf(body);
+
+        if (prompt.contains("조건 추출기")) {
+            return criteriaFor(userInputOf(prompt));
+        }
+
+        if (prompt.contains("primaryIntent")) {
+            return INTERPRETATION_JSON;
+        }
+
+        if (prompt.contains("상품ID")) {
+            Map<String, String> cards = new LinkedHashMap<>();
+            Matcher matcher = PRODUCT_ID.matcher(prompt);
+            while (matcher.find()) {
+                cards.put(matcher.group(1), "벤치 카드 설명");
+            }
+            return toJson(cards);
+        }
+
+        return "벤치 응답 문장";
+    }
+
+    /**
+     * 응답 content → chat completion 응답 본문
+     */
+    static String completion(String content) {
+        return toJson(Map.of("choices", List.of(
+                Map.of("message", Map.of("content", content))
+        )));
+    }
+
+    /**
+     * 응답 content → SSE 한 조각 (data: {...delta...})
+     */
+    static String streamChunk(String content) {
+        return toJson(Map.of("choices", List.of(
+                Map.of("delta", Map.of("content", content))
+        )));
+    }
+
+    private static String criteriaFor(String userInput) {
+
+        Map<String, Object> criteria = new LinkedHashMap<>();
+        criteria.put("searchKeyword", firstIn(userInput, CATEGORIES));
+
+        List<String> options = new ArrayList<>();
+        for (String option : OPTIONS) {
+            if (userInput.contains(option)) {
+                options.add(option);
+            }
+        }
+        criteria.put("optionKeywords", options);
+        criteria.put("priceMax", userInput.contains("100만원") ? 1_000_000 : null);
+        criteria.put("preferredBrand", firstIn(userInput, BRANDS));
+        criteria.put("intentType", "SEARCH");
+        criteria.put("commandType",
+                userInput.contains("다른 거") ? "RETRY_SEARCH" : "APPEND");
+
+        return toJson(criteria);
+    }
+
+    private static String firstIn(String text, List<String> candidates) {
+        for (String candidate : candidates) {
+            if (text.contains(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String userInputOf(String prompt) {
+        int marker = prompt.lastIndexOf(USER_INPUT_MARKER);
+        return marker < 0
+                ? prompt
+                : prompt.substring(marker + USER_INPUT_MARKER.length());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String promptOf(Map<String, Object> body) {
+        StringBuilder prompt = new StringBuilder();
+        Object messages = body.get("messages");
+        if (messages instanceof List<?> list) {
+            for (Object message : list) {
+                if (message instanceof Map<?, ?> map) {
+                    prompt.append(((Map<String, Object>) map).get("content"))
+                            .append('\n');
+                }
+            }
+        }
+        return prompt.toString();
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.recommendation.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.recommendation.external.naver.NaverClient;
+import com.example.recommendation.external.naver.dto.Product;
+
+/**
+ * 벤치마크용 Naver 클라이언트
+ *
+ * - 고정 지연(sleep) 후 더미 상품 목록
+ *
+ * 운영 코드 ❌ / bench 소스셋 전용
+ */
+class LatencyNaverClient implements NaverClient {
+
+    private final long latencyMs;
+
+    LatencyNaverClient(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public List<Product> search(String keyword) {
+        return search(keyword, 1);
+    }
+
+    @Override
+    public List<Product> search(String keyword, int start) {
+        return search(keyword, start, 30);
+    }
+
+    @Override
+    public List<Product> search(String keyword, int start, int display) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < display && start + i <= 300; i++) {
+            long id = start + i;
+            products.add(new Product(
+                    id,
+                    (id % 2 == 0 ? "삼성 " : "LG ") + "가벼운 노트북 " + id,
+                    id % 2 == 0 ? "Samsung" : "LG",
+                    "http://image" + id + ".jpg",
+                    "http://link" + id,
+                    String.valueOf(500_000 + id * 10_000),
+                    "쿠팡"
+            ));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.recommendation.bench;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.example.recommendation.external.openai.OpenAiGateway;
+
+/**
+ * 벤치마크용 OpenAI 게이트웨이
+ *
+ * - 네트워크 ❌ → 고정 지연(sleep) 후 FakeCompletions 응답
+ * - HTTP 계층까지 재려면 StubApiServer (부하 테스트 하네스)
+ *
+ * 운영 코드 ❌ / bench 소스셋 전용
+ */
+class LatencyOpenAiGateway extends OpenAiGateway {
+
+    private final long latencyMs;
+
+    LatencyOpenAiGateway(long latencyMs) {
+        super(HttpClient.newHttpClient(), "http://localhost", 1000, 1000, 1, 1000);
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public String chatCompletion(Map<String, Object> body) {
+        sleep();
+        return FakeCompletions.completion(FakeCompletions.contentFor(body));
+    }
+
+    @Override
+    public String streamChatCompletion(
+            Map<String, Object> body,
+            Consumer<String> onToken
+    ) {
+        sleep();
+        String content = FakeCompletions.contentFor(body);
+        onToken.accept(content);
+        return content;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
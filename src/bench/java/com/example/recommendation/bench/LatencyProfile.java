@@ -0,0 +1,45 @@
+package com.example.recommendation.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * stub 서버 응답 지연 분포 + 오류율
+ *
+ * - 지연은 로그정규 분포 (중앙값 / p99로 지정) → 외부 API 특유의 긴 꼬리
+ * - p99 <= 중앙값이면 고정 지연
+ * - 오류율만큼 5xx 응답
+ *
+ * 문자열 형식: "중앙값ms/p99ms/오류율"  예) "400/1500/0.01"
+ */
+record LatencyProfile(long medianMs, long p99Ms, double errorRate) {
+
+    // 표준정규 분포 99 분위수
+    private static final double Z_99 = 2.3263;
+
+    static LatencyProfile parse(String spec) {
+        String[] parts = spec.split("/");
+        long median = Long.parseLong(parts[0]);
+        long p99 = parts.length > 1 ? Long.parseLong(parts[1]) : median;
+        double errorRate = parts.length > 2 ? Double.parseDouble(parts[2]) : 0.0;
+        return new LatencyProfile(median, p99, errorRate);
+    }
+
+    long sampleMs() {
+        if (p99Ms <= medianMs || medianMs <= 0) {
+            return medianMs;
+        }
+        double sigma = Math.log((double) p99Ms / medianMs) / Z_99;
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(medianMs * Math.exp(sigma * gaussian));
+    }
+
+    boolean shouldFail() {
+        return errorRate > 0
+                && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return "%d/%d/%.3f".formatted(medianMs, p99Ms, errorRate);
+    }
+}
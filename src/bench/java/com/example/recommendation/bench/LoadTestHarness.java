@@ -0,0 +1,195 @@
+package com.example.recommendation.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.recommendation.RecommendationApplication;
+
+/**
+ * 종단간(end-to-end) 부하 테스트 하네스
+ *
+ * [구성]
+ * - OpenAI / Naver를 로컬 HTTP stub(StubApiServer)으로 띄우고
+ *   앱은 base-url만 바꿔서 운영 구성 그대로 기동 (게이트웨이 / 커넥션 풀 / 파서 포함)
+ * - 가상 사용자가 대화 스크립트를 세션 쿠키로 이어가며 /api/recommend/home 호출
+ * - 시간 예산(pipeline.deadline.*)도 운영값 그대로 → degrade까지 포함한 지연
+ *
+ * [리포트]
+ * - 처리량(rps) / 오류 수
+ * - 응답 type(REQUERY / RECOMMEND ...)별 p50 / p95 / p99
+ * - 측정 구간 스레드 수 / 힙 사용량 / GC
+ * - stub 호출 수 / 주입한 오류 수
+ *
+ * [실행]
+ *   ./gradlew loadTest
+ *   ./gradlew loadTest --args="--users=200 --measure-s=60 --openai=600/2500/0.02"
+ *
+ * [옵션]
+ * - --users           동시 사용자 수 (기본 100)
+ * - --warmup-s        워밍업 초 (기본 5)
+ * - --measure-s       측정 초 (기본 30)
+ * - --openai          OpenAI stub 지연 "중앙값/p99/오류율" (기본 400/1500/0.01)
+ * - --naver           Naver stub 지연 "중앙값/p99/오류율" (기본 120/500/0.005)
+ * - --virtual         가상 스레드 모드 (기본 false)
+ * - --async           /home 비동기 모드 (기본 false)
+ * - --tomcat-threads  Tomcat 최대 스레드 (기본 200)
+ * - --store           대화 상태 저장소 memory / jdbc / resp (기본 memory, resp는 내장 대역 서버)
+ * - --stateless       무상태 모드 (저장소 대신 서명 토큰 왕복, 기본 false)
+ */
+public final class LoadTestHarness {
+
+    /**
+     * 대화 스크립트 (대화마다 새 세션, 5턴 이하)
+     * - 모호한 첫 발화 → REQUERY, 상품명이 나오면 RECOMMEND
+     */
+    private static final List<List<String>> CONVERSATIONS = List.of(
+            List.of("선물 추천해줘", "노트북", "가벼운 걸로", "삼성 제품으로"),
+            List.of("가벼운 노트북 추천해줘", "100만원 이하로", "다른 거 보여줘"),
+            List.of("뭐 살지 모르겠어", "의자 보여줘", "허리 편한 걸로"),
+            List.of("LG 청소기", "무선으로", "저소음이면 좋겠어", "다른 거 보여줘")
+    );
+
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(250);
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Map<String, String> options = parse(args);
+
+        int users = Integer.parseInt(options.getOrDefault("users", "100"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-s", "5")));
+        Duration measure = Duration.ofSeconds(Long.parseLong(options.getOrDefault("measure-s", "30")));
+        LatencyProfile openAi = LatencyProfile.parse(options.getOrDefault("openai", "400/1500/0.01"));
+        LatencyProfile naver = LatencyProfile.parse(options.getOrDefault("naver", "120/500/0.005"));
+
+        try (StubApiServer stub = new StubApiServer(openAi, naver);
+             ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(RecommendationApplication.class)
+                             .run(appArguments(stub, options));
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port + "/api/recommend/home");
+
+            System.out.printf("%n=== 부하 테스트 (users=%d, openai=%s, naver=%s, virtual=%s, async=%s, store=%s, stateless=%s) ===%n",
+                    users, openAi, naver,
+                    options.getOrDefault("virtual", "false"),
+                    options.getOrDefault("async", "false"),
+                    options.getOrDefault("store", "memory"),
+                    options.getOrDefault("stateless", "false"));
+
+            // 워밍업은 ClosedLoopLoad가 버린다 → 자원 표본 / stub 호출 수도 워밍업 이후부터
+            AtomicLong openAiCallsAtStart = new AtomicLong();
+            AtomicLong naverCallsAtStart = new AtomicLong();
+
+            ClosedLoopLoad.StepResult result;
+            ResourceSampler.Snapshot resources;
+
+            try (ResourceSampler sampler = new ResourceSampler(
+                    warmup,
+                    SAMPLE_INTERVAL,
+                    StubApiServer.THREAD_PREFIX,
+                    () -> {
+                        openAiCallsAtStart.set(stub.openAiCalls());
+                        naverCallsAtStart.set(stub.naverCalls());
+                    })) {
+                result = ClosedLoopLoad.run(client, uri, CONVERSATIONS, users, warmup, measure);
+                resources = sampler.snapshot();
+            }
+
+            report(result, resources, stub, measure,
+                    stub.openAiCalls() - openAiCallsAtStart.get(),
+                    stub.naverCalls() - naverCallsAtStart.get());
+        }
+    }
+
+    private static void report(
+            ClosedLoopLoad.StepResult result,
+            ResourceSampler.Snapshot resources,
+            StubApiServer stub,
+            Duration measure,
+            long openAiCalls,
+            long naverCalls
+    ) {
+        System.out.printf("처리량 %.1f rps (성공 %d, 오류 %d, 오류율 %.2f%%)%n",
+                result.rps(), result.requests(), result.errors(),
+                result.errorRate() * 100);
+
+        System.out.printf("%n%-12s %8s %8s %8s %8s%n", "type", "count", "p50ms", "p95ms", "p99ms");
+        result.byType().forEach((type, latencies) -> printRow(type, latencies));
+        printRow("ALL", result.overall());
+
+        System.out.printf("%n스레드  max %d / avg %.0f%n",
+                resources.maxThreads(), resources.avgThreads());
+        System.out.printf("힙      max %d MB / avg %d MB%n",
+                resources.maxHeapMb(), resources.avgHeapMb());
+        System.out.printf("GC      %d 회 / %d ms%n",
+                resources.gcCount(), resources.gcTimeMs());
+
+        double seconds = measure.toSeconds();
+        System.out.printf("%nstub    OpenAI %.1f 호출/s, Naver %.1f 호출/s (측정 구간)%n",
+                openAiCalls / seconds, naverCalls / seconds);
+        System.out.printf("        주입한 오류 OpenAI %d / Naver %d (워밍업 포함)%n",
+                stub.openAiErrors(), stub.naverErrors());
+    }
+
+    private static void printRow(String type, ClosedLoopLoad.Latencies latencies) {
+        System.out.printf("%-12s %8d %8d %8d %8d%n",
+                type, latencies.count(),
+                latencies.p50Ms(), latencies.p95Ms(), latencies.p99Ms());
+    }
+
+    /**
+     * 앱 설정 (커맨드라인 인자 → application.properties보다 우선)
+     */
+    private static String[] appArguments(
+            StubApiServer stub,
+            Map<String, String> options
+    ) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("openai.base-url", stub.baseUrl());
+        properties.put("naver.base-url", stub.baseUrl());
+        properties.put("naver.client-id", "load-test");
+        properties.put("naver.client-secret", "load-test");
+        properties.put("spring.threads.virtual.enabled", options.getOrDefault("virtual", "false"));
+        properties.put("recommend.async.enabled", options.getOrDefault("async", "false"));
+        properties.put("server.tomcat.threads.max", options.getOrDefault("tomcat-threads", "200"));
+        properties.put("conversation.store.type", options.getOrDefault("store", "memory"));
+        properties.put("conversation.store.resp.embedded", "true");
+        properties.put("conversation.store.resp.port", "0");
+        properties.put("conversation.stateless.enabled", options.getOrDefault("stateless", "false"));
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.recommendation", "ERROR");
+
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            String[] pair = arg.substring(2).split("=", 2);
+            options.put(pair[0], pair.length == 2 ? pair[1] : "true");
+        }
+        return options;
+    }
+}
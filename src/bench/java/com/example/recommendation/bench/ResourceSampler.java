@@ -0,0 +1,130 @@
+package com.example.recommendation.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 JVM 스레드 / 힙 / GC 표본 수집
+ *
+ * - 앱 / stub / 부하 발생기가 같은 JVM
+ *   → 부하 발생기는 가상 스레드, stub 스레드는 이름(excludedPrefix)으로 제외
+ *   → 남는 플랫폼 스레드 수는 사실상 앱(Tomcat / 파이프라인 풀 / 커넥션 풀) 몫
+ * - 힙은 표본 시점 사용량 (GC 직후 / 직전이 섞인다 → 평균 / 최대만 본다)
+ * - 워밍업만큼 늦게 시작 → 첫 표본 시점에 GC 기준값과 atStart 콜백
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    record Snapshot(
+            int maxThreads,
+            double avgThreads,
+            long maxHeapMb,
+            long avgHeapMb,
+            long gcCount,
+            long gcTimeMs
+    ) {
+    }
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "resource-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final String excludedPrefix;
+    private final Runnable atStart;
+
+    private long gcCountAtStart;
+    private long gcTimeAtStart;
+
+    private int samples;
+    private int maxThreads;
+    private long threadSum;
+    private long maxHeap;
+    private long heapSum;
+
+    ResourceSampler(
+            Duration initialDelay,
+            Duration interval,
+            String excludedPrefix,
+            Runnable atStart
+    ) {
+        this.excludedPrefix = excludedPrefix;
+        this.atStart = atStart;
+        scheduler.scheduleAtFixedRate(
+                this::sample,
+                initialDelay.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private synchronized void sample() {
+        if (samples == 0) {
+            gcCountAtStart = gcCount();
+            gcTimeAtStart = gcTimeMs();
+            atStart.run();
+        }
+
+        int threadCount = appThreadCount();
+        long heapUsed = memory.getHeapMemoryUsage().getUsed();
+
+        samples++;
+        maxThreads = Math.max(maxThreads, threadCount);
+        threadSum += threadCount;
+        maxHeap = Math.max(maxHeap, heapUsed);
+        heapSum += heapUsed;
+    }
+
+    synchronized Snapshot snapshot() {
+        int n = Math.max(1, samples);
+        return new Snapshot(
+                maxThreads,
+                (double) threadSum / n,
+                maxHeap / (1024 * 1024),
+                heapSum / n / (1024 * 1024),
+                gcCount() - gcCountAtStart,
+                gcTimeMs() - gcTimeAtStart
+        );
+    }
+
+    private int appThreadCount() {
+        int count = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && !info.getThreadName().startsWith(excludedPrefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
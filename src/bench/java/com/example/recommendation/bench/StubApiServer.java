@@ -0,0 +1,223 @@
+package com.example.recommendation.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * OpenAI / Naver HTTP stub 서버 (JDK HttpServer)
+ *
+ * - POST /v1/chat/completions : FakeCompletions 응답 (stream=true면 SSE)
+ * - GET  /v1/search/shop.json : start / display 만큼 더미 상품 (300개까지)
+ * - 경로별 LatencyProfile만큼 지연 후 응답, 오류율만큼 500
+ * - 요청마다 stub 전용 플랫폼 스레드 (캐시 풀) → stub 자체가 병목 ❌
+ *   가상 스레드 ❌: 앱이 가상 스레드 모드면 캐리어 풀을 나눠 써서 측정이 섞인다
+ *   스레드 이름 THREAD_PREFIX → 자원 표본에서 제외
+ *
+ * 앱은 openai.base-url / naver.base-url만 이 서버로 바꾸면
+ * 게이트웨이 / 커넥션 풀 / 파서까지 운영 경로 그대로 탄다.
+ */
+final class StubApiServer implements AutoCloseable {
+
+    static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+    static final String SHOP_SEARCH_PATH = "/v1/search/shop.json";
+    static final String THREAD_PREFIX = "stub-api-";
+
+    private static final int MAX_PRODUCTS = 300;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LatencyProfile openAiProfile;
+    private final LatencyProfile naverProfile;
+
+    private final LongAdder openAiCalls = new LongAdder();
+    private final LongAdder openAiErrors = new LongAdder();
+    private final LongAdder naverCalls = new LongAdder();
+    private final LongAdder naverErrors = new LongAdder();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    StubApiServer(
+            LatencyProfile openAiProfile,
+            LatencyProfile naverProfile
+    ) throws IOException {
+        this.openAiProfile = openAiProfile;
+        this.naverProfile = naverProfile;
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, THREAD_PREFIX + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext(CHAT_COMPLETIONS_PATH, this::handleChatCompletion);
+        server.createContext(SHOP_SEARCH_PATH, this::handleShopSearch);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long openAiCalls() {
+        return openAiCalls.sum();
+    }
+
+    long openAiErrors() {
+        return openAiErrors.sum();
+    }
+
+    long naverCalls() {
+        return naverCalls.sum();
+    }
+
+    long naverErrors() {
+        return naverErrors.sum();
+    }
+
+    /* =========================
+     * OpenAI
+     * ========================= */
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            openAiCalls.increment();
+
+            Map<String, Object> body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = objectMapper.readValue(in, new TypeReference<>() {});
+            }
+
+            sleep(openAiProfile.sampleMs());
+
+            if (openAiProfile.shouldFail()) {
+                openAiErrors.increment();
+                send(exchange, 500, "application/json",
+                        "{\"error\":{\"message\":\"stub failure\"}}");
+                return;
+            }
+
+            String content = FakeCompletions.contentFor(body);
+
+            if (Boolean.TRUE.equals(body.get("stream"))) {
+                send(exchange, 200, "text/event-stream",
+                        "data: " + FakeCompletions.streamChunk(content) + "\n\n"
+                                + "data: [DONE]\n\n");
+                return;
+            }
+
+            send(exchange, 200, "application/json",
+                    FakeCompletions.completion(content));
+        }
+    }
+
+    /* =========================
+     * Naver
+     * ========================= */
+
+    private void handleShopSearch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            naverCalls.increment();
+
+            Map<String, String> query = queryOf(exchange.getRequestURI().getRawQuery());
+            String keyword = query.getOrDefault("query", "");
+            int start = Integer.parseInt(query.getOrDefault("start", "1"));
+            int display = Integer.parseInt(query.getOrDefault("display", "30"));
+
+            sleep(naverProfile.sampleMs());
+
+            if (naverProfile.shouldFail()) {
+                naverErrors.increment();
+                send(exchange, 500, "application/json",
+                        "{\"errorMessage\":\"stub failure\"}");
+                return;
+            }
+
+            List<Map<String, String>> items = new ArrayList<>();
+            for (int i = 0; i < display && start + i <= MAX_PRODUCTS; i++) {
+                long id = start + i;
+                boolean samsung = id % 2 == 0;
+                Map<String, String> item = new HashMap<>();
+                item.put("productId", String.valueOf(id));
+                item.put("title", (samsung ? "<b>삼성</b> " : "<b>LG</b> ")
+                        + keyword + " 가벼운 모델 " + id);
+                item.put("brand", samsung ? "삼성" : "LG");
+                item.put("image", "https://stub.local/image/" + id + ".jpg");
+                item.put("link", "https://stub.local/product/" + id);
+                item.put("lprice", String.valueOf(500_000 + id * 10_000));
+                item.put("mallName", "stub몰");
+                items.add(item);
+            }
+
+            send(exchange, 200, "application/json",
+                    objectMapper.writeValueAsString(Map.of(
+                            "total", MAX_PRODUCTS,
+                            "start", start,
+                            "display", items.size(),
+                            "items", items
+                    )));
+        }
+    }
+
+    private static Map<String, String> queryOf(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] kv = pair.split("=", 2);
+            query.put(
+                    URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                    kv.length == 2 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : ""
+            );
+        }
+        return query;
+    }
+
+    private static void send(
+            HttpExchange exchange,
+            int status,
+            String contentType,
+            String body
+    ) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + ";charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.recommendation.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.recommendation.RecommendationApplication;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 비교 벤치마크
+ *
+ * [방법]
+ * - 같은 JVM에서 앱을 모드별로 한 번씩 띄운다 (OpenAI / Naver는 고정 지연 fake)
+ * - 동시 사용자 수를 단계별로 올리며 닫힌 루프 부하 → 단계별 rps / p50 / p99
+ * - 최대 지속 가능 rps = p99 <= SLO 이고 오류율 < 1% 인 단계 중 최대 rps
+ *
+ * [실행]
+ *   ./gradlew benchThreadModes
+ *   ./gradlew benchThreadModes --args="--levels=50,100,200,400,800 --slo-ms=2000"
+ *
+ * [옵션]
+ * - --levels            동시 사용자 단계 (기본 25,50,100,200,400)
+ * - --warmup-s          단계별 워밍업 초 (기본 2)
+ * - --measure-s         단계별 측정 초 (기본 8)
+ * - --slo-ms            p99 기준 (기본 3000)
+ * - --openai-latency-ms fake OpenAI 지연 (기본 400)
+ * - --naver-latency-ms  fake Naver 지연 (기본 150)
+ * - --tomcat-threads    플랫폼 모드 Tomcat 최대 스레드 (기본 200)
+ * - --async             /home 비동기 모드도 함께 켠다 (기본 false)
+ */
+public final class ThreadModeBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "가벼운 노트북 추천해줘",
+            "삼성 노트북 보여줘",
+            "100만원 이하 노트북",
+            "LG 노트북 보여줘"
+    );
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Map<String, String> options = parse(args);
+
+        int[] levels = Arrays.stream(
+                        options.getOrDefault("levels", "25,50,100,200,400").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-s", "2")));
+        Duration measure = Duration.ofSeconds(Long.parseLong(options.getOrDefault("measure-s", "8")));
+        long sloMs = Long.parseLong(options.getOrDefault("slo-ms", "3000"));
+
+        Map<String, List<ClosedLoopLoad.StepResult>> results = new HashMap<>();
+
+        for (String mode : List.of("platform", "virtual")) {
+            results.put(mode, runMode(mode, options, levels, warmup, measure));
+        }
+
+        System.out.println();
+        System.out.printf("=== 요약 (SLO p99 <= %d ms, 오류율 < 1%%) ===%n", sloMs);
+        for (String mode : List.of("platform", "virtual")) {
+            ClosedLoopLoad.StepResult best = null;
+            for (ClosedLoopLoad.StepResult step : results.get(mode)) {
+                if (step.p99Ms() <= sloMs
+                        && step.errorRate() < 0.01
+                        && (best == null || step.rps() > best.rps())) {
+                    best = step;
+                }
+            }
+            System.out.printf("%-8s 최대 지속 rps = %s%n",
+                    mode,
+                    best == null
+                            ? "없음 (모든 단계 SLO 초과)"
+                            : String.format("%.1f (동시 %d, p99 %d ms)",
+                                    best.rps(), best.concurrency(), best.p99Ms()));
+        }
+    }
+
+    private static List<ClosedLoopLoad.StepResult> runMode(
+            String mode,
+            Map<String, String> options,
+            int[] levels,
+            Duration warmup,
+            Duration measure
+    ) throws Exception {
+
+        List<ClosedLoopLoad.StepResult> steps = new ArrayList<>();
+
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(
+                             RecommendationApplication.class,
+                             BenchFakeClientsConfig.class
+                     )
+                     .run(appArguments(mode, options));
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port + "/api/recommend/home");
+
+            System.out.printf("%n=== mode=%s ===%n", mode);
+            System.out.printf("%8s %10s %8s %10s %8s %8s%n",
+                    "users", "requests", "errors", "rps", "p50ms", "p99ms");
+
+            for (int level : levels) {
+                ClosedLoopLoad.StepResult step =
+                        ClosedLoopLoad.run(client, uri, List.of(INPUTS), level, warmup, measure);
+                steps.add(step);
+                System.out.printf("%8d %10d %8d %10.1f %8d %8d%n",
+                        step.concurrency(), step.requests(), step.errors(),
+                        step.rps(), step.p50Ms(), step.p99Ms());
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * 앱 설정 (커맨드라인 인자 → application.properties보다 우선)
+     */
+    private static String[] appArguments(
+            String mode,
+            Map<String, String> options
+    ) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.profiles.active", "bench");
+        properties.put("spring.threads.virtual.enabled", "virtual".equals(mode));
+        properties.put("server.tomcat.threads.max", options.getOrDefault("tomcat-threads", "200"));
+        properties.put("recommend.async.enabled", options.getOrDefault("async", "false"));
+        properties.put("bench.openai.latency-ms", options.getOrDefault("openai-latency-ms", "400"));
+        properties.put("bench.naver.latency-ms", options.getOrDefault("naver-latency-ms", "150"));
+        properties.put("naver.client-id", "bench");
+        properties.put("naver.client-secret", "bench");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.recommendation", "WARN");
+        // 처리량 자체를 재기 위해 턴 마감 degrade는 사실상 끈다
+        properties.put("pipeline.deadline.total-ms", "60000");
+        properties.put("pipeline.deadline.interpretation-ms", "60000");
+        properties.put("pipeline.deadline.criteria-ms", "60000");
+        properties.put("pipeline.deadline.search-ms", "60000");
+        properties.put("pipeline.deadline.explanation-ms", "60000");
+
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            String[] pair = arg.substring(2).split("=", 2);
+            options.put(pair[0], pair.length == 2 ? pair[1] : "true");
+        }
+        return options;
+    }
+}
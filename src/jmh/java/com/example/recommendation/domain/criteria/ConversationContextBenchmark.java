@@ -0,0 +1,64 @@
+package com.example.recommendation.domain.criteria;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ConversationContext 턴 처리 (merge → toCriteria)
+ *
+ * - 한 세션 5턴 분량을 새 context에 병합하고 검색 Criteria로 변환
+ * - 턴마다 하는 일 그대로 (세션 생성 비용 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversationContextBenchmark {
+
+    private List<RecommendationCriteria> turns;
+    private ConversationContext mergedContext;
+
+    @Setup
+    public void setUp() {
+        turns = List.of(
+                new RecommendationCriteria("노트북", List.of(), null, null, UserIntentType.SEARCH),
+                new RecommendationCriteria(null, List.of("가벼운"), null, null, UserIntentType.SEARCH),
+                new RecommendationCriteria(null, List.of("16인치", "사무용"), null, "삼성", UserIntentType.SEARCH),
+                new RecommendationCriteria(null, List.of("저소음"), 1_500_000, null, UserIntentType.SEARCH),
+                new RecommendationCriteria(null, List.of("가벼운", "32GB"), null, null, UserIntentType.CONSULT)
+        );
+
+        mergedContext = new ConversationContext();
+        turns.forEach(mergedContext::merge);
+    }
+
+    @Benchmark
+    public ConversationContext mergeSession() {
+        ConversationContext context = new ConversationContext();
+        for (RecommendationCriteria turn : turns) {
+            context.merge(turn);
+        }
+        return context;
+    }
+
+    @Benchmark
+    public RecommendationCriteria toCriteria() {
+        return mergedContext.toCriteria();
+    }
+
+    @Benchmark
+    public RecommendationCriteria mergeAndConvert() {
+        ConversationContext context = new ConversationContext();
+        for (RecommendationCriteria turn : turns) {
+            context.merge(turn);
+        }
+        return context.toCriteria();
+    }
+}
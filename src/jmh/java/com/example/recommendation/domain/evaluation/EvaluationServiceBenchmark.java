@@ -0,0 +1,73 @@
+package com.example.recommendation.domain.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.external.naver.dto.Product;
+
+/**
+ * EvaluationService.evaluate (후보 수 × 옵션 키워드 수)
+ *
+ * - 네이버 한 페이지(30) ~ 재검색 창 누적(1000)까지
+ * - 키워드 절반은 제목에 실제로 걸리도록 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EvaluationServiceBenchmark {
+
+    private static final String[] WORDS = {
+            "가벼운", "게이밍", "사무용", "학생용", "휴대용",
+            "고성능", "저소음", "슬림", "대화면", "장시간"
+    };
+
+    @Param({"5", "100", "1000"})
+    int productCount;
+
+    @Param({"0", "5", "20"})
+    int optionKeywordCount;
+
+    private final EvaluationService evaluationService = new EvaluationService();
+
+    private List<Product> products;
+    private RecommendationCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(new Product(
+                    (long) i,
+                    "<b>노트북</b> " + WORDS[i % WORDS.length]
+                            + " " + WORDS[(i * 7) % WORDS.length]
+                            + " 모델 " + i,
+                    i % 3 == 0 ? "삼성" : null
+            ));
+        }
+
+        List<String> keywords = new ArrayList<>(optionKeywordCount);
+        for (int i = 0; i < optionKeywordCount; i++) {
+            keywords.add(i % 2 == 0
+                    ? WORDS[i % WORDS.length]
+                    : "없는키워드" + i);
+        }
+
+        criteria = new RecommendationCriteria("노트북", keywords, null, "삼성");
+    }
+
+    @Benchmark
+    public EvaluationResult evaluate() {
+        return evaluationService.evaluate(products, criteria);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.recommendation.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.external.naver.dto.Product;
+
+/**
+ * 검색 결과 후처리 + 검색어 생성
+ *
+ * - deduplicate: 네이버 페이지 크기(30 / 100), 절반은 중복
+ * - normalizeTitle: 네이버 제목의 <b> 하이라이트 제거 (정규식)
+ * - NaverQueryMapper.toQuery: 옵션 키워드 0 / 5개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchServiceBenchmark {
+
+    private static final String TITLE =
+            "<b>삼성</b> 갤럭시북4 프로 <b>노트북</b> 16인치 인텔 울트라7 32GB";
+
+    private RecommendationCriteria simpleCriteria;
+    private RecommendationCriteria optionCriteria;
+
+    @Setup
+    public void setUp() {
+        simpleCriteria =
+                new RecommendationCriteria("노트북", List.of(), null, null);
+        optionCriteria =
+                new RecommendationCriteria(
+                        "노트북",
+                        List.of("가벼운", "16인치", "32GB", "사무용", "저소음"),
+                        1_500_000,
+                        "삼성"
+                );
+    }
+
+    /**
+     * 네이버 한 페이지 (같은 상품이 두 번씩: id / link / title 동일)
+     */
+    @State(Scope.Benchmark)
+    public static class NaverPage {
+
+        @Param({"30", "100"})
+        int pageSize;
+
+        List<Product> products;
+
+        @Setup
+        public void setUp() {
+            products = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                long id = i / 2;
+                products.add(new Product(
+                        id,
+                        "<b>노트북</b> 모델 " + id,
+                        "삼성",
+                        null,
+                        "https://shopping.naver.com/p/" + id,
+                        String.valueOf(900_000 + id),
+                        "네이버"
+                ));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Product> deduplicate(NaverPage page) {
+        return SearchService.deduplicate(page.products);
+    }
+
+    @Benchmark
+    public String normalizeTitle() {
+        return SearchService.normalizeTitle(TITLE);
+    }
+
+    @Benchmark
+    public String toQuerySimple() {
+        return NaverQueryMapper.toQuery(simpleCriteria);
+    }
+
+    @Benchmark
+    public String toQueryWithOptions() {
+        return NaverQueryMapper.toQuery(optionCriteria);
+    }
+}
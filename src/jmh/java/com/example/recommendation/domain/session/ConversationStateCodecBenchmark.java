@@ -0,0 +1,261 @@
+package com.example.recommendation.domain.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.recommendation.domain.criteria.ConversationContext;
+import com.example.recommendation.domain.criteria.ConversationContextService;
+import com.example.recommendation.domain.criteria.ConversationPhase;
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.answer.PendingQuestionContext;
+import com.example.recommendation.domain.home.answer.SlotUpdateCommand;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.slot.SlotState;
+import com.example.recommendation.domain.home.slot.SlotStatus;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대화 상태 직렬화 비교 (턴마다 load 1회 + save 1회)
+ *
+ * - codec        : ConversationStateCodec (v2 비트 패킹 / varint / 사전)
+ * - java         : 같은 필드를 담은 Serializable 스냅샷 + ObjectOutputStream
+ * - jackson      : 같은 스냅샷 + ObjectMapper (JSON)
+ * - encode는 세션 → byte[], decode는 byte[] → 세션 객체 복원까지 (세 방식 동일 범위)
+ * - 직렬화 크기는 setUp에서 한 번 출력
+ *
+ * 대상 세션: 키워드 + 옵션 3개 + 가격 + 브랜드 / 슬롯 3개 답변 / 보여준 상품 10개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversationStateCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConversationSession session;
+    private byte[] codecBytes;
+    private byte[] javaBytes;
+    private byte[] jacksonBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        session = typicalSession();
+        codecBytes = ConversationStateCodec.encode(session);
+        javaBytes = javaEncode();
+        jacksonBytes = jacksonEncode();
+
+        System.out.printf(
+                "%n[state bytes] codec=%d, java=%d, jackson=%d%n",
+                codecBytes.length, javaBytes.length, jacksonBytes.length
+        );
+    }
+
+    /* =====================
+       codec
+       ===================== */
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return ConversationStateCodec.encode(session);
+    }
+
+    @Benchmark
+    public ConversationSession codecDecode() {
+        return ConversationStateCodec.decode("s-1", codecBytes);
+    }
+
+    /* =====================
+       Java 직렬화
+       ===================== */
+
+    @Benchmark
+    public byte[] javaEncode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(StateSnapshot.of(session));
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public ConversationSession javaDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in =
+                     new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return ((StateSnapshot) in.readObject()).toSession("s-1");
+        }
+    }
+
+    /* =====================
+       Jackson
+       ===================== */
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(StateSnapshot.of(session));
+    }
+
+    @Benchmark
+    public ConversationSession jacksonDecode() throws IOException {
+        return objectMapper.readValue(jacksonBytes, StateSnapshot.class)
+                .toSession("s-1");
+    }
+
+    /* =====================
+       비교 대상 스냅샷 (codec과 같은 필드)
+       ===================== */
+
+    public record SlotSnapshot(
+            SlotStatus status,
+            String value
+    ) implements Serializable {
+    }
+
+    public record StateSnapshot(
+            UserIntentType intentType,
+            String confirmedKeyword,
+            List<String> optionKeywords,
+            List<String> excludedKeywords,
+            String preferredBrand,
+            Integer priceMax,
+            int turnCount,
+            int retryCount,
+            ConversationPhase phase,
+            String windowQuery,
+            List<Long> shownFingerprints,
+            List<SlotSnapshot> slots,
+            DecisionSlot lastAskedSlot,
+            DecisionSlot lastJumpedSlot,
+            boolean lastQuestionAnswered,
+            DecisionSlot lastGuidedSlot,
+            boolean lastAnswerUnknown,
+            int guideCount
+    ) implements Serializable {
+
+        static StateSnapshot of(ConversationSession session) {
+            ConversationContext context = session.getContextService().getContext();
+            HomeConversationState homeState = session.getHomeState();
+            PendingQuestionContext question = homeState.getQuestionContext();
+            SearchCandidateWindow window = context.getSearchWindow();
+
+            List<SlotSnapshot> slots = new ArrayList<>();
+            for (DecisionSlot slot : DecisionSlot.values()) {
+                SlotState slotState = homeState.getSlot(slot);
+                Object value = slotState.getValue();
+                slots.add(new SlotSnapshot(
+                        slotState.getStatus(),
+                        value == null ? null : value.toString()
+                ));
+            }
+
+            return new StateSnapshot(
+                    context.getIntentType(),
+                    context.getConfirmedKeyword(),
+                    List.copyOf(context.getOptionKeywords()),
+                    List.copyOf(context.getExcludedKeywords()),
+                    context.getPreferredBrand(),
+                    context.getPriceMax(),
+                    context.getTurnCount(),
+                    context.getRetryCount(),
+                    context.getPhase(),
+                    window == null ? null : window.getQuery(),
+                    window == null ? null : List.copyOf(window.getShownFingerprints()),
+                    slots,
+                    question.getLastAskedSlot(),
+                    question.getLastJumpedSlot(),
+                    question.isLastQuestionAnswered(),
+                    question.getLastGuidedSlot(),
+                    question.wasLastAnswerUnknown(),
+                    question.getGuideCountSinceLastQuestion()
+            );
+        }
+
+        ConversationSession toSession(String sessionId) {
+            ConversationContext context = ConversationContext.restore(
+                    intentType,
+                    confirmedKeyword,
+                    new HashSet<>(optionKeywords),
+                    new HashSet<>(excludedKeywords),
+                    preferredBrand,
+                    priceMax,
+                    turnCount,
+                    retryCount,
+                    phase
+            );
+            if (windowQuery != null) {
+                context.setSearchWindow(SearchCandidateWindow.restore(
+                        windowQuery,
+                        new HashSet<>(shownFingerprints)
+                ));
+            }
+
+            HomeConversationState homeState = new HomeConversationState();
+            DecisionSlot[] slotOrder = DecisionSlot.values();
+            for (int i = 0; i < slotOrder.length; i++) {
+                homeState.getSlot(slotOrder[i])
+                        .restore(slots.get(i).status(), slots.get(i).value());
+            }
+            homeState.getQuestionContext().restore(
+                    lastAskedSlot,
+                    lastJumpedSlot,
+                    lastQuestionAnswered,
+                    lastGuidedSlot,
+                    lastAnswerUnknown,
+                    guideCount
+            );
+
+            return new ConversationSession(
+                    sessionId,
+                    new ConversationContextService(context),
+                    homeState
+            );
+        }
+    }
+
+    private static ConversationSession typicalSession() {
+        ConversationSession session = ConversationSession.fresh("s-1");
+
+        session.getContextService().merge(new RecommendationCriteria(
+                "무선청소기",
+                List.of("저소음", "가벼운", "원룸용"),
+                300_000,
+                "LG",
+                UserIntentType.SEARCH
+        ));
+
+        HomeConversationState homeState = session.getHomeState();
+        homeState.apply(SlotUpdateCommand.confirm(DecisionSlot.PURPOSE, "무선청소기"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.BUDGET, "30만원 이하"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.CONTEXT, "원룸용"));
+        homeState.getQuestionContext().markAsked(DecisionSlot.PREFERENCE);
+
+        Set<Long> shown = new HashSet<>();
+        for (long i = 1; i <= 10; i++) {
+            shown.add(i * 0x9E3779B97F4A7C15L);
+        }
+        session.getContextService().getContext().setSearchWindow(
+                SearchCandidateWindow.restore("LG 무선청소기 저소음 가벼운 원룸용", shown)
+        );
+
+        return session;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.recommendation.domain.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.answer.SlotUpdateCommand;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+
+/**
+ * 무상태 모드 상태 토큰 비용 (턴마다 open 1회 + issue 1회)
+ *
+ * - issue : codec.encode → (deflate) → HMAC → base64url
+ * - open  : base64url → HMAC 검증 → (inflate) → codec.decode
+ *   → 저장소 모드의 store.load / save 자리를 대신하는 비용
+ * - compress=false / true 비교, 토큰 길이는 setUp에서 한 번 출력
+ *
+ * 대상 세션: ConversationStateCodecBenchmark와 같은 구성 (보여준 상품 10개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversationStateTokenBenchmark {
+
+    private static final byte[] KEY =
+            "benchmark-secret-benchmark-secret".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    private ConversationStateToken stateToken;
+    private ConversationSession session;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        stateToken = new ConversationStateToken(KEY, Duration.ofMinutes(30), compress);
+        session = typicalSession();
+        token = issue();
+
+        System.out.printf(
+                "%n[state token] compress=%s, state=%d B, token=%d chars%n",
+                compress, ConversationStateCodec.encode(session).length, token.length()
+        );
+    }
+
+    @Benchmark
+    public String issue() {
+        return stateToken.issue(
+                session.getSessionId(),
+                ConversationStateCodec.encode(session)
+        );
+    }
+
+    @Benchmark
+    public ConversationSession open() {
+        ConversationStateToken.Claims claims = stateToken.open(token);
+        return ConversationStateCodec.decode(claims.sessionId(), claims.state());
+    }
+
+    /**
+     * 서명 검증만 (codec 제외)
+     */
+    @Benchmark
+    public ConversationStateToken.Claims verify() {
+        return stateToken.open(token);
+    }
+
+    private static ConversationSession typicalSession() {
+        ConversationSession session =
+                ConversationSession.fresh(UUID.randomUUID().toString());
+
+        session.getContextService().merge(new RecommendationCriteria(
+                "무선청소기",
+                List.of("저소음", "가벼운", "원룸용"),
+                300_000,
+                "LG",
+                UserIntentType.SEARCH
+        ));
+
+        HomeConversationState homeState = session.getHomeState();
+        homeState.apply(SlotUpdateCommand.confirm(DecisionSlot.PURPOSE, "무선청소기"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.BUDGET, "30만원 이하"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.CONTEXT, "원룸용"));
+        homeState.getQuestionContext().markAsked(DecisionSlot.PREFERENCE);
+
+        Set<Long> shown = new HashSet<>();
+        for (long i = 1; i <= 10; i++) {
+            shown.add(i * 0x9E3779B97F4A7C15L);
+        }
+        session.getContextService().getContext().setSearchWindow(
+                SearchCandidateWindow.restore("LG 무선청소기 저소음 가벼운 원룸용", shown)
+        );
+
+        return session;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.recommendation.external.openai;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+/**
+ * OpenAI 응답 파싱 (chat completion 본문 → DTO / 카드 맵)
+ *
+ * - 응답은 실제 형태 그대로: content 안에 JSON 문자열이 한 번 더 들어 있다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiResponseParserBenchmark {
+
+    private static final String CRITERIA_RESPONSE = chatCompletion("""
+            {"searchKeyword":"노트북","optionKeywords":["가벼운","16인치","사무용"],\
+            "priceMax":1500000,"preferredBrand":"삼성","intentType":"SEARCH","commandType":"APPEND"}""");
+
+    private static final String CARD_RESPONSE = chatCompletion("""
+            {"101":"가볍고 배터리가 오래가서 이동이 잦은 분께 잘 맞아요.",\
+            "102":"화면이 넓어 문서 작업을 많이 하는 분께 어울려요.",\
+            "103":"조용한 팬 덕분에 도서관에서도 부담 없이 쓸 수 있어요.",\
+            "104":"선호하신 브랜드 제품이라 사후 지원도 믿을 만해요.",\
+            "105":"예산 안에서 성능과 무게의 균형이 좋은 편이에요."}""");
+
+    @Benchmark
+    public AiCriteriaResultDto parseCriteria() {
+        return OpenAiResponseParser.parseCriteria(CRITERIA_RESPONSE);
+    }
+
+    @Benchmark
+    public Map<Long, String> parseCardExplanationMap() {
+        return OpenAiResponseParser.parseCardExplanationMap(CARD_RESPONSE);
+    }
+
+    private static String chatCompletion(String content) {
+        String escaped = content
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"");
+        return """
+                {"id":"chatcmpl-bench","object":"chat.completion",\
+                "choices":[{"index":0,"message":{"role":"assistant","content":"%s"},\
+                "finish_reason":"stop"}]}""".formatted(escaped);
+    }
+}
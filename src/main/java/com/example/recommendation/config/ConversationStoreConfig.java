@@ -0,0 +1,142 @@
+package com.example.recommendation.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.recommendation.domain.session.ConversationStateStore;
+import com.example.recommendation.domain.session.ConversationStateToken;
+import com.example.recommendation.domain.session.InMemoryConversationStateStore;
+import com.example.recommendation.domain.session.JdbcConversationStateStore;
+import com.example.recommendation.domain.session.RespConversationStateStore;
+import com.example.recommendation.domain.session.RespStandInServer;
+
+/**
+ * 대화 상태 저장소 선택 (conversation.store.type)
+ *
+ * - memory : 프로세스 내부 (기본값, 단일 노드)
+ * - jdbc   : H2 datasource (여러 노드 → spring.datasource.url을 공유 H2 서버로)
+ * - resp   : Redis 프로토콜 (conversation.store.resp.host / port)
+ *   → conversation.store.resp.embedded=true 면 이 노드가 대역 서버를 띄우고 붙는다
+ * - conversation.stateless.enabled=true 면 저장소 대신 서명 토큰 (ConversationStateToken)
+ *
+ * 정책 ❌
+ * 도메인 ❌
+ * 순수 인프라 설정
+ */
+@Configuration
+public class ConversationStoreConfig {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ConversationStoreConfig.class);
+
+    // HMAC-SHA256 키 최소 길이 (해시 블록 출력 크기)
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Bean
+    public ConversationStateStore conversationStateStore(
+            @Value("${conversation.store.type:memory}") String type,
+            @Value("${conversation.store.idle-ttl-minutes:30}") long idleTtlMinutes,
+            @Value("${conversation.store.max-sessions:100000}") long maxSessions,
+            @Value("${conversation.store.resp.host:localhost}") String respHost,
+            @Value("${conversation.store.resp.port:6379}") int respPort,
+            @Value("${conversation.store.resp.key-prefix:conversation:}") String respKeyPrefix,
+            @Value("${conversation.store.resp.max-connections:32}") int respMaxConnections,
+            @Value("${conversation.store.resp.timeout-ms:500}") int respTimeoutMs,
+            ObjectProvider<RespStandInServer> respStandInServer,
+            ObjectProvider<JdbcTemplate> jdbcTemplate
+    ) {
+        Duration idleTtl = Duration.ofMinutes(idleTtlMinutes);
+
+        return switch (type) {
+            case "memory" -> new InMemoryConversationStateStore(idleTtl, maxSessions);
+            case "jdbc" -> new JdbcConversationStateStore(
+                    jdbcTemplate.getObject(),
+                    idleTtl,
+                    maxSessions
+            );
+            case "resp" -> {
+                RespStandInServer standIn = respStandInServer.getIfAvailable();
+                yield new RespConversationStateStore(
+                        standIn != null ? "localhost" : respHost,
+                        standIn != null ? standIn.getPort() : respPort,
+                        respKeyPrefix,
+                        idleTtl,
+                        respMaxConnections,
+                        respTimeoutMs
+                );
+            }
+            default -> throw new IllegalArgumentException(
+                    "unknown conversation.store.type: " + type
+            );
+        };
+    }
+
+    /**
+     * 내장 Redis 대역 서버 (resp + embedded=true 일 때만)
+     */
+    @Bean(destroyMethod = "close")
+    public RespStandInServer respStandInServer(
+            @Value("${conversation.store.type:memory}") String type,
+            @Value("${conversation.store.resp.embedded:false}") boolean embedded,
+            @Value("${conversation.store.resp.port:6379}") int port
+    ) {
+        if (!"resp".equals(type) || !embedded) {
+            return null;
+        }
+        try {
+            return RespStandInServer.start(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 무상태 모드 상태 토큰 서명기
+     *
+     * - conversation.stateless.secret 이 비어 있으면 프로세스마다 임의 키
+     *   → 재시작 / 다른 노드에서는 토큰이 거절되어 새 대화로 시작 (개발용)
+     */
+    @Bean
+    public ConversationStateToken conversationStateToken(
+            @Value("${conversation.stateless.enabled:false}") boolean stateless,
+            @Value("${conversation.stateless.secret:}") String secret,
+            @Value("${conversation.stateless.compress:true}") boolean compress,
+            @Value("${conversation.store.idle-ttl-minutes:30}") long idleTtlMinutes
+    ) {
+        byte[] key;
+
+        if (secret.isBlank()) {
+            key = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(key);
+            if (stateless) {
+                log.warn("[ConversationStore] conversation.stateless.secret is empty, "
+                        + "using a random per-process key (tokens do not survive restart or cross nodes)");
+            }
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < MIN_SECRET_BYTES) {
+                throw new IllegalArgumentException(
+                        "conversation.stateless.secret must be at least "
+                                + MIN_SECRET_BYTES + " bytes"
+                );
+            }
+        }
+
+        return new ConversationStateToken(
+                key,
+                Duration.ofMinutes(idleTtlMinutes),
+                compress
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.recommendation.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 파이프라인 fan-out 전용 Executor 설정
+ *
+ * - OpenAI / Naver 같은 외부 I/O를 병렬로 돌릴 때 사용
+ * - 크기 제한(bounded) 풀 + 큐
+ * - 큐가 가득 차면 호출 스레드에서 실행 (요청 유실 ❌)
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ * - Tomcat 요청 처리와 함께 이 Executor들도 작업마다 가상 스레드
+ * - 풀 / 큐 크기 설정은 무시 (동시 I/O 상한은 OpenAI 게이트웨이 / Naver 커넥션 풀이 건다)
+ * - RequestAttributes 전달은 두 모드 동일
+ *
+ * 정책 ❌
+ * 도메인 ❌
+ * 순수 인프라 설정
+ */
+@Configuration
+public class PipelineExecutorConfig {
+
+    @Bean(name = "pipelineExecutor")
+    public Executor pipelineExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${pipeline.executor.core-size:16}") int coreSize,
+            @Value("${pipeline.executor.max-size:64}") int maxSize,
+            @Value("${pipeline.executor.queue-capacity:200}") int queueCapacity
+    ) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("pipeline-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("pipeline-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.setTaskDecorator(requestContextPropagation());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 턴 단계 전용 Executor (/home 비동기 모드)
+     *
+     * - 서블릿 스레드를 반환한 뒤 단계(해석 반영 / 검색 / 조립)를 이어서 실행
+     * - fan-out 풀(pipelineExecutor)과 분리 → 단계가 fan-out 결과를 기다려도 교착 ❌
+     */
+    @Bean(name = "turnExecutor")
+    public Executor turnExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${pipeline.turn-executor.core-size:32}") int coreSize,
+            @Value("${pipeline.turn-executor.max-size:128}") int maxSize,
+            @Value("${pipeline.turn-executor.queue-capacity:1000}") int queueCapacity
+    ) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("turn-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("turn-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.setTaskDecorator(requestContextPropagation());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 카드 설명 배치 전송 전용 Executor
+     *
+     * - 배치를 기다리는 쪽은 pipelineExecutor 스레드 (카드 설명 fan-out)
+     * - 전송까지 같은 풀에 올리면 풀이 대기자로 가득 찰 때 전송이 못 돈다 → 분리
+     */
+    @Bean(name = "cardBatchExecutor")
+    public Executor cardBatchExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${openai.card-batch.executor.core-size:2}") int coreSize,
+            @Value("${openai.card-batch.executor.max-size:8}") int maxSize,
+            @Value("${openai.card-batch.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("card-batch-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("card-batch-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드 (풀 ❌ 큐 ❌)
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor =
+                new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(requestContextPropagation());
+        return executor;
+    }
+
+    /**
+     * 요청 스레드의 RequestAttributes를 작업 스레드로 전달
+     *
+     * - 요청 / 세션 스코프 빈을 작업 스레드에서도 같은 요청 기준으로 조회
+     * - 작업 종료 후 반드시 원상 복구
+     */
+    static TaskDecorator requestContextPropagation() {
+        return task -> {
+            RequestAttributes attributes =
+                    RequestContextHolder.getRequestAttributes();
+
+            return () -> {
+                RequestAttributes previous =
+                        RequestContextHolder.getRequestAttributes();
+                try {
+                    RequestContextHolder.setRequestAttributes(attributes);
+                    task.run();
+                } finally {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            };
+        };
+    }
+}
@@ -1,9 +1,27 @@
 package com.example.recommendation.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 /**
  * 외부 HTTP API 호출을 위한 클라이언트 설정
  *
@@ -17,8 +35,123 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestClientConfig {
 
+    /**
+     * OpenAI 공유 HTTP 클라이언트
+     *
+     * - HTTP/2 (ALPN 협상 실패 시 HTTP/1.1 keep-alive)
+     * - 연결 풀 / TLS 세션 재사용 → 호출마다 handshake ❌
+     * - 모든 OpenAI 호출은 OpenAiGateway를 통해 이 클라이언트를 공유
+     */
+    @Bean(name = "openAiHttpClient")
+    public HttpClient openAiHttpClient(
+            @Value("${openai.http.connect-timeout-ms:3000}") long connectTimeoutMs
+    ) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Naver 검색 API 커넥션 풀
+     *
+     * - openapi.naver.com 단일 호스트 → max-per-route = max-total
+     * - 연결/응답 타임아웃은 커넥션 단위로 설정
+     */
+    @Bean(name = "naverConnectionManager")
+    public PoolingHttpClientConnectionManager naverConnectionManager(
+            @Value("${naver.http.max-connections:50}") int maxConnections,
+            @Value("${naver.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${naver.http.read-timeout-ms:3000}") long readTimeoutMs
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(
+                        ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                                .build()
+                )
+                .build();
+    }
+
+    /**
+     * Naver 검색 API 전용 HTTP 클라이언트
+     *
+     * - keep-alive: 서버 Keep-Alive 헤더를 따르되 상한(keep-alive-ms) 적용
+     * - idle 커넥션은 백그라운드에서 주기적으로 정리
+     * - 풀이 가득 차면 acquire-timeout-ms 만큼만 대기
+     */
+    @Bean(name = "naverHttpClient")
+    public CloseableHttpClient naverHttpClient(
+            @Qualifier("naverConnectionManager")
+            PoolingHttpClientConnectionManager connectionManager,
+            @Value("${naver.http.keep-alive-ms:30000}") long keepAliveMs,
+            @Value("${naver.http.idle-evict-ms:30000}") long idleEvictMs,
+            @Value("${naver.http.acquire-timeout-ms:1000}") long acquireTimeoutMs
+    ) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAliveMs);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(
+                        RequestConfig.custom()
+                                .setConnectionRequestTimeout(
+                                        Timeout.ofMilliseconds(acquireTimeoutMs)
+                                )
+                                .build()
+                )
+                .setKeepAliveStrategy((response, context) ->
+                        DefaultConnectionKeepAliveStrategy.INSTANCE
+                                .getKeepAliveDuration(response, context)
+                                .min(maxKeepAlive)
+                )
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+    }
+
+    @Bean(name = "naverRestTemplate")
+    public RestTemplate naverRestTemplate(
+            @Qualifier("naverHttpClient") CloseableHttpClient httpClient
+    ) {
+        return new RestTemplate(
+                new HttpComponentsClientHttpRequestFactory(httpClient)
+        );
+    }
+
+    /**
+     * Naver 커넥션 풀 게이지
+     *
+     * - naver.http.pool.leased   : 사용 중
+     * - naver.http.pool.idle     : 재사용 대기
+     * - naver.http.pool.pending  : 커넥션 대기 중인 요청
+     * - naver.http.pool.max      : 최대 커넥션 수
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder naverConnectionPoolMetrics(
+            @Qualifier("naverConnectionManager")
+            PoolingHttpClientConnectionManager connectionManager
+    ) {
+        return registry -> {
+            Gauge.builder("naver.http.pool.leased", connectionManager,
+                            cm -> cm.getTotalStats().getLeased())
+                    .description("Naver 풀에서 사용 중인 커넥션 수")
+                    .register(registry);
+            Gauge.builder("naver.http.pool.idle", connectionManager,
+                            cm -> cm.getTotalStats().getAvailable())
+                    .description("Naver 풀에서 재사용 대기 중인 커넥션 수")
+                    .register(registry);
+            Gauge.builder("naver.http.pool.pending", connectionManager,
+                            cm -> cm.getTotalStats().getPending())
+                    .description("Naver 풀 커넥션을 기다리는 요청 수")
+                    .register(registry);
+            Gauge.builder("naver.http.pool.max", connectionManager,
+                            cm -> cm.getTotalStats().getMax())
+                    .description("Naver 풀 최대 커넥션 수")
+                    .register(registry);
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.example.recommendation.controller;
+
+import java.util.UUID;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대화 세션 id 쿠키
+ *
+ * - HttpSession(JSESSIONID) ❌ → 서블릿 컨테이너 메모리와 무관
+ *   → 어느 노드로 요청이 가도 같은 id로 저장소를 조회
+ * - 쿠키가 없거나 형식이 틀리면 새 id 발급 (Set-Cookie)
+ * - 유지 시간은 두지 않는다 (브라우저 세션 쿠키, 상태 만료는 저장소 TTL)
+ * - SameSite / Secure는 기존 세션 쿠키 설정(server.servlet.session.cookie.*)을 그대로 따른다
+ *   → 프론트가 다른 사이트인 운영 환경(SameSite=None; Secure)에서도 쿠키가 실린다
+ */
+@Component
+public class ConversationSessionCookie {
+
+    // UUID 문자열만 받는다 (저장소 키로 그대로 쓰이므로)
+    private static final int SESSION_ID_LENGTH = 36;
+
+    private final String cookieName;
+    private final String sameSite;
+    private final boolean secure;
+
+    public ConversationSessionCookie(
+            @Value("${conversation.session.cookie-name:CONVERSATION_ID}") String cookieName,
+            @Value("${server.servlet.session.cookie.same-site:}") String sameSite,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secure
+    ) {
+        this.cookieName = cookieName;
+        this.sameSite = sameSite;
+        this.secure = secure;
+    }
+
+    /**
+     * 요청의 세션 id (없으면 발급해서 응답 쿠키에 싣는다)
+     */
+    public String resolve(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        Cookie[] cookies = request.getCookies();
+
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName())
+                        && isValid(cookie.getValue())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+
+        ResponseCookie cookie = ResponseCookie.from(cookieName, sessionId)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite.isBlank() ? null : capitalize(sameSite))
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+
+        return sessionId;
+    }
+
+    /**
+     * NONE / none → None (Set-Cookie 표기)
+     */
+    private static String capitalize(String sameSite) {
+        String lower = sameSite.toLowerCase();
+        return Character.toUpperCase(lower.charAt(0)) + lower.substring(1);
+    }
+
+    private static boolean isValid(String value) {
+        if (value == null || value.length() != SESSION_ID_LENGTH) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -2,66 +2,211 @@ package com.example.recommendation.controller;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.recommendation.dto.RecommendationRequestDto;
 import com.example.recommendation.dto.RecommendationResponseDto;
 import com.example.recommendation.orchestrator.HomeRecommendationOrchestrator;
-import com.example.recommendation.domain.criteria.ConversationContextService;
+import com.example.recommendation.orchestrator.SessionTurnGate;
+import com.example.recommendation.domain.session.ConversationSessionManager;
 
 @RestController
 @RequestMapping("/api/recommend")
 public class RecommendationController {
 
     private final HomeRecommendationOrchestrator homeOrchestrator;
-    private final ConversationContextService contextService;
+    private final ConversationSessionManager sessionManager;
+    private final ConversationSessionCookie sessionCookie;
+    private final long streamTimeoutMs;
+    private final boolean asyncEnabled;
+    private final long asyncTimeoutMs;
 
     public RecommendationController(
             HomeRecommendationOrchestrator homeOrchestrator,
-            ConversationContextService contextService
+            ConversationSessionManager sessionManager,
+            ConversationSessionCookie sessionCookie,
+            @Value("${recommend.stream.timeout-ms:30000}") long streamTimeoutMs,
+            @Value("${recommend.async.enabled:false}") boolean asyncEnabled,
+            @Value("${recommend.async.timeout-ms:10000}") long asyncTimeoutMs
     ) {
         this.homeOrchestrator = homeOrchestrator;
-        this.contextService = contextService;
+        this.sessionManager = sessionManager;
+        this.sessionCookie = sessionCookie;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.asyncEnabled = asyncEnabled;
+        this.asyncTimeoutMs = asyncTimeoutMs;
     }
 
+    /**
+     * 홈 추천
+     * POST /api/recommend/home
+     *
+     * - recommend.async.enabled=true : 비동기 오케스트레이터 (DeferredResult)
+     *   → 서블릿 스레드는 바로 반환, 응답은 준비되는 대로 전송
+     * - false : 기존 동기 처리 (DTO 그대로 반환, 비동기 디스패치 ❌)
+     * - 반환 타입 Object: Spring MVC가 실제 반환값 타입으로 처리 방식을 고른다
+     * - 응답 JSON은 두 모드 동일
+     * - conversation.stateless.enabled=true : 세션 쿠키 ❌, 본문 stateToken 왕복
+     */
     @PostMapping("/home")
-    public RecommendationResponseDto recommendHome(
+    public Object recommendHome(
             @RequestBody RecommendationRequestDto request,
-            HttpSession session
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
     ) {
+        String sessionId = resolveSessionId(httpRequest, httpResponse);
+
         System.out.println("🔥 Controller 진입");
         System.out.println("🔥 userInput = " + request.getUserInput());
-        System.out.println("🔥 sessionId = " + session.getId());
+        System.out.println("🔥 sessionId = " + sessionId);
 
         if (request == null 
                 || request.getUserInput() == null 
                 || request.getUserInput().isBlank()) {
-            return RecommendationResponseDto.invalid("입력이 비어 있습니다.");
+            return emptyInput(request);
+        }
+
+        if (!asyncEnabled) {
+            return homeOrchestrator.handle(sessionId, request);
+        }
+
+        DeferredResult<RecommendationResponseDto> result =
+                new DeferredResult<>(
+                        asyncTimeoutMs,
+                        () -> RecommendationResponseDto.invalid(
+                                "응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."
+                        )
+                );
+
+        homeOrchestrator.handleAsync(sessionId, request)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(
+                                error instanceof CompletionException
+                                        && error.getCause() != null
+                                        ? error.getCause()
+                                        : error
+                        );
+                        return;
+                    }
+                    result.setResult(response);
+                });
+
+        return result;
+    }
+
+    /**
+     * 스트리밍 변형 (Server-Sent Events)
+     * POST /api/recommend/home/stream
+     *
+     * - items → message / card → done 순으로 단계별 전송
+     * - 검색이 없는 턴은 done 하나만 전송
+     * - 기존 /home JSON 응답은 그대로 유지
+     */
+    @PostMapping(
+            value = "/home/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public SseEmitter recommendHomeStream(
+            @RequestBody RecommendationRequestDto request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String sessionId = resolveSessionId(httpRequest, httpResponse);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        SseRecommendationStreamListener listener =
+                new SseRecommendationStreamListener(emitter);
+
+        if (request == null
+                || request.getUserInput() == null
+                || request.getUserInput().isBlank()) {
+            listener.onComplete(emptyInput(request));
+            return emitter;
         }
 
-        return homeOrchestrator.handle(request);
+        homeOrchestrator.stream(sessionId, request, listener);
+
+        return emitter;
     }
 
     /**
      * 세션 리셋 엔드포인트
      * POST /api/recommend/reset
+     *
+     * - 무상태 모드: 본문 { stateToken } → 맥락을 비운 새 stateToken 반환
+     * - 같은 세션 턴과 같은 게이트로 직렬화 (진행 중인 턴이 리셋을 덮어쓰기 ❌)
+     * - 같은 세션 대기 턴이 한도를 넘으면 success=false
      */
     @PostMapping("/reset")
-    public ResponseEntity<?> reset(HttpSession session) {
+    public ResponseEntity<?> reset(
+            @RequestBody(required = false) RecommendationRequestDto request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String sessionId = resolveSessionId(httpRequest, httpResponse);
 
-        contextService.reset();
+        String stateToken;
+        try {
+            stateToken = homeOrchestrator.resetContext(
+                    sessionId,
+                    request == null ? null : request.getStateToken()
+            );
+        } catch (SessionTurnGate.BusyException e) {
+            Map<String, Object> busy = new HashMap<>();
+            busy.put("success", false);
+            busy.put("message", HomeRecommendationOrchestrator.BUSY_MESSAGE);
+            return ResponseEntity.ok(busy);
+        }
 
         System.out.println("🔥 RESET 호출됨");
-        System.out.println("🔥 sessionId = " + session.getId());
+        System.out.println("🔥 sessionId = " + sessionId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("message", "서버 대화 상태가 초기화되었습니다.");
+        if (stateToken != null) {
+            response.put("stateToken", stateToken);
+        }
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 저장소 모드: 세션 쿠키 (없으면 발급)
+     * 무상태 모드: 세션 id는 토큰 안에 → 쿠키 ❌
+     */
+    private String resolveSessionId(
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        if (sessionManager.isStateless()) {
+            return null;
+        }
+        return sessionCookie.resolve(httpRequest, httpResponse);
+    }
+
+    /**
+     * 빈 입력은 상태를 건드리지 않는다 → 받은 토큰을 그대로 돌려준다
+     */
+    private static RecommendationResponseDto emptyInput(
+            RecommendationRequestDto request
+    ) {
+        RecommendationResponseDto response =
+                RecommendationResponseDto.invalid("입력이 비어 있습니다.");
+        if (request != null) {
+            response.setStateToken(request.getStateToken());
+        }
+        return response;
+    }
 }
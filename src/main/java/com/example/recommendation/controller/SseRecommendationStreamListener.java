@@ -0,0 +1,86 @@
+package com.example.recommendation.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.recommendation.dto.RecommendationResponseDto;
+import com.example.recommendation.orchestrator.RecommendationStreamListener;
+
+/**
+ * 추천 스트림 → Server-Sent Events 변환
+ *
+ * [이벤트 타입]
+ * - items   : 카드 목록 (설명 없음)
+ * - token   : 메인 설명 토큰 조각
+ * - message : 메인 설명 (완성)
+ * - card    : { productId, explanation }
+ * - done    : 최종 응답 (기존 /home JSON과 동일)
+ * - error   : 실패 안내
+ *
+ * 판단 ❌ / 조립 ❌ → 전달만
+ */
+class SseRecommendationStreamListener implements RecommendationStreamListener {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SseRecommendationStreamListener.class);
+
+    private final SseEmitter emitter;
+
+    SseRecommendationStreamListener(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void onItems(List<RecommendationResponseDto.Item> items) {
+        send("items", items);
+    }
+
+    @Override
+    public void onMessageToken(String token) {
+        send("token", Map.of("token", token == null ? "" : token));
+    }
+
+    @Override
+    public void onMessage(String message) {
+        send("message", Map.of("message", message == null ? "" : message));
+    }
+
+    @Override
+    public void onCardExplanation(Long productId, String explanation) {
+        send("card", Map.of(
+                "productId", productId,
+                "explanation", explanation == null ? "" : explanation
+        ));
+    }
+
+    @Override
+    public void onComplete(RecommendationResponseDto response) {
+        send("done", response);
+        emitter.complete();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        send("error", Map.of("message", "추천 결과를 만드는 중 문제가 생겼어요."));
+        emitter.completeWithError(error);
+    }
+
+    private void send(String eventName, Object data) {
+        try {
+            emitter.send(
+                    SseEmitter.event()
+                            .name(eventName)
+                            .data(data, MediaType.APPLICATION_JSON)
+            );
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 → 이후 이벤트는 버린다
+            log.warn("[SSE] send failed event={}", eventName, e);
+        }
+    }
+}
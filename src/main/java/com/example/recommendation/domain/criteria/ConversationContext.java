@@ -1,8 +1,11 @@
 package com.example.recommendation.domain.criteria;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+
 /**
  * [역할]
  * - 대화 흐름에서 누적되는 "상태"만 관리하는 객체
@@ -46,6 +49,45 @@ public class ConversationContext {
     // =====================
     private RecommendationCriteria lastSearchCriteria;
 
+    // =====================
+    // 🔥 추가: 검색 후보 창 (RETRY_SEARCH는 여기서 다음 후보를 꺼낸다)
+    // =====================
+    private SearchCandidateWindow searchWindow;
+
+    /* =====================
+       저장소 복원
+       ===================== */
+
+    /**
+     * 저장된 필드로 Context 재구성 (ConversationStateCodec 전용)
+     *
+     * - lastSearchCriteria: 채우는 곳이 없어 저장 ❌
+     * - searchWindow: 별도 복원 (setSearchWindow)
+     */
+    public static ConversationContext restore(
+            UserIntentType intentType,
+            String confirmedKeyword,
+            Collection<String> optionKeywords,
+            Collection<String> excludedKeywords,
+            String preferredBrand,
+            Integer priceMax,
+            int turnCount,
+            int retryCount,
+            ConversationPhase phase
+    ) {
+        ConversationContext context = new ConversationContext();
+        context.intentType = intentType;
+        context.confirmedKeyword = confirmedKeyword;
+        context.optionKeywords.addAll(optionKeywords);
+        context.excludedKeywords.addAll(excludedKeywords);
+        context.preferredBrand = preferredBrand;
+        context.priceMax = priceMax;
+        context.turnCount = turnCount;
+        context.retryCount = retryCount;
+        context.phase = phase;
+        return context;
+    }
+
     /* =====================
        Getter
        ===================== */
@@ -91,6 +133,10 @@ public class ConversationContext {
         return lastSearchCriteria;
     }
 
+    public SearchCandidateWindow getSearchWindow() {
+        return searchWindow;
+    }
+
     /* =====================
        Turn / Retry 관리
        ===================== */
@@ -180,6 +226,14 @@ public class ConversationContext {
         this.lastSearchCriteria = criteria;
     }
 
+    /* =====================
+       🔥 검색 후보 창 저장
+       ===================== */
+
+    public void setSearchWindow(SearchCandidateWindow searchWindow) {
+        this.searchWindow = searchWindow;
+    }
+
     /* =====================
        초기화
        ===================== */
@@ -195,5 +249,6 @@ public class ConversationContext {
         retryCount = 0;
         phase = ConversationPhase.DISCOVERY;
         lastSearchCriteria = null; // 🔥 추가
+        searchWindow = null;
     }
 }
@@ -1,9 +1,5 @@
 package com.example.recommendation.domain.criteria;
 
-import org.springframework.stereotype.Service;
-import org.springframework.web.context.annotation.SessionScope;
-import org.springframework.context.annotation.ScopedProxyMode;
-
 /**
  * [역할]
  * - 대화 맥락(Context)을 서버에서 관리
@@ -14,13 +10,25 @@ import org.springframework.context.annotation.ScopedProxyMode;
  * - 리셋 결정 ❌
  *
  * → 오직 상태 누적 및 조회만 담당
+ *
+ * [수명]
+ * - 세션마다 1개 (ConversationSession이 보유)
+ * - 턴 시작 시 저장소에서 복원, 턴 끝에 저장 (HttpSession 보관 ❌)
  */
-@Service
-@SessionScope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class ConversationContextService {
 
-    // ⚠️ 현재는 단일 사용자 기준
-    private ConversationContext context = new ConversationContext();
+    private ConversationContext context;
+
+    public ConversationContextService() {
+        this(new ConversationContext());
+    }
+
+    /**
+     * 저장소에서 복원한 Context로 시작
+     */
+    public ConversationContextService(ConversationContext context) {
+        this.context = context;
+    }
 
     /**
      * 새 Criteria를 Context에 병합
@@ -45,6 +45,15 @@ public class CriteriaService {
         AiCriteriaResultDto aiResult =
                 openAiClient.extractCriteria(userInput);
 
+        return createCriteria(aiResult);
+    }
+
+    /**
+     * 이미 받은 구조화 결과 → RecommendationCriteria
+     * - 통합 추출(답변 해석 + 조건 추출 1회 호출) 결과도 여기로 들어온다
+     */
+    public RecommendationCriteria createCriteria(AiCriteriaResultDto aiResult) {
+
         // 2️⃣ 조건 필드 추출
         String searchKeyword = aiResult.getSearchKeyword();
         String preferredBrand = aiResult.getPreferredBrand();
@@ -72,6 +81,50 @@ public class CriteriaService {
         );
     }
 
+    /**
+     * AI 호출 없이 규칙 기반으로만 Criteria 생성 (시간 예산 초과 시)
+     *
+     * - 규칙으로 못 뽑으면 빈 조건 (병합해도 기존 context 유지)
+     */
+    public RecommendationCriteria createCriteriaLocally(String userInput) {
+
+        AiCriteriaResultDto localResult =
+                openAiClient.extractLocally(userInput);
+
+        if (localResult == null) {
+            localResult = new AiCriteriaResultDto();
+            localResult.setOptionKeywords(List.of());
+        }
+
+        return createCriteria(localResult);
+    }
+
+    /**
+     * AI 호출 없이 (규칙 기반으로) 추출 가능한 입력인지
+     */
+    public boolean canExtractLocally(String userInput) {
+        return openAiClient.canExtractLocally(userInput);
+    }
+
+    /**
+     * AI 호출 없이 캐시로 처리 가능한 입력인지
+     */
+    public boolean hasCachedCriteria(String userInput) {
+        return openAiClient.findCached(userInput) != null;
+    }
+
+    /**
+     * 통합 추출로 받은 AI 결과 → RecommendationCriteria
+     * - 개별 호출과 같은 캐시 / fast path 지표에 반영한 뒤 정규화
+     */
+    public RecommendationCriteria createCriteriaFromCombined(
+            String userInput,
+            AiCriteriaResultDto aiResult
+    ) {
+        openAiClient.recordExtraction(userInput, aiResult);
+        return createCriteria(aiResult);
+    }
+
     /**
      * 🧠 Step 7 확장용
      * - ConversationContext를 기준으로 Criteria를 "완성형"으로 만든다
@@ -0,0 +1,81 @@
+package com.example.recommendation.domain.criteria.rule;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사전(gazetteer) 용어 trie
+ *
+ * - 카테고리 / 브랜드 / 명령어 / 군더더기 표현을 한 trie에 담는다
+ * - 입력 위치마다 최장 일치(longest match) 검색
+ * - 대소문자 무시 (영문 브랜드)
+ *
+ * 판단 ❌
+ * 순수 자료구조
+ */
+final class GazetteerTrie {
+
+    enum TermType {
+        CATEGORY,
+        BRAND,
+        RETRY_COMMAND,
+        RESET_COMMAND,
+        FILLER
+    }
+
+    record Term(TermType type, String value) {
+    }
+
+    record Match(Term term, int end) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Term term;
+    }
+
+    private final Node root = new Node();
+
+    void put(String surface, TermType type, String value) {
+        Node node = root;
+        for (char c : surface.toLowerCase(Locale.ROOT).toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new Node());
+        }
+        node.term = new Term(type, value);
+    }
+
+    void putAll(TermType type, String... values) {
+        for (String value : values) {
+            put(value, type, value);
+        }
+    }
+
+    /**
+     * text[from..]에서 시작하는 가장 긴 용어
+     *
+     * - 용어 끝이 문자열 끝 또는 공백이어야 인정 (단어 중간 일치 ❌)
+     * - 없으면 null
+     */
+    Match longestMatch(String text, int from) {
+
+        Node node = root;
+        Match best = null;
+
+        for (int i = from; i < text.length(); i++) {
+            node = node.children.get(
+                    Character.toLowerCase(text.charAt(i))
+            );
+            if (node == null) {
+                break;
+            }
+            int end = i + 1;
+            if (node.term != null
+                    && (end == text.length()
+                        || Character.isWhitespace(text.charAt(end)))) {
+                best = new Match(node.term, end);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.recommendation.domain.criteria.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.CommandType;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.criteria.rule.GazetteerTrie.Match;
+import com.example.recommendation.domain.criteria.rule.GazetteerTrie.TermType;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+/**
+ * 규칙 기반 Criteria 추출기 (OpenAI 앞단 fast path)
+ *
+ * [대상]
+ * - 카테고리 단독        : "청소기"
+ * - 브랜드 + 카테고리    : "LG 노트북"
+ * - 가격 표현            : "30만원 이하"
+ * - 명령어               : "다시", "다른거"
+ *
+ * [원칙]
+ * - 입력의 모든 토큰을 사전/정규식으로 설명할 수 있을 때만 높은 confidence
+ * - 모르는 토큰이 하나라도 있으면 confidence 0 → OpenAI 위임
+ * - 결과 계약은 Criteria 프롬프트와 동일
+ *   (searchKeyword 있으면 SEARCH, 없으면 HOME / 기본 APPEND)
+ *
+ * 추론 ❌
+ * 효과 표현 해석 ❌ (OpenAI 담당)
+ */
+@Component
+public class RuleBasedCriteriaExtractor {
+
+    static final double CONFIDENT = 0.95;
+    static final double PARTIAL = 0.85;
+    static final double UNKNOWN = 0.0;
+
+    // "30만원 이하", "5만 원까지", "300000원 미만", "3천원"
+    private static final Pattern PRICE = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*(만\\s*원|만|천\\s*원|천|원)"
+                    + "(?:\\s*(?:이하|까지|미만|아래|안쪽|내외|정도))?"
+                    + "(?=\\s|$)"
+    );
+
+    private final GazetteerTrie trie = new GazetteerTrie();
+
+    public RuleBasedCriteriaExtractor() {
+
+        trie.putAll(TermType.CATEGORY,
+                "노트북", "청소기", "무선청소기", "로봇청소기", "수영모",
+                "가습기", "제습기", "의자", "선풍기", "서큘레이터", "향수",
+                "주방가전", "무선이어폰", "블루투스 이어폰", "이어폰", "헤드폰",
+                "블루투스 스피커", "스피커", "냉장고", "세탁기", "건조기",
+                "에어컨", "모니터", "키보드", "마우스", "태블릿", "스마트폰",
+                "스마트워치", "공기청정기", "전기밥솥", "밥솥", "커피머신",
+                "에어프라이어", "전자레인지", "드라이기", "면도기", "전동칫솔",
+                "운동화", "백팩", "텀블러", "캠핑의자", "안마기"
+        );
+
+        trie.putAll(TermType.BRAND,
+                "LG", "삼성", "애플", "다이슨", "소니", "샤오미", "필립스",
+                "쿠쿠", "쿠첸", "위닉스", "보스", "로지텍", "레노버", "에이수스",
+                "HP", "델", "나이키", "아디다스", "뉴발란스", "브라운", "테팔"
+        );
+        trie.put("Samsung", TermType.BRAND, "삼성");
+        trie.put("Apple", TermType.BRAND, "애플");
+        trie.put("Dyson", TermType.BRAND, "다이슨");
+        trie.put("Sony", TermType.BRAND, "소니");
+
+        // Criteria 프롬프트 commandType 어휘와 동일
+        trie.putAll(TermType.RETRY_COMMAND,
+                "다른거", "다른 거", "싫어", "별로", "별로야",
+                "마음에 안들어", "마음에 안 들어"
+        );
+        trie.putAll(TermType.RESET_COMMAND,
+                "다시", "새로", "아니고", "말고"
+        );
+
+        trie.putAll(TermType.FILLER,
+                "추천", "추천해줘", "추천해 줘", "추천해주세요", "추천 좀",
+                "찾아줘", "찾아 줘", "보여줘", "보여 줘", "알려줘", "좀",
+                "주세요", "사고 싶어", "사고싶어"
+        );
+    }
+
+    /**
+     * @return 추출 결과 (confidence 0이면 dto 없음)
+     */
+    public RuleExtraction extract(String userInput) {
+
+        if (userInput == null || userInput.isBlank()) {
+            return RuleExtraction.unknown();
+        }
+
+        String text = userInput.trim()
+                .replaceAll("\\s+", " ")
+                .replaceAll("[.!?~]+$", "");
+
+        List<String> categories = new ArrayList<>();
+        List<String> brands = new ArrayList<>();
+        List<CommandType> commands = new ArrayList<>();
+        Integer priceMax = null;
+
+        int pos = 0;
+        while (pos < text.length()) {
+
+            if (text.charAt(pos) == ' ') {
+                pos++;
+                continue;
+            }
+
+            Matcher price = PRICE.matcher(text).region(pos, text.length());
+            if (price.lookingAt()) {
+                if (priceMax != null) {
+                    return RuleExtraction.unknown();
+                }
+                priceMax = toWon(price.group(1), price.group(2));
+                if (priceMax == null) {
+                    // int 범위 밖 금액 → 규칙으로 판단 ❌
+                    return RuleExtraction.unknown();
+                }
+                pos = price.end();
+                continue;
+            }
+
+            Match match = trie.longestMatch(text, pos);
+            if (match == null) {
+                // 사전에 없는 토큰 → OpenAI
+                return RuleExtraction.unknown();
+            }
+
+            switch (match.term().type()) {
+                case CATEGORY -> categories.add(match.term().value());
+                case BRAND -> brands.add(match.term().value());
+                case RETRY_COMMAND -> commands.add(CommandType.RETRY_SEARCH);
+                case RESET_COMMAND -> commands.add(CommandType.RESET);
+                case FILLER -> { }
+            }
+            pos = match.end();
+        }
+
+        // 명령어는 단독(+군더더기)일 때만
+        if (!commands.isEmpty()) {
+            if (commands.size() > 1 || !categories.isEmpty()
+                    || !brands.isEmpty() || priceMax != null) {
+                return RuleExtraction.unknown();
+            }
+            return RuleExtraction.of(
+                    result(null, null, null, commands.get(0)),
+                    CONFIDENT
+            );
+        }
+
+        // 카테고리 / 브랜드는 각각 최대 1개
+        if (categories.size() > 1 || brands.size() > 1) {
+            return RuleExtraction.unknown();
+        }
+
+        String category = categories.isEmpty() ? null : categories.get(0);
+        String brand = brands.isEmpty() ? null : brands.get(0);
+
+        if (category == null && brand == null && priceMax == null) {
+            // 군더더기만 ("추천해줘")
+            return RuleExtraction.unknown();
+        }
+
+        double confidence = category != null ? CONFIDENT : PARTIAL;
+
+        return RuleExtraction.of(
+                result(category, brand, priceMax, CommandType.APPEND),
+                confidence
+        );
+    }
+
+    private AiCriteriaResultDto result(
+            String searchKeyword,
+            String preferredBrand,
+            Integer priceMax,
+            CommandType commandType
+    ) {
+        AiCriteriaResultDto dto = new AiCriteriaResultDto();
+        dto.setSearchKeyword(searchKeyword);
+        dto.setOptionKeywords(List.of());
+        dto.setPriceMax(priceMax);
+        dto.setPreferredBrand(preferredBrand);
+        dto.setIntentType(
+                searchKeyword != null
+                        ? UserIntentType.SEARCH
+                        : UserIntentType.HOME
+        );
+        dto.setCommandType(commandType);
+        return dto;
+    }
+
+    /**
+     * 금액 + 단위 → 원
+     * - int 범위를 넘으면 null (캐스팅 시 음수로 뒤집히는 것 방지)
+     */
+    private Integer toWon(String amount, String unit) {
+        double value = Double.parseDouble(amount);
+        String normalizedUnit = unit.replace(" ", "");
+        if (normalizedUnit.startsWith("만")) {
+            value *= 10_000;
+        } else if (normalizedUnit.startsWith("천")) {
+            value *= 1_000;
+        }
+        long won = Math.round(value);
+        return won > Integer.MAX_VALUE ? null : (int) won;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.recommendation.domain.criteria.rule;
+
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+/**
+ * 규칙 기반 추출 결과
+ *
+ * - result: OpenAI 응답과 같은 계약의 DTO (unknown이면 null)
+ * - confidence: 0.0 ~ 1.0
+ */
+public record RuleExtraction(
+        AiCriteriaResultDto result,
+        double confidence
+) {
+
+    public static RuleExtraction unknown() {
+        return new RuleExtraction(null, RuleBasedCriteriaExtractor.UNKNOWN);
+    }
+
+    public static RuleExtraction of(
+            AiCriteriaResultDto result,
+            double confidence
+    ) {
+        return new RuleExtraction(result, confidence);
+    }
+
+    public boolean isConfident(double threshold) {
+        return result != null && confidence >= threshold;
+    }
+}
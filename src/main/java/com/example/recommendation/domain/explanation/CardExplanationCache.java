@@ -0,0 +1,168 @@
+package com.example.recommendation.domain.explanation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.external.openai.OpenAiExplanationClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 카드 설명 캐시 (상품 단위)
+ *
+ * - 같은 상품 + 같은 맞은 키워드 + 같은 브랜드 반영 여부 + 같은 핵심 조건 → 같은 설명 재사용
+ *   → 사용자가 달라도 조건이 같으면 공유 (인기 상품은 여러 사용자에게 반복된다)
+ * - 키: 상품ID + 정렬된 맞은 키워드 + 브랜드 반영 + 핵심 조건 + 프롬프트 버전
+ * - 핵심 조건: 예산 상한 + 선호 브랜드 + 정렬된 옵션 키워드
+ *   - 설명이 달라지는 조건만 (예산 / 브랜드가 바뀌면 같은 상품이라도 다시 생성)
+ *   - intent / command / 자유 문장(target / purpose / context)은 제외
+ *     → 넣으면 사용자마다 키가 달라 재사용 ❌, 같은 사용자의 다른거 요청도 miss
+ *   - 자유 문장은 프롬프트에는 들어간다 → 공유된 설명에 처음 만든 사용자의 상황이 묻어날 수 있다
+ *     (카드 설명은 상품 특징 위주 1~2문장이라 허용)
+ * - 프롬프트가 바뀌면 버전이 바뀌어 기존 항목은 더 이상 맞지 않는다
+ * - 실패 fallback 문장은 저장 ❌
+ * - 지표: cache.gets{cache=openai.card, result=hit|miss}
+ *
+ * 판단 ❌
+ * 문장 생성 ❌
+ */
+@Component
+public class CardExplanationCache {
+
+    static final String CACHE_NAME = "openai.card";
+
+    private final String personaVersion;
+    private final Cache<Key, String> cache;
+
+    @Autowired
+    public CardExplanationCache(
+            ExplanationService explanationService,
+            MeterRegistry meterRegistry,
+            @Value("${openai.card-cache.max-entries:20000}") long maxEntries,
+            @Value("${openai.card-cache.ttl-minutes:360}") long ttlMinutes
+    ) {
+        this(explanationService.cardPromptVersion(), maxEntries, ttlMinutes);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 지표 없이 쓰는 생성자 (테스트 / 수동 조립용)
+     */
+    public CardExplanationCache(
+            String personaVersion,
+            long maxEntries,
+            long ttlMinutes
+    ) {
+        this.personaVersion = personaVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있는 카드 설명 채우기
+     *
+     * - 찾은 설명은 found에 넣는다
+     * - 반환값: 캐시에 없는 프롬프트 (AI로 보낼 대상)
+     */
+    public List<CardExplanationPrompt> fill(
+            List<CardExplanationPrompt> prompts,
+            RecommendationCriteria criteria,
+            Map<Long, String> found
+    ) {
+        Conditions conditions = Conditions.of(criteria);
+        List<CardExplanationPrompt> misses = new ArrayList<>();
+
+        for (CardExplanationPrompt prompt : prompts) {
+            String cached = cache.getIfPresent(keyOf(prompt, conditions));
+            if (cached != null) {
+                found.put(prompt.productId(), cached);
+            } else {
+                misses.add(prompt);
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * AI가 만든 카드 설명 저장
+     * - 응답에 없는 상품 / 빈 문장 / fallback 문장은 저장 ❌
+     */
+    public void putAll(
+            List<CardExplanationPrompt> prompts,
+            RecommendationCriteria criteria,
+            Map<Long, String> explanations
+    ) {
+        if (explanations == null) {
+            return;
+        }
+        Conditions conditions = Conditions.of(criteria);
+        for (CardExplanationPrompt prompt : prompts) {
+            String explanation = explanations.get(prompt.productId());
+            if (explanation == null
+                    || explanation.isBlank()
+                    || OpenAiExplanationClient.CARD_FALLBACK_MESSAGE.equals(explanation)) {
+                continue;
+            }
+            cache.put(keyOf(prompt, conditions), explanation);
+        }
+    }
+
+    private Key keyOf(CardExplanationPrompt prompt, Conditions conditions) {
+        return new Key(
+                prompt.productId(),
+                sorted(prompt.matchedOptionKeywords()),
+                prompt.brandMatched(),
+                conditions,
+                personaVersion
+        );
+    }
+
+    private static List<String> sorted(List<String> keywords) {
+        return keywords == null
+                ? List.of()
+                : keywords.stream().sorted().toList();
+    }
+
+    private record Key(
+            Long productId,
+            List<String> matchedOptionKeywords,
+            boolean brandMatched,
+            Conditions conditions,
+            String personaVersion
+    ) {
+    }
+
+    /**
+     * 설명에 영향을 주는 조건만 (순서 무관)
+     */
+    private record Conditions(
+            Integer priceMax,
+            String preferredBrand,
+            List<String> optionKeywords
+    ) {
+
+        static Conditions of(RecommendationCriteria criteria) {
+            if (criteria == null) {
+                return new Conditions(null, null, List.of());
+            }
+            return new Conditions(
+                    criteria.getPriceMax(),
+                    criteria.getPreferredBrand(),
+                    sorted(criteria.getOptionKeywords())
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.recommendation.domain.explanation;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +54,24 @@ public class ExplanationService {
         return openAiClient.generateExplanation(products, criteria);
     }
 
+    /**
+     * 토큰 스트리밍 변형
+     * - 토큰은 도착 즉시 onToken으로 전달
+     * - 반환값은 완성 문장
+     */
+    public String generateExplanationStreaming(
+            List<EvaluatedProduct> products,
+            RecommendationCriteria criteria,
+            Consumer<String> onToken
+    ) {
+        log.info("[ExplanationService] generateExplanationStreaming (AI)");
+        return openAiClient.generateExplanationStreaming(
+                products,
+                criteria,
+                onToken
+        );
+    }
+
     public Map<Long, String> generateCardExplanations(
             List<CardExplanationPrompt> prompts,
             RecommendationCriteria criteria
@@ -61,6 +80,13 @@ public class ExplanationService {
         return openAiClient.generateCardExplanations(prompts, criteria);
     }
 
+    /**
+     * 카드 설명 프롬프트 버전 (캐시 키용)
+     */
+    public String cardPromptVersion() {
+        return openAiClient.cardPromptVersion();
+    }
+
     /* =========================
      * READY / HOME 설명 (정책)
      * ========================= */
@@ -9,6 +9,9 @@ import com.example.recommendation.domain.home.slot.DecisionSlot;
 import com.example.recommendation.domain.home.state.HomeConversationState;
 import com.example.recommendation.external.openai.OpenAiHomeClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * AI 기반 질문 생성 구현체
  *
@@ -28,9 +31,18 @@ public class OpenAiDiscoveryQuestionAI implements DiscoveryQuestionAI {
             LoggerFactory.getLogger(OpenAiDiscoveryQuestionAI.class);
     
     private final OpenAiHomeClient openAiClient;
+    private final Timer callTimer;
     
-    public OpenAiDiscoveryQuestionAI(OpenAiHomeClient openAiClient) {
+    public OpenAiDiscoveryQuestionAI(
+            OpenAiHomeClient openAiClient,
+            MeterRegistry meterRegistry
+    ) {
         this.openAiClient = openAiClient;
+        this.callTimer = Timer.builder("home.ai.call")
+                .tag("ai", "discovery_question")
+                .publishPercentileHistogram()
+                .description("HOME 단계 AI 호출 시간")
+                .register(meterRegistry);
     }
     
     @Override
@@ -41,7 +53,9 @@ public class OpenAiDiscoveryQuestionAI implements DiscoveryQuestionAI {
         
         log.info("[DiscoveryQuestionAI] generate for slot={}", slot);
         
-        String question = openAiClient.generateQuestion(slot, state);
+        String question = callTimer.record(
+                () -> openAiClient.generateQuestion(slot, state)
+        );
         
         log.info("[DiscoveryQuestionAI] generated: {}", question);
         
@@ -6,18 +6,20 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.example.recommendation.domain.home.slot.DecisionSlot;
 import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.external.openai.AiFallbackMetrics;
+import com.example.recommendation.external.openai.OpenAiGateway;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 
 @Service
 @Primary
@@ -26,18 +28,23 @@ public class OpenAiGuideSuggestionAI implements GuideSuggestionAI {
     private static final Logger log =
             LoggerFactory.getLogger(OpenAiGuideSuggestionAI.class);
 
-    private final RestTemplate restTemplate;
-    private final String apiKey;
+    private final OpenAiGateway openAiGateway;
     private final ObjectMapper objectMapper;
+    private final Timer callTimer;
+    private final Counter fallbackCounter;
 
-    public OpenAiGuideSuggestionAI() {
-        this.restTemplate = new RestTemplate();
-        this.apiKey = System.getenv("OPENAI_API_KEY");
+    public OpenAiGuideSuggestionAI(
+            OpenAiGateway openAiGateway,
+            MeterRegistry meterRegistry
+    ) {
+        this.openAiGateway = openAiGateway;
         this.objectMapper = new ObjectMapper();
-
-        if (apiKey == null || apiKey.isBlank()) {
-            throw new IllegalStateException("OPENAI_API_KEY is not set");
-        }
+        this.callTimer = Timer.builder("home.ai.call")
+                .tag("ai", "guide_suggestion")
+                .publishPercentileHistogram()
+                .description("HOME 단계 AI 호출 시간")
+                .register(meterRegistry);
+        this.fallbackCounter = AiFallbackMetrics.counter(meterRegistry, "guide_suggestion");
     }
 
     @Override
@@ -53,7 +60,7 @@ public class OpenAiGuideSuggestionAI implements GuideSuggestionAI {
             String prompt = buildPrompt(slot, state);
             log.debug("[GuideSuggestionAI] prompt=\n{}", prompt);
 
-            String response = callOpenAi(prompt);
+            String response = callTimer.record(() -> callOpenAi(prompt));
             log.debug("[GuideSuggestionAI] raw response=\n{}", response);
 
             String result = extractText(response);
@@ -64,6 +71,7 @@ public class OpenAiGuideSuggestionAI implements GuideSuggestionAI {
 
         } catch (Exception e) {
             log.error("[GuideSuggestionAI] failed", e);
+            fallbackCounter.increment();
             return "방향을 한 번 좁혀보면 선택이 쉬워질 것 같아요. 어떤 쪽이 더 끌리세요?";
         }
     }
@@ -106,10 +114,6 @@ public class OpenAiGuideSuggestionAI implements GuideSuggestionAI {
 
     private String callOpenAi(String promptText) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-
         Map<String, Object> body = Map.of(
                 "model", "gpt-4o-mini",
                 "temperature", 0.6,
@@ -118,14 +122,7 @@ public class OpenAiGuideSuggestionAI implements GuideSuggestionAI {
                 )
         );
 
-        HttpEntity<Map<String, Object>> request =
-                new HttpEntity<>(body, headers);
-
-        return restTemplate.postForObject(
-                "https://api.openai.com/v1/chat/completions",
-                request,
-                String.class
-        );
+        return openAiGateway.chatCompletion(body);
     }
 
     private String extractText(String response) throws Exception {
@@ -6,17 +6,19 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.example.recommendation.domain.home.prompt.HomeReadySummaryPrompt;
+import com.example.recommendation.external.openai.AiFallbackMetrics;
+import com.example.recommendation.external.openai.OpenAiGateway;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 
 /**
  * AI 기반 READY 요약 생성 구현체
@@ -35,18 +37,24 @@ public class OpenAiReadySummaryAI implements ReadySummaryAI {
     private static final Logger log =
             LoggerFactory.getLogger(OpenAiReadySummaryAI.class);
 
-    private final RestTemplate restTemplate;
-    private final String apiKey;
+    private final OpenAiGateway openAiGateway;
     private final ObjectMapper objectMapper;
-
-    public OpenAiReadySummaryAI(ObjectMapper objectMapper) {
-        this.restTemplate = new RestTemplate();
-        this.apiKey = System.getenv("OPENAI_API_KEY");
+    private final Timer callTimer;
+    private final Counter fallbackCounter;
+
+    public OpenAiReadySummaryAI(
+            OpenAiGateway openAiGateway,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.openAiGateway = openAiGateway;
         this.objectMapper = objectMapper;
-
-        if (apiKey == null || apiKey.isBlank()) {
-            throw new IllegalStateException("OPENAI_API_KEY is not set");
-        }
+        this.callTimer = Timer.builder("home.ai.call")
+                .tag("ai", "ready_summary")
+                .publishPercentileHistogram()
+                .description("HOME 단계 AI 호출 시간")
+                .register(meterRegistry);
+        this.fallbackCounter = AiFallbackMetrics.counter(meterRegistry, "ready_summary");
     }
 
     @Override
@@ -56,7 +64,7 @@ public class OpenAiReadySummaryAI implements ReadySummaryAI {
 
         try {
             String promptText = prompt.toPromptText();
-            String response = callOpenAi(promptText);
+            String response = callTimer.record(() -> callOpenAi(promptText));
             String summary = extractTextContent(response);
 
             log.info("[ReadySummaryAI] generated: {}", summary);
@@ -64,16 +72,13 @@ public class OpenAiReadySummaryAI implements ReadySummaryAI {
 
         } catch (Exception e) {
             log.error("[ReadySummaryAI] AI failed, fallback", e);
+            fallbackCounter.increment();
             return "말씀해주신 조건을 바탕으로 상품을 찾아볼게요.";
         }
     }
 
     private String callOpenAi(String promptText) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-
         Map<String, Object> body = Map.of(
                 "model", "gpt-4o-mini",
                 "temperature", 0.5,
@@ -82,14 +87,7 @@ public class OpenAiReadySummaryAI implements ReadySummaryAI {
                 )
         );
 
-        HttpEntity<Map<String, Object>> request =
-                new HttpEntity<>(body, headers);
-
-        return restTemplate.postForObject(
-                "https://api.openai.com/v1/chat/completions",
-                request,
-                String.class
-        );
+        return openAiGateway.chatCompletion(body);
     }
 
     private String extractTextContent(String response) throws Exception {
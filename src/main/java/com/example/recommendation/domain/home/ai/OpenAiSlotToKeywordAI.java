@@ -6,17 +6,21 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.example.recommendation.domain.home.slot.DecisionSlot;
 import com.example.recommendation.domain.home.slot.SlotState;
 import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.external.openai.AiFallbackMetrics;
+import com.example.recommendation.external.openai.OpenAiGateway;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 @Primary
 public class OpenAiSlotToKeywordAI implements SlotToKeywordAI {
@@ -24,9 +28,23 @@ public class OpenAiSlotToKeywordAI implements SlotToKeywordAI {
     private static final Logger log =
             LoggerFactory.getLogger(OpenAiSlotToKeywordAI.class);
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final String apiKey = System.getenv("OPENAI_API_KEY");
+    private final OpenAiGateway openAiGateway;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Timer callTimer;
+    private final Counter fallbackCounter;
+
+    public OpenAiSlotToKeywordAI(
+            OpenAiGateway openAiGateway,
+            MeterRegistry meterRegistry
+    ) {
+        this.openAiGateway = openAiGateway;
+        this.callTimer = Timer.builder("home.ai.call")
+                .tag("ai", "slot_to_keyword")
+                .publishPercentileHistogram()
+                .description("HOME 단계 AI 호출 시간")
+                .register(meterRegistry);
+        this.fallbackCounter = AiFallbackMetrics.counter(meterRegistry, "slot_to_keyword");
+    }
 
     @Override
     public String generate(HomeConversationState state) {
@@ -36,12 +54,13 @@ public class OpenAiSlotToKeywordAI implements SlotToKeywordAI {
 
             String prompt = buildPrompt(state);
 
-            String response = callOpenAi(prompt);
+            String response = callTimer.record(() -> callOpenAi(prompt));
 
             return extractText(response);
 
         } catch (Exception e) {
             log.error("[SlotToKeywordAI] failed", e);
+            fallbackCounter.increment();
             return null;
         }
     }
@@ -79,10 +98,6 @@ public class OpenAiSlotToKeywordAI implements SlotToKeywordAI {
 
     private String callOpenAi(String promptText) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-
         Map<String, Object> body = Map.of(
                 "model", "gpt-4o-mini",
                 "temperature", 0.4,
@@ -91,14 +106,7 @@ public class OpenAiSlotToKeywordAI implements SlotToKeywordAI {
                 )
         );
 
-        HttpEntity<Map<String, Object>> request =
-                new HttpEntity<>(body, headers);
-
-        return restTemplate.postForObject(
-                "https://api.openai.com/v1/chat/completions",
-                request,
-                String.class
-        );
+        return openAiGateway.chatCompletion(body);
     }
 
     private String extractText(String response) throws Exception {
@@ -6,8 +6,12 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.external.openai.AiFallbackMetrics;
 import com.example.recommendation.external.openai.OpenAiHomeClient;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * AI 기반 답변 해석 서비스
  *
@@ -32,12 +36,16 @@ public class OpenAiAnswerInterpretationService {
     // Fallback용으로 패턴 기반 서비스 보유
     private final PatternBasedAnswerInterpretationService patternBasedService;
     
+    private final Counter fallbackCounter;
+    
     public OpenAiAnswerInterpretationService(
             OpenAiHomeClient openAiClient,
-            PatternBasedAnswerInterpretationService patternBasedService
+            PatternBasedAnswerInterpretationService patternBasedService,
+            MeterRegistry meterRegistry
     ) {
         this.openAiClient = openAiClient;
         this.patternBasedService = patternBasedService;
+        this.fallbackCounter = AiFallbackMetrics.counter(meterRegistry, "answer_interpretation");
     }
     
     public AnswerInterpretation interpret(
@@ -60,6 +68,7 @@ public class OpenAiAnswerInterpretationService {
             
         } catch (Exception e) {
             log.error("[OpenAiAnswerInterpretation] AI failed, fallback to pattern", e);
+            fallbackCounter.increment();
             
             // Fallback: 패턴 기반
             return patternBasedService.interpret(userInput);
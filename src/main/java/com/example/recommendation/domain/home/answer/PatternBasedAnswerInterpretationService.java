@@ -10,10 +10,11 @@ import org.springframework.stereotype.Component;
 import com.example.recommendation.domain.home.slot.DecisionSlot;
 
 /**
- * 패턴 기반 답변 해석 서비스 (Fallback)
+ * 패턴 기반 답변 해석 서비스
  *
  * [역할]
- * - OpenAI 실패 시 사용
+ * - 1차 분류기 (classify: 결과 + confidence)
+ * - OpenAI 실패 시 Fallback
  * - 단순 패턴 매칭
  *
  * [절대 금지]
@@ -57,6 +58,102 @@ public class PatternBasedAnswerInterpretationService {
     private static final Pattern PREFERENCE_PATTERN = Pattern.compile(
             "좋아|선호|마음에|취향|스타일"
     );
+
+    /* =========================
+     * 확신 패턴 (입력 전체가 해당 표현뿐일 때)
+     * ========================= */
+
+    // 어미 / 문장부호
+    private static final String ENDING =
+            "(\\s*(요|음|어|어요|할래요?|할게요?|해\\s*줘요?|보여\\s*줘요?"
+            + "|주세요|하자|해요|겠어요?|겠는데요?|는데요?|네요))?[.!?~\\s]*$";
+
+    private static final Pattern UNKNOWN_CERTAIN = Pattern.compile(
+            "^((잘\\s*)?(모르겠|몰라|모름)|아무\\s*거나|상관\\s*없)" + ENDING
+    );
+
+    private static final Pattern REFUSAL_CERTAIN = Pattern.compile(
+            "^(넘어갈게|괜찮아|필요\\s*없|안\\s*할래|패스)" + ENDING
+    );
+
+    private static final Pattern CONTEXT_SHIFT_CERTAIN = Pattern.compile(
+            "^(다른\\s*거|처음부터|다시|리셋|초기화)" + ENDING
+    );
+
+    // "30만원", "30만 원 이하", "50만원 정도요"
+    private static final Pattern BUDGET_ONLY = Pattern.compile(
+            "^(\\d+)\\s*만\\s*원?(\\s*(이하|이내|까지|정도|쯤|안쪽|내외))?" + ENDING
+    );
+
+    static final double CERTAIN = 0.95;
+    static final double AMBIGUOUS = 0.5;
+    static final double GUESS = 0.3;
+
+    /**
+     * 1차 분류 + confidence
+     *
+     * - 입력 전체가 확신 패턴과 일치할 때만 CERTAIN
+     * - 키워드가 문장 일부에만 걸리면 AMBIGUOUS ("그냥 예쁜 거요")
+     * - 나머지 ANSWER는 GUESS → 상위 tier(OpenAI)로
+     */
+    public PatternClassification classify(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+
+        AnswerInterpretation interpretation = interpret(userInput);
+        String normalized = interpretation.getNormalizedValue();
+
+        return switch (interpretation.getPrimaryIntent()) {
+            case NOISE -> new PatternClassification(interpretation, CERTAIN);
+            case UNKNOWN -> certainIf(interpretation, UNKNOWN_CERTAIN, normalized);
+            case REFUSAL -> certainIf(interpretation, REFUSAL_CERTAIN, normalized);
+            case CONTEXT_SHIFT ->
+                    certainIf(interpretation, CONTEXT_SHIFT_CERTAIN, normalized);
+            case ANSWER -> classifyAnswer(interpretation, lastAskedSlot);
+        };
+    }
+
+    private PatternClassification certainIf(
+            AnswerInterpretation interpretation,
+            Pattern certainPattern,
+            String normalized
+    ) {
+        return new PatternClassification(
+                interpretation,
+                certainPattern.matcher(normalized).matches()
+                        ? CERTAIN
+                        : AMBIGUOUS
+        );
+    }
+
+    /**
+     * 예산만 말한 답변
+     *
+     * - 예산을 물었거나(BUDGET) 물은 슬롯이 없을 때만 확신
+     * - 다른 슬롯을 물었는데 예산만 답하면 귀속이 애매 → OpenAI
+     */
+    private PatternClassification classifyAnswer(
+            AnswerInterpretation interpretation,
+            DecisionSlot lastAskedSlot
+    ) {
+
+        Matcher budget = BUDGET_ONLY.matcher(interpretation.getNormalizedValue());
+
+        if (budget.matches()
+                && (lastAskedSlot == null || lastAskedSlot == DecisionSlot.BUDGET)) {
+            return new PatternClassification(
+                    new AnswerInterpretation(
+                            AnswerIntent.ANSWER,
+                            budget.group(1) + "만원",
+                            interpretation.getSecondarySignals()
+                    ),
+                    CERTAIN
+            );
+        }
+
+        return new PatternClassification(interpretation, GUESS);
+    }
     
     public AnswerInterpretation interpret(String userInput) {
         
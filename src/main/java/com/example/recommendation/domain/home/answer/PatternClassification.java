@@ -0,0 +1,13 @@
+package com.example.recommendation.domain.home.answer;
+
+/**
+ * 패턴 분류 결과
+ *
+ * - interpretation: 패턴 기반 해석
+ * - confidence: 0.0 ~ 1.0 (입력 전체가 확신 패턴일 때만 높음)
+ */
+public record PatternClassification(
+        AnswerInterpretation interpretation,
+        double confidence
+) {
+}
@@ -83,6 +83,25 @@ public class PendingQuestionContext {
         this.guideCountSinceLastQuestion = 0;
     }
 
+    /**
+     * 저장소 복원 전용 (필드를 저장된 그대로 되돌린다)
+     */
+    public void restore(
+            DecisionSlot lastAskedSlot,
+            DecisionSlot lastJumpedSlot,
+            boolean lastQuestionAnswered,
+            DecisionSlot lastGuidedSlot,
+            boolean lastAnswerUnknown,
+            int guideCountSinceLastQuestion
+    ) {
+        this.lastAskedSlot = lastAskedSlot;
+        this.lastJumpedSlot = lastJumpedSlot;
+        this.lastQuestionAnswered = lastQuestionAnswered;
+        this.lastGuidedSlot = lastGuidedSlot;
+        this.lastAnswerUnknown = lastAnswerUnknown;
+        this.guideCountSinceLastQuestion = guideCountSinceLastQuestion;
+    }
+
     /* =========================
      * STEP 11 조회용 메서드
      * (판단 ❌, 상태 변경 ❌)
@@ -124,6 +143,14 @@ public class PendingQuestionContext {
         return lastQuestionAnswered;
     }
 
+    public DecisionSlot getLastGuidedSlot() {
+        return lastGuidedSlot;
+    }
+
+    public int getGuideCountSinceLastQuestion() {
+        return guideCountSinceLastQuestion;
+    }
+
     public boolean hasUnansweredQuestion() {
         return lastAskedSlot != null && !lastQuestionAnswered;
     }
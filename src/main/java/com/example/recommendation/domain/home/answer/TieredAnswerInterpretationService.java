@@ -0,0 +1,105 @@
+package com.example.recommendation.domain.home.answer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 단계별(tiered) 답변 해석 서비스
+ *
+ * [흐름]
+ * 1. 패턴 분류기 (confidence 포함)
+ * 2. confidence >= threshold → 그대로 사용 (AI 호출 ❌)
+ * 3. 애매하면 OpenAiAnswerInterpretationService
+ *
+ * [지표]
+ * - answer.interpretation{tier=pattern|openai}
+ *
+ * [절대 금지]
+ * - 슬롯 결정 ❌
+ * - 상태 변경 ❌
+ */
+@Service
+public class TieredAnswerInterpretationService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(TieredAnswerInterpretationService.class);
+
+    private final PatternBasedAnswerInterpretationService patternService;
+    private final OpenAiAnswerInterpretationService openAiService;
+    private final double confidenceThreshold;
+
+    private final Counter patternTier;
+    private final Counter openAiTier;
+
+    public TieredAnswerInterpretationService(
+            PatternBasedAnswerInterpretationService patternService,
+            OpenAiAnswerInterpretationService openAiService,
+            MeterRegistry meterRegistry,
+            @Value("${answer.pattern.confidence-threshold:0.9}") double confidenceThreshold
+    ) {
+        this.patternService = patternService;
+        this.openAiService = openAiService;
+        this.confidenceThreshold = confidenceThreshold;
+
+        this.patternTier = Counter.builder("answer.interpretation")
+                .tag("tier", "pattern")
+                .description("패턴 분류기로 확정한 답변 해석 수")
+                .register(meterRegistry);
+        this.openAiTier = Counter.builder("answer.interpretation")
+                .tag("tier", "openai")
+                .description("OpenAI로 넘긴 답변 해석 수")
+                .register(meterRegistry);
+    }
+
+    public AnswerInterpretation interpret(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+
+        PatternClassification classification =
+                patternService.classify(userInput, lastAskedSlot);
+
+        if (classification.confidence() >= confidenceThreshold) {
+            patternTier.increment();
+            log.info("[TieredInterpretation] pattern tier - intent={}, confidence={}",
+                    classification.interpretation().getPrimaryIntent(),
+                    classification.confidence());
+            return classification.interpretation();
+        }
+
+        openAiTier.increment();
+        return openAiService.interpret(userInput, lastAskedSlot);
+    }
+
+    /**
+     * 패턴 분류기만으로 해석 (AI 호출 ❌)
+     *
+     * - confidence와 상관없이 패턴 결과를 그대로 쓴다
+     * - 턴 시간 예산 초과 시 degrade 경로 전용
+     */
+    public AnswerInterpretation interpretLocally(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        return patternService.classify(userInput, lastAskedSlot)
+                .interpretation();
+    }
+
+    /**
+     * 패턴 tier에서 확정 가능한 입력인지 (지표 기록 ❌)
+     */
+    public boolean canInterpretLocally(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        return patternService.classify(userInput, lastAskedSlot)
+                .confidence() >= confidenceThreshold;
+    }
+}
@@ -14,11 +14,11 @@ import com.example.recommendation.domain.home.state.HomeConversationState;
  *
  * [역할]
  * - 전체 파이프라인 조율
- * - OpenAiAnswerInterpretationService → SlotBindingPolicy → SlotState
+ * - TieredAnswerInterpretationService → SlotBindingPolicy → SlotState
  *
  * [절대 금지]
  * - 판단 ❌ (정책에 위임)
- * - AI 호출 ❌ (OpenAiAnswerInterpretationService가 처리)
+ * - AI 호출 ❌ (TieredAnswerInterpretationService가 처리)
  */
 @Service
 public class UserInputProcessor {
@@ -26,11 +26,11 @@ public class UserInputProcessor {
     private static final Logger log =
             LoggerFactory.getLogger(UserInputProcessor.class);
     
-    private final OpenAiAnswerInterpretationService interpretationService;
+    private final TieredAnswerInterpretationService interpretationService;
     private final SlotBindingPolicy bindingPolicy;
     
     public UserInputProcessor(
-            OpenAiAnswerInterpretationService interpretationService,
+            TieredAnswerInterpretationService interpretationService,
             SlotBindingPolicy bindingPolicy
     ) {
         this.interpretationService = interpretationService;
@@ -47,14 +47,30 @@ public class UserInputProcessor {
         
     	System.out.println("UIP_STATE_HASH=" + state.hashCode());
 
-        log.info("[UserInputProcessor] input: {}", userInput);
-
         // 🔥 세션 상태 객체 해시 확인
         log.info("🔥 STATE_HASH (UserInputProcessor) = {}", state.hashCode());
         
-        // 1. 발화 의도 분류 (AI 기반)
-        PendingQuestionContext questionContext = state.getQuestionContext();
-        DecisionSlot lastAskedSlot = questionContext.getLastAskedSlot();
+        DecisionSlot lastAskedSlot =
+                state.getQuestionContext().getLastAskedSlot();
+
+        AnswerInterpretation interpretation =
+                interpret(userInput, lastAskedSlot);
+
+        applyInterpretation(interpretation, state);
+    }
+
+    /**
+     * 1. 발화 의도 분류 (패턴 → 애매하면 AI)
+     *
+     * - 세션 상태를 읽지도 쓰지도 않는다
+     * - 다른 스레드에서 병렬 실행해도 안전
+     */
+    public AnswerInterpretation interpret(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+
+        log.info("[UserInputProcessor] input: {}", userInput);
 
         // 🔥 마지막 질문 슬롯 확인
         log.info("🔥 LAST_ASKED_SLOT = {}", lastAskedSlot);
@@ -65,6 +81,54 @@ public class UserInputProcessor {
         log.info("[UserInputProcessor] intent: {}, value: {}",
                 interpretation.getPrimaryIntent(),
                 interpretation.getNormalizedValue());
+
+        return interpretation;
+    }
+
+    /**
+     * AI 호출 없이 패턴 분류기로만 해석 (시간 예산 초과 시)
+     *
+     * - 세션 상태를 읽지도 쓰지도 않는다
+     */
+    public AnswerInterpretation interpretLocally(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        AnswerInterpretation interpretation =
+                interpretationService.interpretLocally(userInput, lastAskedSlot);
+
+        log.info("[UserInputProcessor] local intent: {}, value: {}",
+                interpretation.getPrimaryIntent(),
+                interpretation.getNormalizedValue());
+
+        return interpretation;
+    }
+
+    /**
+     * AI 호출 없이 해석 가능한 입력인지
+     */
+    public boolean canInterpretLocally(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        return interpretationService.canInterpretLocally(
+                userInput,
+                lastAskedSlot
+        );
+    }
+
+    /**
+     * 2~4. 해석 결과 → 슬롯 상태 반영
+     *
+     * - 세션 상태 변경은 여기서만
+     * - 요청 스레드에서 호출한다
+     */
+    public void applyInterpretation(
+            AnswerInterpretation interpretation,
+            HomeConversationState state
+    ) {
+
+        PendingQuestionContext questionContext = state.getQuestionContext();
         
         // 2. 슬롯 귀속 결정
         List<SlotUpdateCommand> commands =
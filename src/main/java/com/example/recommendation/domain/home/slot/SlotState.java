@@ -53,7 +53,14 @@ public class SlotState {
         this.value = value;
     }
 
-    
+    /**
+     * 저장소 복원 전용 (상태 전이 규칙 ❌, 저장된 그대로)
+     */
+    public void restore(SlotStatus status, Object value) {
+        this.status = status;
+        this.value = value;
+    }
+
     /* =========================
      * 편의 메서드
      * ========================= */
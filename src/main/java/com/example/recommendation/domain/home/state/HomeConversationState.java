@@ -5,10 +5,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.context.annotation.ScopedProxyMode;
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.SessionScope;
-
 import com.example.recommendation.domain.home.answer.PendingQuestionContext;
 import com.example.recommendation.domain.home.answer.SlotUpdateCommand;
 import com.example.recommendation.domain.home.slot.DecisionSlot;
@@ -28,9 +24,10 @@ import com.example.recommendation.domain.home.slot.SlotStatus;
  * ❌ AI 호출
  * 
  * HOME 단계 전체 슬롯 상태를 보관하는 대화 상태 컨테이너
+ *
+ * - 세션마다 1개 (ConversationSession이 보유)
+ * - 턴 시작 시 저장소에서 복원, 턴 끝에 저장 (HttpSession 보관 ❌)
  */
-@Component
-@SessionScope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class HomeConversationState {
 
     private final Map<DecisionSlot, SlotState> slots =
@@ -41,7 +38,6 @@ public class HomeConversationState {
             new PendingQuestionContext();
 
     public HomeConversationState() {
-    	System.out.println("🔥 NEW HomeConversationState CREATED = " + this.hashCode());
         for (DecisionSlot slot : DecisionSlot.values()) {
             slots.put(slot, new SlotState(slot));
         }
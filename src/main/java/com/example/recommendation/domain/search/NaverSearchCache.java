@@ -0,0 +1,99 @@
+package com.example.recommendation.domain.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.external.naver.dto.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * [역할]
+ * - 네이버 검색 결과 캐시 (finalQuery + start + display 기준)
+ *
+ * [정책]
+ * - 용량 제한: 상품 개수 합(weight) 기준, W-TinyLFU 축출 (Caffeine)
+ * - TTL: 저장 후 ttl 경과 시 만료
+ * - 빈 결과는 저장 ❌ (API 실패도 빈 리스트로 오기 때문)
+ * - 같은 키 동시 요청은 네이버 1회 호출을 공유 (stampede 방지)
+ *
+ * [지표]
+ * - cache.gets{cache=naver.search, result=hit|miss}
+ * - cache.evictions / cache.eviction.weight / cache.size
+ *
+ * 판단 로직 ❌
+ * 순수 I/O 보조 계층
+ */
+@Component
+public class NaverSearchCache {
+
+    static final String CACHE_NAME = "naver.search";
+
+    private final Cache<Key, List<Product>> cache;
+
+    public NaverSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${naver.search.cache.max-products:20000}") long maxProducts,
+            @Value("${naver.search.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxProducts)
+                .weigher((Key key, List<Product> products) ->
+                        Math.max(1, products.size()))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader 호출 후 저장
+     *
+     * - 같은 키 동시 miss는 loader 1회만 (나머지는 그 결과를 기다린다)
+     * - 빈 결과는 null로 돌려 저장 ❌ (Caffeine은 null을 저장하지 않는다)
+     */
+    public List<Product> get(
+            String finalQuery,
+            int start,
+            int display,
+            Supplier<List<Product>> loader
+    ) {
+        Key key = new Key(canonicalize(finalQuery), start, display);
+
+        List<Product> products = cache.get(key, ignored -> {
+            List<Product> loaded = loader.get();
+            return loaded == null || loaded.isEmpty()
+                    ? null
+                    : List.copyOf(loaded);
+        });
+
+        return products == null ? List.of() : products;
+    }
+
+    /**
+     * 공백 정리 + 소문자화
+     *
+     * - "노트북  삼성" / " 노트북 삼성 " → 같은 키
+     * - 단어 순서는 유지 (네이버 결과가 순서에 영향받음)
+     */
+    static String canonicalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String query, int start, int display) {
+    }
+}
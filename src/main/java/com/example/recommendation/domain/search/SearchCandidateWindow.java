@@ -0,0 +1,147 @@
+package com.example.recommendation.domain.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.recommendation.external.naver.dto.Product;
+
+/**
+ * [역할]
+ * - 한 검색어(finalQuery)로 네이버에서 받아온 후보 상품 창(window)
+ * - RETRY_SEARCH 시 네이버 재호출 대신 "아직 안 보여준" 후보를 꺼내 쓴다
+ *
+ * [상태]
+ * - candidates : 지금까지 받아온 후보 (중복 제거, 받아온 순서 유지)
+ * - shown      : 이미 사용자에게 보여준 후보 (상품 키 64bit 지문)
+ * - nextStart  : 창이 소진됐을 때 이어서 받아올 네이버 start
+ * - exhausted  : 네이버에 더 받아올 결과가 없음
+ *
+ * [저장소 복원]
+ * - 대화 상태 저장소에는 query + 보여준 상품 지문만 남긴다 (후보 목록 ❌)
+ * - 복원된 창은 후보가 비어 있음 → 다음 RETRY_SEARCH에서 1페이지부터 다시 채우고
+ *   이미 보여준 상품은 그대로 제외
+ *
+ * 판단 ❌
+ * 검색 실행 ❌ (SearchService 담당)
+ */
+public class SearchCandidateWindow {
+
+    private final String query;
+    private final List<Product> candidates = new ArrayList<>();
+    private final Set<String> candidateKeys = new HashSet<>();
+    private final Set<Long> shownFingerprints = new HashSet<>();
+
+    // candidates 중 이미 보여준 개수 (복원된 지문은 후보에 다시 들어올 때 센다)
+    private int shownCandidates = 0;
+
+    private int nextStart = 1;
+    private boolean exhausted = false;
+
+    SearchCandidateWindow(String query) {
+        this.query = query;
+    }
+
+    /**
+     * 저장소에서 복원 (후보 ❌, 보여준 상품 지문만)
+     */
+    public static SearchCandidateWindow restore(
+            String query,
+            Collection<Long> shownFingerprints
+    ) {
+        SearchCandidateWindow window = new SearchCandidateWindow(query);
+        window.shownFingerprints.addAll(shownFingerprints);
+        return window;
+    }
+
+    /* =====================
+       조회
+       ===================== */
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getNextStart() {
+        return nextStart;
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * 아직 보여주지 않은 후보 (받아온 순서 유지)
+     */
+    public List<Product> unseen() {
+        return candidates.stream()
+                .filter(p -> !shownFingerprints.contains(
+                        SearchService.keyFingerprint(SearchService.productKey(p))
+                ))
+                .toList();
+    }
+
+    public int unseenCount() {
+        return candidates.size() - shownCandidates;
+    }
+
+    /**
+     * 지금 들고 있는 후보 수 (노드 로컬 창 캐시 크기 지표용)
+     */
+    public int candidateCount() {
+        return candidates.size();
+    }
+
+    /**
+     * 이미 보여준 상품 지문 (저장용)
+     */
+    public Set<Long> getShownFingerprints() {
+        return Collections.unmodifiableSet(shownFingerprints);
+    }
+
+    /* =====================
+       변경
+       ===================== */
+
+    /**
+     * 네이버 한 페이지 결과를 창 뒤에 이어붙인다
+     *
+     * @param page 이번에 받아온 결과 (중복 제거 후)
+     * @param rawCount 네이버가 돌려준 원본 개수 (start 이동 기준)
+     * @param display 요청한 페이지 크기 (덜 왔으면 소진으로 본다)
+     */
+    void append(List<Product> page, int rawCount, int display) {
+
+        if (page != null) {
+            for (Product product : page) {
+                String key = SearchService.productKey(product);
+                if (candidateKeys.add(key)) {
+                    candidates.add(product);
+                    if (shownFingerprints.contains(SearchService.keyFingerprint(key))) {
+                        shownCandidates++;
+                    }
+                }
+            }
+        }
+
+        nextStart += rawCount;
+        exhausted = rawCount < display
+                || nextStart > SearchService.MAX_NAVER_START;
+    }
+
+    /**
+     * 이번 턴에 보여준 상품 기록
+     */
+    public void markShown(List<Product> products) {
+        for (Product product : products) {
+            String key = SearchService.productKey(product);
+            if (candidateKeys.contains(key)
+                    && shownFingerprints.add(SearchService.keyFingerprint(key))) {
+                shownCandidates++;
+            }
+        }
+    }
+}
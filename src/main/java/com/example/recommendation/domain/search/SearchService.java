@@ -7,12 +7,17 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.external.naver.NaverClient;
 import com.example.recommendation.external.naver.dto.Product;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * [역할]
  * - 외부 검색 API 호출 전용 서비스
@@ -25,6 +30,10 @@ import com.example.recommendation.external.naver.dto.Product;
  * 이 서비스는
  * "이미 결정된 조건"을 그대로 외부에 전달하는
  * 순수 I/O 계층이다.
+ *
+ * [지표]
+ * - naver.search.fetch : 페이지 1회 받아오기 시간 (캐시 포함)
+ * - naver.search.empty : 네이버 결과 0건 횟수 (API 실패도 빈 결과로 온다)
  */
 @Service
 public class SearchService {
@@ -34,76 +43,157 @@ public class SearchService {
     private static final Logger log =
             LoggerFactory.getLogger(SearchService.class);
 
-    private final NaverClient naverClient;
+    // 네이버 start 상한 (API 스펙)
+    static final int MAX_NAVER_START = 1000;
 
-    public SearchService(NaverClient naverClient) {
+    private final NaverClient naverClient;
+    private final NaverSearchCache searchCache;
+    private final int initialDisplay;
+    private final int retryDisplay;
+
+    private final Timer fetchTimer;
+    private final Counter emptyResultCounter;
+
+    public SearchService(
+            NaverClient naverClient,
+            NaverSearchCache searchCache,
+            MeterRegistry meterRegistry,
+            @Value("${naver.search.initial-display:30}") int initialDisplay,
+            @Value("${naver.search.retry-display:100}") int retryDisplay
+    ) {
         this.naverClient = naverClient;
+        this.searchCache = searchCache;
+        this.initialDisplay = initialDisplay;
+        this.retryDisplay = retryDisplay;
+
+        this.fetchTimer = Timer.builder("naver.search.fetch")
+                .publishPercentileHistogram()
+                .description("네이버 검색 페이지 1회 받아오기 시간 (캐시 포함)")
+                .register(meterRegistry);
+        this.emptyResultCounter = Counter.builder("naver.search.empty")
+                .description("네이버 검색 결과 0건 횟수")
+                .register(meterRegistry);
     }
 
     /**
-     * 기본 검색 (offset 없음)
+     * 기본 검색 (첫 페이지)
      */
     public List<Product> search(RecommendationCriteria criteria) {
-        return searchWithOffset(criteria, 0);
+        return openWindow(criteria).unseen();
     }
 
     /**
-     * offset 기반 검색 (RETRY_SEARCH 지원)
+     * 첫 페이지로 후보 창을 새로 연다
      */
-    public List<Product> searchWithOffset(
+    public SearchCandidateWindow openWindow(RecommendationCriteria criteria) {
+
+        String finalQuery = toFinalQuery(criteria);
+
+        log.info("[SearchService] open window - finalQuery='{}'", finalQuery);
+
+        SearchCandidateWindow window =
+                new SearchCandidateWindow(finalQuery);
+
+        fetchInto(window, initialDisplay);
+
+        return window;
+    }
+
+    /**
+     * RETRY_SEARCH용 후보 창 준비
+     *
+     * - 같은 검색어의 창이 있으면 재사용
+     * - 안 보여준 후보가 minUnseen 미만이면 그때만
+     *   이어지는 구간을 더 큰 페이지(retryDisplay)로 받아온다
+     */
+    public SearchCandidateWindow prepareRetryWindow(
+            SearchCandidateWindow window,
             RecommendationCriteria criteria,
-            int offset
+            int minUnseen
     ) {
 
-        log.info("[SearchService] search start (offset={})", offset);
+        String finalQuery = toFinalQuery(criteria);
+
+        if (window == null || !window.getQuery().equals(finalQuery)) {
+            log.info("[SearchService] retry window miss → open new window");
+            window = openWindow(criteria);
+        }
+
+        if (window.unseenCount() < minUnseen && !window.isExhausted()) {
+            log.info(
+                "[SearchService] window exhausted (unseen={}) → fetch start={}, display={}",
+                window.unseenCount(), window.getNextStart(), retryDisplay
+            );
+            fetchInto(window, retryDisplay);
+        } else {
+            log.info(
+                "[SearchService] serve retry from window (unseen={})",
+                window.unseenCount()
+            );
+        }
+
+        return window;
+    }
+
+    /**
+     * Criteria → 네이버 최종 검색어
+     */
+    String toFinalQuery(RecommendationCriteria criteria) {
 
-        // 1️⃣ Criteria → query 문자열
         String baseQuery = NaverQueryMapper.toQuery(criteria);
 
-        String finalQuery;
         if (criteria.getPreferredBrand() != null
                 && !criteria.getPreferredBrand().isBlank()) {
-            finalQuery = criteria.getPreferredBrand() + " " + baseQuery;
-        } else {
-            finalQuery = baseQuery;
+            return criteria.getPreferredBrand() + " " + baseQuery;
         }
+        return baseQuery;
+    }
 
-        // offset → start 변환
-        int start = offset + 1;
+    /**
+     * 창의 nextStart부터 display개를 받아와 창에 이어붙인다
+     */
+    private void fetchInto(SearchCandidateWindow window, int display) {
+
+        String finalQuery = window.getQuery();
+        int start = window.getNextStart();
 
         log.info(
-            "[SearchService] finalQuery='{}', offset={}, start={}",
-            finalQuery, offset, start
+            "[SearchService] finalQuery='{}', start={}, display={}",
+            finalQuery, start, display
         );
 
-        // 2️⃣ 네이버 API 호출
-        List<Product> products = naverClient.search(finalQuery, start);
+        // 네이버 API 호출 (캐시 우선)
+        List<Product> products =
+                fetchTimer.record(() -> searchCache.get(
+                        finalQuery,
+                        start,
+                        display,
+                        () -> naverClient.search(finalQuery, start, display)
+                ));
 
         int rawCount = products == null ? 0 : products.size();
         log.info("[SearchService] rawResultCount={}", rawCount);
 
         // 🔥 핵심 추가 로그 (신호만 남김)
         if (rawCount == 0) {
+            emptyResultCounter.increment();
             log.info(
-                "[SearchService] EMPTY_RESULT → query='{}', offset={}",
+                "[SearchService] EMPTY_RESULT → query='{}', start={}",
                 finalQuery,
-                offset
+                start
             );
         }
 
-        // 3️⃣ 중복 제거
-        List<Product> deduplicated = deduplicate(products);
-
-        int dedupCount = deduplicated == null ? 0 : deduplicated.size();
-        log.info("[SearchService] deduplicatedCount={}", dedupCount);
+        // 중복 제거 후 창에 합류
+        window.append(deduplicate(products), rawCount, display);
 
-        return deduplicated;
+        log.info("[SearchService] windowUnseenCount={}", window.unseenCount());
     }
 
     /**
      * 검색 결과 중복 제거
      */
-    private List<Product> deduplicate(List<Product> products) {
+    static List<Product> deduplicate(List<Product> products) {
         if (products == null || products.isEmpty()) {
             return products;
         }
@@ -111,23 +201,38 @@ public class SearchService {
         Map<String, Product> uniqueMap = new LinkedHashMap<>();
 
         for (Product product : products) {
-            String normalizedTitle = normalizeTitle(product.getTitle());
-
-            String key =
-                    product.getId() + "|" +
-                    product.getLink() + "|" +
-                    normalizedTitle;
-
-            uniqueMap.putIfAbsent(key, product);
+            uniqueMap.putIfAbsent(productKey(product), product);
         }
 
         return new ArrayList<>(uniqueMap.values());
     }
 
+    /**
+     * 상품 동일성 키 (id + link + 정규화 title)
+     */
+    static String productKey(Product product) {
+        return product.getId() + "|" +
+                product.getLink() + "|" +
+                normalizeTitle(product.getTitle());
+    }
+
+    /**
+     * 상품 키 64bit 지문 (FNV-1a)
+     * - 대화 상태 저장용 (보여준 상품 기록을 키 문자열 대신 8바이트로)
+     */
+    static long keyFingerprint(String productKey) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < productKey.length(); i++) {
+            hash ^= productKey.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     /**
      * title 정규화
      */
-    private String normalizeTitle(String title) {
+    static String normalizeTitle(String title) {
         if (title == null) {
             return "";
         }
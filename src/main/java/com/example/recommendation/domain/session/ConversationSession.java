@@ -0,0 +1,63 @@
+package com.example.recommendation.domain.session;
+
+import com.example.recommendation.domain.criteria.ConversationContextService;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+
+/**
+ * 한 세션의 대화 상태 묶음
+ *
+ * - contextService : 검색 조건 누적 (ConversationContext)
+ * - homeState      : HOME 슬롯 EnumMap + 질문 맥락
+ *
+ * - 턴 시작 시 ConversationSessionManager.load, 턴 끝에 save
+ * - 한 턴 안에서만 쓰는 객체 (턴을 넘겨 보관 ❌)
+ * - stateToken : 무상태 모드에서 응답에 실어 보낼 토큰 (저장소 모드면 null)
+ */
+public class ConversationSession {
+
+    private final String sessionId;
+    private final ConversationContextService contextService;
+    private final HomeConversationState homeState;
+    private String stateToken;
+
+    public ConversationSession(
+            String sessionId,
+            ConversationContextService contextService,
+            HomeConversationState homeState
+    ) {
+        this.sessionId = sessionId;
+        this.contextService = contextService;
+        this.homeState = homeState;
+    }
+
+    /**
+     * 저장된 상태가 없는 새 세션
+     */
+    public static ConversationSession fresh(String sessionId) {
+        return new ConversationSession(
+                sessionId,
+                new ConversationContextService(),
+                new HomeConversationState()
+        );
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public ConversationContextService getContextService() {
+        return contextService;
+    }
+
+    public HomeConversationState getHomeState() {
+        return homeState;
+    }
+
+    public String getStateToken() {
+        return stateToken;
+    }
+
+    void setStateToken(String stateToken) {
+        this.stateToken = stateToken;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.recommendation.domain.session;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.ConversationContext;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 턴 단위 대화 상태 load / save
+ *
+ * [흐름]
+ * - 턴 시작: store.load → codec.decode (없으면 새 세션)
+ * - 턴 끝  : codec.encode → store.save
+ *
+ * [무상태 모드] conversation.stateless.enabled=true
+ * - store 대신 ConversationStateToken (요청 본문 stateToken ↔ 응답 stateToken)
+ * - 턴 시작: token.open → codec.decode (없거나 거절되면 새 세션, 세션 id도 토큰에서)
+ * - 턴 끝  : codec.encode → token.issue → session.stateToken
+ * - 저장이 없는 턴(잘못된 요청 등)은 받은 토큰을 그대로 돌려준다
+ *
+ * [검색 후보 창]
+ * - 저장소에는 query + 보여준 상품 지문만 (후보 목록은 크다)
+ * - 후보가 채워진 창은 노드 로컬 캐시에 보관
+ *   → 같은 노드로 온 RETRY_SEARCH는 네이버 재호출 ❌
+ *   → 다른 노드면 복원된 빈 창에서 다시 받아오되 보여준 상품은 제외
+ *
+ * [지표]
+ * - conversation.state.load / save{store} : 저장소 왕복 시간
+ * - conversation.state.bytes{store}       : 직렬화 크기
+ * - conversation.state.decode.failures    : 깨진 / 구버전 상태 (새 세션으로 시작)
+ * - conversation.state.token.rejected{reason} : 무상태 모드 토큰 거절
+ * - 무상태 모드는 store 태그가 token (load / save = 검증 / 발급, bytes = 토큰 길이)
+ *
+ * [세션 메모리]
+ * - 유휴 TTL / 세션 수 상한은 저장소가 보장 (conversation.store.*)
+ * - conversation.sessions.live{store}        : 살아 있는 세션 수
+ * - conversation.sessions.bytes{store}       : 세션 상태 전체 바이트 추정
+ * - conversation.sessions.bytes.per.session  : 세션당 바이트 추정
+ * - conversation.sessions.evicted{store}     : TTL / 상한으로 밀려난 세션 수
+ * - conversation.window-cache.sessions / candidates : 노드 로컬 창 캐시 (세션 수 / 후보 상품 수)
+ * - 저장소가 모르는 값(resp)은 NaN
+ *
+ * 판단 ❌
+ * 동시 턴 직렬화 ❌ → SessionTurnGate가 같은 세션 턴을 한 번에 하나씩 넘겨준다 (노드 로컬)
+ */
+@Component
+public class ConversationSessionManager {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ConversationSessionManager.class);
+
+    private final ConversationStateStore store;
+    private final ConversationStateToken stateToken;
+    private final boolean stateless;
+    private final Cache<String, SearchCandidateWindow> localWindows;
+
+    private final Timer loadTimer;
+    private final Timer saveTimer;
+    private final DistributionSummary stateBytes;
+    private final Counter decodeFailures;
+    private final Map<ConversationStateToken.Rejection, Counter> tokenRejections =
+            new EnumMap<>(ConversationStateToken.Rejection.class);
+
+    public ConversationSessionManager(
+            ConversationStateStore store,
+            ConversationStateToken stateToken,
+            MeterRegistry meterRegistry,
+            @Value("${conversation.stateless.enabled:false}") boolean stateless,
+            @Value("${conversation.store.idle-ttl-minutes:30}") long idleTtlMinutes,
+            @Value("${conversation.window-cache.max-sessions:10000}") long windowCacheMaxSessions
+    ) {
+        this.store = store;
+        this.stateToken = stateToken;
+        this.stateless = stateless;
+        this.localWindows = Caffeine.newBuilder()
+                .maximumSize(windowCacheMaxSessions)
+                .expireAfterAccess(Duration.ofMinutes(idleTtlMinutes))
+                .build();
+
+        String storeTag = stateless ? "token" : store.type();
+
+        this.loadTimer = Timer.builder("conversation.state.load")
+                .tag("store", storeTag)
+                .publishPercentileHistogram()
+                .description("대화 상태 저장소 조회 시간")
+                .register(meterRegistry);
+        this.saveTimer = Timer.builder("conversation.state.save")
+                .tag("store", storeTag)
+                .publishPercentileHistogram()
+                .description("대화 상태 저장소 저장 시간")
+                .register(meterRegistry);
+        this.stateBytes = DistributionSummary.builder("conversation.state.bytes")
+                .tag("store", storeTag)
+                .baseUnit("bytes")
+                .description("직렬화된 대화 상태 크기")
+                .register(meterRegistry);
+        this.decodeFailures = Counter.builder("conversation.state.decode.failures")
+                .description("복원 실패로 새 세션을 시작한 수")
+                .register(meterRegistry);
+        Gauge.builder("conversation.sessions.live", store, s -> known(s.sessionCount()))
+                .tag("store", store.type())
+                .description("살아 있는 대화 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("conversation.sessions.bytes", store, s -> known(s.estimatedBytes()))
+                .tag("store", store.type())
+                .baseUnit("bytes")
+                .description("대화 세션 상태 전체 바이트 추정")
+                .register(meterRegistry);
+        Gauge.builder("conversation.sessions.bytes.per.session", store,
+                        ConversationSessionManager::bytesPerSession)
+                .tag("store", store.type())
+                .baseUnit("bytes")
+                .description("대화 세션당 바이트 추정")
+                .register(meterRegistry);
+        FunctionCounter.builder("conversation.sessions.evicted", store,
+                        s -> known(s.evictedCount()))
+                .tag("store", store.type())
+                .description("유휴 TTL / 세션 수 상한으로 밀려난 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("conversation.window-cache.sessions", localWindows,
+                        cache -> cache.estimatedSize())
+                .description("검색 후보 창을 들고 있는 세션 수 (노드 로컬)")
+                .register(meterRegistry);
+        Gauge.builder("conversation.window-cache.candidates", localWindows,
+                        ConversationSessionManager::cachedCandidates)
+                .description("노드 로컬 창 캐시가 들고 있는 후보 상품 수")
+                .register(meterRegistry);
+
+        for (ConversationStateToken.Rejection rejection
+                : ConversationStateToken.Rejection.values()) {
+            tokenRejections.put(
+                    rejection,
+                    Counter.builder("conversation.state.token.rejected")
+                            .tag("reason", rejection.name().toLowerCase())
+                            .description("무상태 모드에서 거절한 상태 토큰 수")
+                            .register(meterRegistry)
+            );
+        }
+    }
+
+    /**
+     * 무상태 모드 여부 (세션 쿠키 발급 생략 판단용)
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * 턴 시작 시 세션 상태 복원 (없으면 새 세션)
+     */
+    public ConversationSession load(String sessionId) {
+        return load(sessionId, null);
+    }
+
+    /**
+     * 턴 시작 시 세션 상태 복원
+     *
+     * - 저장소 모드: sessionId로 조회 (stateToken 무시)
+     * - 무상태 모드: stateToken 검증 (sessionId 무시)
+     */
+    public ConversationSession load(String sessionId, String token) {
+
+        if (stateless) {
+            return loadFromToken(token);
+        }
+
+        byte[] bytes = loadTimer.record(() -> store.load(sessionId));
+
+        if (bytes == null) {
+            localWindows.invalidate(sessionId);
+            return ConversationSession.fresh(sessionId);
+        }
+
+        return decode(sessionId, bytes);
+    }
+
+    /**
+     * 턴 끝에 세션 상태 저장
+     */
+    public void save(ConversationSession session) {
+
+        byte[] bytes = ConversationStateCodec.encode(session);
+
+        if (stateless) {
+            String token = saveTimer.record(
+                    () -> stateToken.issue(session.getSessionId(), bytes)
+            );
+            stateBytes.record(token.length());
+            session.setStateToken(token);
+        } else {
+            stateBytes.record(bytes.length);
+            saveTimer.record(() -> store.save(session.getSessionId(), bytes));
+        }
+
+        SearchCandidateWindow window =
+                session.getContextService().getContext().getSearchWindow();
+        if (window != null) {
+            localWindows.put(session.getSessionId(), window);
+        } else {
+            localWindows.invalidate(session.getSessionId());
+        }
+    }
+
+    /**
+     * 대화 맥락(검색 조건)만 초기화 (/reset)
+     * - HOME 슬롯 상태는 유지
+     */
+    public void resetContext(String sessionId) {
+        resetContext(sessionId, null);
+    }
+
+    /**
+     * 대화 맥락 초기화 (무상태 모드 겸용)
+     *
+     * @return 무상태 모드면 새 토큰, 저장소 모드면 null
+     */
+    public String resetContext(String sessionId, String token) {
+        ConversationSession session = load(sessionId, token);
+        session.getContextService().reset();
+        save(session);
+        return session.getStateToken();
+    }
+
+    /**
+     * 무상태 모드 복원
+     * - 토큰이 없거나 거절되면 새 세션 (새 UUID)
+     */
+    private ConversationSession loadFromToken(String token) {
+
+        if (token == null || token.isBlank()) {
+            return ConversationSession.fresh(UUID.randomUUID().toString());
+        }
+
+        ConversationStateToken.Claims claims;
+        try {
+            claims = loadTimer.record(() -> stateToken.open(token));
+        } catch (ConversationStateToken.InvalidTokenException e) {
+            log.warn("[ConversationSession] reject state token: {}", e.getMessage());
+            tokenRejections.get(e.getRejection()).increment();
+            return ConversationSession.fresh(UUID.randomUUID().toString());
+        }
+
+        ConversationSession session = decode(claims.sessionId(), claims.state());
+        session.setStateToken(token);
+        return session;
+    }
+
+    private ConversationSession decode(String sessionId, byte[] bytes) {
+
+        ConversationSession session;
+        try {
+            session = ConversationStateCodec.decode(sessionId, bytes);
+        } catch (IllegalArgumentException e) {
+            log.warn("[ConversationSession] drop unreadable state session={}", sessionId, e);
+            decodeFailures.increment();
+            localWindows.invalidate(sessionId);
+            return ConversationSession.fresh(sessionId);
+        }
+
+        attachLocalWindow(session);
+        return session;
+    }
+
+    private static double known(long value) {
+        return value < 0 ? Double.NaN : value;
+    }
+
+    private static double bytesPerSession(ConversationStateStore store) {
+        long sessions = store.sessionCount();
+        long bytes = store.estimatedBytes();
+        if (sessions < 0 || bytes < 0) {
+            return Double.NaN;
+        }
+        return sessions == 0 ? 0 : (double) bytes / sessions;
+    }
+
+    private static double cachedCandidates(Cache<String, SearchCandidateWindow> windows) {
+        long candidates = 0;
+        for (SearchCandidateWindow window : windows.asMap().values()) {
+            candidates += window.candidateCount();
+        }
+        return candidates;
+    }
+
+    /**
+     * 복원된 빈 창 → 이 노드가 들고 있는 같은 창으로 교체
+     * (query와 보여준 상품이 같을 때만, 다른 노드가 그 사이 진행했으면 빈 창 유지)
+     */
+    private void attachLocalWindow(ConversationSession session) {
+
+        ConversationContext context =
+                session.getContextService().getContext();
+        SearchCandidateWindow restored = context.getSearchWindow();
+
+        if (restored == null) {
+            return;
+        }
+
+        SearchCandidateWindow local =
+                localWindows.getIfPresent(session.getSessionId());
+
+        if (local != null
+                && local.getQuery().equals(restored.getQuery())
+                && local.getShownFingerprints().equals(restored.getShownFingerprints())) {
+            context.setSearchWindow(local);
+        }
+    }
+}
@@ -0,0 +1,608 @@
+package com.example.recommendation.domain.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.recommendation.domain.criteria.ConversationContext;
+import com.example.recommendation.domain.criteria.ConversationContextService;
+import com.example.recommendation.domain.criteria.ConversationPhase;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.answer.PendingQuestionContext;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.slot.SlotState;
+import com.example.recommendation.domain.home.slot.SlotStatus;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+
+/**
+ * 대화 상태 ↔ byte[] 변환 (저장소 공통 직렬화 형식)
+ *
+ * [형식 v3] 순서 고정, 정수는 모두 varint (음수는 zigzag)
+ * - version(1B)
+ * - flags(1B)       : keyword / brand / price / window 유무 + 질문 맥락 boolean 2개
+ * - enums(1B)       : intent(2bit) | phase(2bit)
+ * - turnCount / retryCount / [priceMax]
+ * - [keyword] [brand] / 옵션 키워드 / 제외 키워드
+ * - slotBits        : 슬롯마다 status(3bit) + value 타입(2bit), DecisionSlot 선언 순서
+ * - 슬롯 value      : 타입이 null이 아닌 슬롯만
+ * - questionSlots   : lastAsked | lastJumped | lastGuided (각 3bit) + guideCount
+ * - [창]            : query + 보여준 상품 지문(8B 고정)
+ *
+ * [문자열]
+ * - varint 하나, 하위 2bit 태그로 종류 구분 (나머지 bit = 번호 / 길이)
+ *   - 00 사전 참조 : 고정 사전(DICTIONARY)의 번호
+ *   - 01 리터럴    : UTF-8 길이 + 바이트 (이후 같은 문자열은 back-ref로)
+ *   - 10 back-ref  : 이 메시지에서 앞서 나온 리터럴의 순번 (0부터)
+ * - 사전 번호와 back-ref 번호는 서로 다른 번호 공간 → 사전 크기가 back-ref 해석에 영향 ❌
+ * - "노트북"처럼 keyword / 슬롯 값에 반복되는 값은 한 번만 기록
+ *
+ * [호환]
+ * - enum은 ordinal 기준 → 상수 추가는 뒤에만, 순서 변경 ❌
+ * - DICTIONARY 뒤에 추가: 기존 상태는 그대로 읽힌다 (기존 번호 불변, back-ref는 별도 번호)
+ *   단, 추가한 단어로 쓴 상태는 추가 전 노드가 못 읽는다 (롤링 배포 중 → 새 세션)
+ * - DICTIONARY 순서 변경 / 삭제: 기존 번호가 바뀐다 → 반드시 VERSION 올림
+ * - 모르는 버전 / 모르는 번호는 IllegalArgumentException → 새 세션으로 시작
+ *
+ * 판단 ❌
+ * 저장 ❌ (ConversationStateStore 담당)
+ */
+final class ConversationStateCodec {
+
+    // v3: 문자열 back-ref를 사전 번호와 분리 (v2는 사전 크기 + 순번)
+    static final byte VERSION = 3;
+
+    /**
+     * 고정 문자열 사전 (카테고리 / 브랜드 / 자주 나오는 옵션 키워드)
+     * - 뒤에만 추가
+     */
+    static final List<String> DICTIONARY = List.of(
+            // 카테고리
+            "노트북", "청소기", "무선청소기", "로봇청소기", "가습기", "제습기",
+            "의자", "선풍기", "서큘레이터", "향수", "무선이어폰", "이어폰",
+            "헤드폰", "스피커", "냉장고", "세탁기", "건조기", "에어컨",
+            "모니터", "키보드", "마우스", "태블릿", "스마트폰", "스마트워치",
+            "공기청정기", "밥솥", "커피머신", "에어프라이어", "전자레인지",
+            "드라이기", "면도기", "전동칫솔", "운동화", "백팩", "텀블러",
+            "캠핑의자", "안마기",
+            // 브랜드
+            "LG", "삼성", "애플", "다이슨", "소니", "샤오미", "필립스",
+            "쿠쿠", "쿠첸", "위닉스", "보스", "로지텍", "레노버", "에이수스",
+            "HP", "델", "나이키", "아디다스", "뉴발란스", "브라운", "테팔",
+            // 옵션 키워드
+            "가벼운", "무선", "유선", "저소음", "대용량", "소형", "미니",
+            "휴대용", "가성비", "고급", "게이밍", "사무용", "학생용", "업무용",
+            "선물용", "블루투스", "방수", "접이식", "허리", "편한", "조용한",
+            "세련된", "심플한", "튼튼한", "오래가는", "빠른", "화이트", "블랙"
+    );
+
+    private static final StringDictionary DEFAULT_DICTIONARY =
+            new StringDictionary(DICTIONARY);
+
+    private static final DecisionSlot[] SLOTS = DecisionSlot.values();
+    private static final SlotStatus[] STATUSES = SlotStatus.values();
+    private static final UserIntentType[] INTENTS = UserIntentType.values();
+    private static final ConversationPhase[] PHASES = ConversationPhase.values();
+
+    // flags
+    private static final int HAS_KEYWORD = 1;
+    private static final int HAS_BRAND = 1 << 1;
+    private static final int HAS_PRICE = 1 << 2;
+    private static final int HAS_WINDOW = 1 << 3;
+    private static final int QUESTION_ANSWERED = 1 << 4;
+    private static final int ANSWER_UNKNOWN = 1 << 5;
+
+    // 슬롯 value 타입 (2bit)
+    private static final int VALUE_NULL = 0;
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_INT = 2;
+    private static final int VALUE_LONG = 3;
+
+    // 문자열 태그 (하위 2bit)
+    private static final int STRING_TAG_BITS = 2;
+    private static final int STRING_DICTIONARY = 0;
+    private static final int STRING_LITERAL = 1;
+    private static final int STRING_BACK_REF = 2;
+
+    private static final int SLOT_BITS = 5;
+    private static final int SLOT_REF_BITS = 3;
+
+    static {
+        // 비트 폭이 enum 크기를 못 담으면 형식을 바꿔야 한다
+        if (STATUSES.length > 8
+                || SLOTS.length > 7
+                || SLOTS.length * SLOT_BITS > 63
+                || INTENTS.length > 3
+                || PHASES.length > 3) {
+            throw new IllegalStateException(
+                    "conversation state bit layout no longer fits enums"
+            );
+        }
+    }
+
+    private ConversationStateCodec() {
+    }
+
+    /* =====================
+       인코딩
+       ===================== */
+
+    static byte[] encode(ConversationSession session) {
+        return encode(session, DEFAULT_DICTIONARY);
+    }
+
+    /**
+     * 다른 사전으로 인코딩 (사전 변경 호환 테스트용)
+     */
+    static byte[] encode(ConversationSession session, List<String> dictionary) {
+        return encode(session, new StringDictionary(dictionary));
+    }
+
+    private static byte[] encode(
+            ConversationSession session,
+            StringDictionary dictionary
+    ) {
+
+        Writer out = new Writer(dictionary);
+
+        ConversationContext context =
+                session.getContextService().getContext();
+        HomeConversationState homeState = session.getHomeState();
+        PendingQuestionContext question = homeState.getQuestionContext();
+        SearchCandidateWindow window = context.getSearchWindow();
+
+        int flags = 0;
+        if (context.getConfirmedKeyword() != null) flags |= HAS_KEYWORD;
+        if (context.getPreferredBrand() != null) flags |= HAS_BRAND;
+        if (context.getPriceMax() != null) flags |= HAS_PRICE;
+        if (window != null) flags |= HAS_WINDOW;
+        if (question.isLastQuestionAnswered()) flags |= QUESTION_ANSWERED;
+        if (question.wasLastAnswerUnknown()) flags |= ANSWER_UNKNOWN;
+
+        out.writeByte(VERSION);
+        out.writeByte(flags);
+        out.writeByte(code(context.getIntentType()) | code(context.getPhase()) << 2);
+
+        out.writeVarLong(context.getTurnCount());
+        out.writeVarLong(context.getRetryCount());
+        if (context.getPriceMax() != null) {
+            out.writeVarLong(zigzag(context.getPriceMax()));
+        }
+
+        if (context.getConfirmedKeyword() != null) {
+            out.writeString(context.getConfirmedKeyword());
+        }
+        if (context.getPreferredBrand() != null) {
+            out.writeString(context.getPreferredBrand());
+        }
+        out.writeStrings(context.getOptionKeywords());
+        out.writeStrings(context.getExcludedKeywords());
+
+        long slotBits = 0;
+        for (int i = 0; i < SLOTS.length; i++) {
+            SlotState slotState = homeState.getSlot(SLOTS[i]);
+            long packed = slotState.getStatus().ordinal()
+                    | (long) valueType(slotState.getValue()) << 3;
+            slotBits |= packed << (i * SLOT_BITS);
+        }
+        out.writeVarLong(slotBits);
+
+        for (DecisionSlot slot : SLOTS) {
+            Object value = homeState.getSlot(slot).getValue();
+            switch (valueType(value)) {
+                case VALUE_STRING -> out.writeString(value.toString());
+                case VALUE_INT -> out.writeVarLong(zigzag((Integer) value));
+                case VALUE_LONG -> out.writeVarLong(zigzag((Long) value));
+                default -> {
+                    // null → 타입 bit만
+                }
+            }
+        }
+
+        out.writeVarLong(
+                code(question.getLastAskedSlot())
+                        | code(question.getLastJumpedSlot()) << SLOT_REF_BITS
+                        | code(question.getLastGuidedSlot()) << (SLOT_REF_BITS * 2)
+        );
+        out.writeVarLong(question.getGuideCountSinceLastQuestion());
+
+        if (window != null) {
+            out.writeString(window.getQuery());
+            Set<Long> shown = window.getShownFingerprints();
+            out.writeVarLong(shown.size());
+            for (long fingerprint : shown) {
+                out.writeLong(fingerprint);
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    /* =====================
+       디코딩
+       ===================== */
+
+    /**
+     * @throws IllegalArgumentException 버전이 다르거나 깨진 데이터
+     */
+    static ConversationSession decode(String sessionId, byte[] bytes) {
+        return decode(sessionId, bytes, DEFAULT_DICTIONARY);
+    }
+
+    /**
+     * 다른 사전으로 디코딩 (사전 변경 호환 테스트용)
+     */
+    static ConversationSession decode(
+            String sessionId,
+            byte[] bytes,
+            List<String> dictionary
+    ) {
+        return decode(sessionId, bytes, new StringDictionary(dictionary));
+    }
+
+    private static ConversationSession decode(
+            String sessionId,
+            byte[] bytes,
+            StringDictionary dictionary
+    ) {
+
+        try {
+            Reader in = new Reader(bytes, dictionary);
+
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(
+                        "unsupported conversation state version: " + version
+                );
+            }
+
+            int flags = in.readByte();
+            int enums = in.readByte();
+
+            int turnCount = (int) in.readVarLong();
+            int retryCount = (int) in.readVarLong();
+            Integer priceMax = (flags & HAS_PRICE) != 0
+                    ? (int) unzigzag(in.readVarLong())
+                    : null;
+
+            String confirmedKeyword =
+                    (flags & HAS_KEYWORD) != 0 ? in.readString() : null;
+            String preferredBrand =
+                    (flags & HAS_BRAND) != 0 ? in.readString() : null;
+            List<String> optionKeywords = in.readStrings();
+            List<String> excludedKeywords = in.readStrings();
+
+            ConversationContext context =
+                    ConversationContext.restore(
+                            fromCode(enums & 0b11, INTENTS),
+                            confirmedKeyword,
+                            optionKeywords,
+                            excludedKeywords,
+                            preferredBrand,
+                            priceMax,
+                            turnCount,
+                            retryCount,
+                            fromCode(enums >> 2 & 0b11, PHASES)
+                    );
+
+            HomeConversationState homeState = new HomeConversationState();
+
+            long slotBits = in.readVarLong();
+            for (int i = 0; i < SLOTS.length; i++) {
+                int packed = (int) (slotBits >>> (i * SLOT_BITS)) & 0b11111;
+                SlotStatus status = STATUSES[packed & 0b111];
+                Object value = switch (packed >> 3) {
+                    case VALUE_STRING -> in.readString();
+                    case VALUE_INT -> (int) unzigzag(in.readVarLong());
+                    case VALUE_LONG -> unzigzag(in.readVarLong());
+                    default -> null;
+                };
+                homeState.getSlot(SLOTS[i]).restore(status, value);
+            }
+
+            int questionSlots = (int) in.readVarLong();
+            int slotMask = (1 << SLOT_REF_BITS) - 1;
+            homeState.getQuestionContext().restore(
+                    fromCode(questionSlots & slotMask, SLOTS),
+                    fromCode(questionSlots >> SLOT_REF_BITS & slotMask, SLOTS),
+                    (flags & QUESTION_ANSWERED) != 0,
+                    fromCode(questionSlots >> (SLOT_REF_BITS * 2) & slotMask, SLOTS),
+                    (flags & ANSWER_UNKNOWN) != 0,
+                    (int) in.readVarLong()
+            );
+
+            if ((flags & HAS_WINDOW) != 0) {
+                String query = in.readString();
+                int shownCount = (int) in.readVarLong();
+                List<Long> shown = new ArrayList<>(Math.min(shownCount, 1024));
+                for (int i = 0; i < shownCount; i++) {
+                    shown.add(in.readLong());
+                }
+                context.setSearchWindow(
+                        SearchCandidateWindow.restore(query, shown)
+                );
+            }
+
+            in.requireFullyRead();
+
+            return new ConversationSession(
+                    sessionId,
+                    new ConversationContextService(context),
+                    homeState
+            );
+
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException(
+                    "corrupted conversation state", e
+            );
+        }
+    }
+
+    /* =====================
+       enum / 정수 코드
+       ===================== */
+
+    private static int code(Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+
+    private static <E extends Enum<E>> E fromCode(int code, E[] values) {
+        return code == 0 ? null : values[code - 1];
+    }
+
+    private static int valueType(Object value) {
+        if (value == null) {
+            return VALUE_NULL;
+        }
+        if (value instanceof Integer) {
+            return VALUE_INT;
+        }
+        if (value instanceof Long) {
+            return VALUE_LONG;
+        }
+        return VALUE_STRING;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long stringHeader(long value, int tag) {
+        return value << STRING_TAG_BITS | tag;
+    }
+
+    /**
+     * 고정 문자열 사전 + 역색인
+     */
+    private static final class StringDictionary {
+
+        private final List<String> words;
+        private final Map<String, Integer> index;
+
+        StringDictionary(List<String> words) {
+            this.words = List.copyOf(words);
+            this.index = new HashMap<>(words.size() * 2);
+            for (int i = 0; i < words.size(); i++) {
+                if (index.putIfAbsent(words.get(i), i) != null) {
+                    throw new IllegalStateException(
+                            "duplicate dictionary entry: " + words.get(i)
+                    );
+                }
+            }
+        }
+
+        Integer indexOf(String word) {
+            return index.get(word);
+        }
+
+        String get(int ref) {
+            if (ref >= words.size()) {
+                throw new IndexOutOfBoundsException("unknown dictionary reference " + ref);
+            }
+            return words.get(ref);
+        }
+    }
+
+    /* =====================
+       바이트 버퍼
+       ===================== */
+
+    /**
+     * 가변 길이 쓰기 버퍼 (+ 이 메시지에서 나온 문자열 번호표)
+     */
+    private static final class Writer {
+
+        private final StringDictionary dictionary;
+
+        private byte[] buffer = new byte[128];
+        private int size;
+
+        private String[] seen = new String[8];
+        private int seenCount;
+
+        Writer(StringDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            Integer ref = dictionary.indexOf(value);
+            if (ref != null) {
+                writeVarLong(stringHeader(ref, STRING_DICTIONARY));
+                return;
+            }
+            for (int i = 0; i < seenCount; i++) {
+                if (seen[i].equals(value)) {
+                    writeVarLong(stringHeader(i, STRING_BACK_REF));
+                    return;
+                }
+            }
+
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(stringHeader(utf8.length, STRING_LITERAL));
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+
+            if (seenCount == seen.length) {
+                seen = Arrays.copyOf(seen, seenCount * 2);
+            }
+            seen[seenCount++] = value;
+        }
+
+        void writeStrings(Set<String> values) {
+            writeVarLong(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(
+                        buffer,
+                        Math.max(buffer.length * 2, size + extra)
+                );
+            }
+        }
+    }
+
+    /**
+     * 읽기 커서 (범위 밖 읽기 → IndexOutOfBoundsException)
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private final StringDictionary dictionary;
+        private int position;
+
+        private String[] seen = new String[8];
+        private int seenCount;
+
+        Reader(byte[] bytes, StringDictionary dictionary) {
+            this.bytes = bytes;
+            this.dictionary = dictionary;
+        }
+
+        int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = value << 8 | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() {
+            long header = readVarLong();
+            int tag = (int) (header & ((1 << STRING_TAG_BITS) - 1));
+            long payload = header >>> STRING_TAG_BITS;
+
+            switch (tag) {
+                case STRING_DICTIONARY -> {
+                    return dictionary.get(checkedIndex(payload));
+                }
+                case STRING_BACK_REF -> {
+                    return seenAt(checkedIndex(payload));
+                }
+                case STRING_LITERAL -> {
+                    // 아래에서 읽는다
+                }
+                default -> throw new IllegalArgumentException(
+                        "unknown string tag " + tag
+                );
+            }
+
+            int length = checkedIndex(payload);
+            if (length > bytes.length - position) {
+                throw new IndexOutOfBoundsException("string past end of state");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+
+            if (seenCount == seen.length) {
+                seen = Arrays.copyOf(seen, seenCount * 2);
+            }
+            seen[seenCount++] = value;
+            return value;
+        }
+
+        List<String> readStrings() {
+            int size = (int) readVarLong();
+            List<String> values = new ArrayList<>(Math.min(size, 64));
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        void requireFullyRead() {
+            if (position != bytes.length) {
+                throw new IllegalArgumentException(
+                        "trailing bytes in conversation state"
+                );
+            }
+        }
+
+        private static int checkedIndex(long value) {
+            if (value > Integer.MAX_VALUE) {
+                throw new IndexOutOfBoundsException("string reference too large");
+            }
+            return (int) value;
+        }
+
+        private String seenAt(int index) {
+            if (index >= seenCount) {
+                throw new IndexOutOfBoundsException("unknown string reference " + index);
+            }
+            return seen[index];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.recommendation.domain.session;
+
+/**
+ * 세션 id → 직렬화된 대화 상태 저장소
+ *
+ * [구현]
+ * - memory : 프로세스 내부 (단일 노드 / 개발용)
+ * - jdbc   : H2 (embedded 또는 tcp 서버 모드로 여러 노드 공유)
+ * - resp   : Redis 프로토콜 (GET / SET EX / DEL)
+ *
+ * - 값은 ConversationStateCodec이 만든 byte[] 그대로 (해석 ❌)
+ * - 유휴 TTL은 구현이 보장 (마지막 save 기준, load는 연장 ❌)
+ * - 세션 수 상한은 구현이 보장 (넘으면 마지막 save가 오래된 대화부터 밀어낸다)
+ * - 실패는 예외로 전파 (삼키기 ❌)
+ */
+public interface ConversationStateStore {
+
+    /**
+     * @return 저장된 상태, 없거나 만료됐으면 null
+     */
+    byte[] load(String sessionId);
+
+    void save(String sessionId, byte[] state);
+
+    void delete(String sessionId);
+
+    /**
+     * 살아 있는 세션 수 (모르면 -1)
+     */
+    long sessionCount();
+
+    /**
+     * 세션 상태가 차지하는 바이트 추정 (모르면 -1)
+     */
+    long estimatedBytes();
+
+    /**
+     * TTL / 상한으로 밀려난 누적 세션 수 (모르면 -1)
+     */
+    long evictedCount();
+
+    /**
+     * 지표 태그용 구현 이름
+     */
+    String type();
+}
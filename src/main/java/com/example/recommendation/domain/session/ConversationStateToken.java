@@ -0,0 +1,259 @@
+package com.example.recommendation.domain.session;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 무상태 모드 대화 상태 토큰 (conversation.stateless.enabled)
+ *
+ * - 서버 저장소 ❌ → 상태 전체를 클라이언트가 들고 다음 요청에 그대로 돌려준다
+ *   → 세션 메모리 / sticky 라우팅 / 교차 사이트 쿠키 불필요
+ *
+ * [형식] base64url( header | payload | tag )
+ * - header  : version(1) | flags(1) | 발급 시각 epoch 초(4) | 세션 UUID(16)
+ * - payload : ConversationStateCodec 바이트 (flags 압축 비트면 raw deflate)
+ * - tag     : HMAC-SHA256(header | payload) 앞 16바이트
+ *
+ * [검증 순서]
+ * - 길이 → base64 → version → tag (상수 시간 비교) → 만료 → 압축 해제
+ *   → 서명이 맞는 토큰만 inflate (해제 크기도 상한)
+ *
+ * - 압축은 COMPRESS_MIN_BYTES 이상이고 실제로 줄어들 때만
+ *   → 보통 상태(~180B)는 대부분 지문 / 사전 참조라 줄지 않고 Deflater 초기화만 10배 비싸다
+ * - 만료: 발급 후 idle TTL (턴마다 새로 발급되므로 저장소 TTL과 같은 의미)
+ * - 같은 토큰 재사용(이전 턴으로 되돌리기)은 막지 않는다 → 클라이언트 자기 상태라 피해 ❌
+ *
+ * 판단 ❌ / 상태 해석 ❌ → 서명 + 봉투만
+ */
+public class ConversationStateToken {
+
+    public static final byte VERSION = 1;
+
+    // HTTP 본문 필드 상한 (정상 토큰은 수백 바이트)
+    public static final int MAX_TOKEN_CHARS = 4096;
+
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int COMPRESS_MIN_BYTES = 256;
+
+    private static final int HEADER_BYTES = 1 + 1 + 4 + 16;
+    private static final int TAG_BYTES = 16;
+    private static final int MAX_STATE_BYTES = 16 * 1024;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER =
+            Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER =
+            Base64.getUrlDecoder();
+
+    /**
+     * 거절 사유 (conversation.state.token.rejected{reason})
+     */
+    public enum Rejection {
+        MALFORMED,
+        SIGNATURE,
+        EXPIRED
+    }
+
+    /**
+     * 서명 검증을 통과한 토큰 내용
+     */
+    public record Claims(
+            String sessionId,
+            long issuedAtSeconds,
+            byte[] state
+    ) {
+    }
+
+    public static class InvalidTokenException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Rejection rejection;
+
+        InvalidTokenException(Rejection rejection, String message) {
+            super(message);
+            this.rejection = rejection;
+        }
+
+        public Rejection getRejection() {
+            return rejection;
+        }
+    }
+
+    private final Mac prototype;
+    private final Duration ttl;
+    private final boolean compress;
+    private final Clock clock;
+
+    public ConversationStateToken(byte[] key, Duration ttl, boolean compress) {
+        this(key, ttl, compress, Clock.systemUTC());
+    }
+
+    public ConversationStateToken(
+            byte[] key,
+            Duration ttl,
+            boolean compress,
+            Clock clock
+    ) {
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC init failed", e);
+        }
+        this.ttl = ttl;
+        this.compress = compress;
+        this.clock = clock;
+    }
+
+    /**
+     * 상태 바이트 → 서명된 토큰
+     */
+    public String issue(String sessionId, byte[] state) {
+
+        byte[] payload = state;
+        int flags = 0;
+
+        if (compress && state.length >= COMPRESS_MIN_BYTES) {
+            byte[] deflated = deflate(state);
+            if (deflated.length < state.length) {
+                payload = deflated;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+
+        UUID uuid = UUID.fromString(sessionId);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length + TAG_BYTES);
+        buffer.put(VERSION)
+                .put((byte) flags)
+                .putInt((int) clock.instant().getEpochSecond())
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .put(payload);
+
+        byte[] token = buffer.array();
+        byte[] tag = sign(token, token.length - TAG_BYTES);
+        System.arraycopy(tag, 0, token, token.length - TAG_BYTES, TAG_BYTES);
+
+        return ENCODER.encodeToString(token);
+    }
+
+    /**
+     * 토큰 검증 → 세션 id + 상태 바이트
+     *
+     * @throws InvalidTokenException 형식 / 서명 / 만료 실패
+     */
+    public Claims open(String token) {
+
+        if (token.length() > MAX_TOKEN_CHARS) {
+            throw new InvalidTokenException(Rejection.MALFORMED, "token too long");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException(Rejection.MALFORMED, "not base64url");
+        }
+
+        if (bytes.length < HEADER_BYTES + TAG_BYTES || bytes[0] != VERSION) {
+            throw new InvalidTokenException(Rejection.MALFORMED, "bad header");
+        }
+
+        int signedLength = bytes.length - TAG_BYTES;
+        byte[] expected = sign(bytes, signedLength);
+        if (!MessageDigest.isEqual(
+                expected,
+                Arrays.copyOfRange(bytes, signedLength, bytes.length))) {
+            throw new InvalidTokenException(Rejection.SIGNATURE, "bad signature");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, signedLength - 1);
+        int flags = buffer.get();
+        long issuedAt = Integer.toUnsignedLong(buffer.getInt());
+        String sessionId = new UUID(buffer.getLong(), buffer.getLong()).toString();
+
+        if (issuedAt + ttl.toSeconds() < clock.instant().getEpochSecond()) {
+            throw new InvalidTokenException(Rejection.EXPIRED, "expired");
+        }
+
+        byte[] payload = Arrays.copyOfRange(bytes, HEADER_BYTES, signedLength);
+        byte[] state = (flags & FLAG_COMPRESSED) != 0
+                ? inflate(payload)
+                : payload;
+
+        return new Claims(sessionId, issuedAt, state);
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    /**
+     * Mac은 스레드 안전 ❌ → 초기화된 원본을 복제 (getInstance + init보다 싸다)
+     */
+    private byte[] sign(byte[] data, int length) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC clone failed", e);
+        }
+        mac.update(data, 0, length);
+        return Arrays.copyOf(mac.doFinal(), TAG_BYTES);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] buffer = new byte[input.length + 16];
+            int length = deflater.deflate(buffer);
+            return deflater.finished()
+                    ? Arrays.copyOf(buffer, length)
+                    : input;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new InvalidTokenException(Rejection.MALFORMED, "truncated payload");
+                }
+                out.write(buffer, 0, length);
+                if (out.size() > MAX_STATE_BYTES) {
+                    throw new InvalidTokenException(Rejection.MALFORMED, "payload too large");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new InvalidTokenException(Rejection.MALFORMED, "bad payload");
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.recommendation.domain.session;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로세스 내부 대화 상태 저장소
+ *
+ * - 노드 하나에서만 유효 (여러 노드 → jdbc / resp)
+ * - 저장 형식은 다른 구현과 같은 byte[] → 직렬화 경로를 항상 탄다
+ * - 유휴 TTL: 마지막 save 기준 (load는 연장 ❌) → jdbc / resp 구현과 같다
+ * - 세션 수 상한: maxSessions (넘으면 가장 오래전에 저장된 세션부터 밀어낸다)
+ *
+ * [밀어내기 순서] LRU (마지막 save 순서 LinkedHashMap)
+ * - jdbc 구현(updated_at 최신 maxSessions개)과 같은 순서
+ * - 턴마다 load → save → 사실상 마지막 턴 순서
+ * - Caffeine W-TinyLFU ❌
+ *   → 봇 폭주처럼 한 번 오고 마는 세션이 계속 몰리면 창 크기가 바뀌면서
+ *     자주 쓰던 대화도 섞여 밀려난다 (어떤 세션이 남을지 예측 ❌)
+ * - 폭주 중에도 턴이 이어지는 대화는 남고, 폭주 동안 쉬던 대화는 오래된 것부터 밀려난다
+ * - 목록의 머리 = 가장 오래전에 저장된 세션 → 만료 정리도 머리부터 (만료된 것만 훑는다)
+ *
+ * [동시성]
+ * - 연산마다 락 하나 (load도 만료 정리를 하므로 락 안에서)
+ *   → 연산은 O(1), 단일 노드용이라 충분
+ *
+ * [바이트 추정]
+ * - 상태 byte[] 길이 합 + 세션당 고정 비용 (키 문자열 + 배열 헤더 + 맵 엔트리)
+ */
+public class InMemoryConversationStateStore implements ConversationStateStore {
+
+    // UUID 키 String(~80B) + byte[] 헤더(16B) + LinkedHashMap 엔트리 / Entry(~64B)
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final long idleTtlNanos;
+    private final long maxSessions;
+
+    // 삽입 순서 → save는 지웠다 다시 넣어 꼬리로 이동 (load는 순서 그대로)
+    private final LinkedHashMap<String, Entry> states = new LinkedHashMap<>();
+
+    private long payloadBytes;
+    private long evicted;
+
+    public InMemoryConversationStateStore(Duration idleTtl, long maxSessions) {
+        this.idleTtlNanos = idleTtl.toNanos();
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public byte[] load(String sessionId) {
+        long now = System.nanoTime();
+        synchronized (states) {
+            expire(now);
+            Entry entry = states.get(sessionId);
+            return entry == null ? null : entry.state();
+        }
+    }
+
+    @Override
+    public void save(String sessionId, byte[] state) {
+        long now = System.nanoTime();
+        synchronized (states) {
+            expire(now);
+            Entry previous = states.remove(sessionId);
+            states.put(sessionId, new Entry(state, now));
+            payloadBytes += state.length - (previous == null ? 0 : previous.state().length);
+
+            // 상한 초과 → 머리(가장 오래전에 저장된 세션)부터
+            Iterator<Entry> eldest = states.values().iterator();
+            while (states.size() > maxSessions) {
+                evict(eldest);
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        synchronized (states) {
+            Entry previous = states.remove(sessionId);
+            if (previous != null) {
+                payloadBytes -= previous.state().length;
+            }
+        }
+    }
+
+    @Override
+    public long sessionCount() {
+        synchronized (states) {
+            return states.size();
+        }
+    }
+
+    @Override
+    public long estimatedBytes() {
+        synchronized (states) {
+            return payloadBytes + (long) states.size() * ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    @Override
+    public long evictedCount() {
+        synchronized (states) {
+            return evicted;
+        }
+    }
+
+    /**
+     * 만료 즉시 반영 (테스트용)
+     */
+    void cleanUp() {
+        synchronized (states) {
+            expire(System.nanoTime());
+        }
+    }
+
+    @Override
+    public String type() {
+        return "memory";
+    }
+
+    /* =====================
+       내부 (states 락 안에서만)
+       ===================== */
+
+    /**
+     * 머리부터 유휴 TTL이 지난 세션 제거 → 만료 ❌ 세션을 만나면 멈춤
+     */
+    private void expire(long now) {
+        Iterator<Entry> eldest = states.values().iterator();
+        while (eldest.hasNext()) {
+            Entry entry = eldest.next();
+            if (now - entry.savedAt() < idleTtlNanos) {
+                return;
+            }
+            payloadBytes -= entry.state().length;
+            evicted++;
+            eldest.remove();
+        }
+    }
+
+    private void evict(Iterator<Entry> eldest) {
+        Entry entry = eldest.next();
+        payloadBytes -= entry.state().length;
+        evicted++;
+        eldest.remove();
+    }
+
+    private record Entry(byte[] state, long savedAt) {
+    }
+}
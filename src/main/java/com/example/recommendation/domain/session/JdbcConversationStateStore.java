@@ -0,0 +1,166 @@
+package com.example.recommendation.domain.session;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2 대화 상태 저장소
+ *
+ * - 기본 datasource(H2) 사용
+ *   → 여러 노드가 공유하려면 spring.datasource.url을 H2 tcp 서버로 지정
+ * - 테이블은 없으면 생성 (conversation_state)
+ * - 유휴 TTL: updated_at 기준, 만료 행은 save 중 주기적으로 정리
+ * - 세션 수 상한: 같은 정리 때 updated_at 최신 maxSessions개만 남긴다 (LRU)
+ *   → updated_at이 같으면 session_id 순 (경계 시각 동률 행을 한꺼번에 지우기 ❌)
+ *   → 정리 주기 사이에는 잠깐 넘을 수 있다 (주기 최대 10초)
+ *
+ * [지표]
+ * - 세션 수 / 바이트는 정리 때 한 번 세어 둔 값 (스크레이프마다 COUNT / SUM ❌)
+ *   → 정리 주기만큼 늦을 수 있다, save가 없는 노드에서는 마지막 정리 시점 값
+ */
+public class JdbcConversationStateStore implements ConversationStateStore {
+
+    static final String TABLE = "conversation_state";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long idleTtlMs;
+    private final long maxSessions;
+
+    // 만료 / 초과 행 정리 주기 (TTL의 1/4, 1초 ~ 10초)
+    private final long purgeIntervalMs;
+    private final AtomicLong lastPurgeAt = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    // 마지막 정리 때 센 값 (지표용)
+    private volatile long sessionCountSnapshot;
+    private volatile long bytesSnapshot;
+
+    public JdbcConversationStateStore(
+            JdbcTemplate jdbcTemplate,
+            Duration idleTtl,
+            long maxSessions
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleTtlMs = idleTtl.toMillis();
+        this.maxSessions = maxSessions;
+        this.purgeIntervalMs = Math.max(1000, Math.min(10_000, idleTtlMs / 4));
+
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                        + "session_id VARCHAR(64) PRIMARY KEY, "
+                        + "state VARBINARY(65536) NOT NULL, "
+                        + "updated_at BIGINT NOT NULL)"
+        );
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS " + TABLE + "_updated_at"
+                        + " ON " + TABLE + " (updated_at)"
+        );
+
+        refreshSnapshot(System.currentTimeMillis());
+    }
+
+    @Override
+    public byte[] load(String sessionId) {
+        List<byte[]> rows = jdbcTemplate.query(
+                "SELECT state FROM " + TABLE
+                        + " WHERE session_id = ? AND updated_at >= ?",
+                (rs, rowNum) -> rs.getBytes(1),
+                sessionId,
+                System.currentTimeMillis() - idleTtlMs
+        );
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public void save(String sessionId, byte[] state) {
+        long now = System.currentTimeMillis();
+
+        jdbcTemplate.update(
+                "MERGE INTO " + TABLE
+                        + " (session_id, state, updated_at) KEY (session_id)"
+                        + " VALUES (?, ?, ?)",
+                sessionId,
+                state,
+                now
+        );
+
+        purgeExpired(now);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE session_id = ?",
+                sessionId
+        );
+    }
+
+    @Override
+    public long sessionCount() {
+        return sessionCountSnapshot;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return bytesSnapshot;
+    }
+
+    @Override
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    @Override
+    public String type() {
+        return "jdbc";
+    }
+
+    /**
+     * 만료 / 초과 행 정리 (노드당 주기마다 1회, 경합 시 한 스레드만)
+     */
+    private void purgeExpired(long now) {
+        long last = lastPurgeAt.get();
+        if (now - last < purgeIntervalMs
+                || !lastPurgeAt.compareAndSet(last, now)) {
+            return;
+        }
+        purge(now);
+    }
+
+    /**
+     * 만료 행 삭제 → 남은 행 중 최신 maxSessions개 밖의 오래된 행 삭제 → 지표 값 갱신
+     */
+    void purge(long now) {
+        int expired = jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE updated_at < ?",
+                now - idleTtlMs
+        );
+        // 같은 밀리초 저장이 몰려도 정확히 maxSessions개 (session_id로 동률 정리)
+        int overflow = jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE session_id NOT IN ("
+                        + "SELECT session_id FROM " + TABLE
+                        + " ORDER BY updated_at DESC, session_id LIMIT ?)",
+                maxSessions
+        );
+        evicted.addAndGet(expired + overflow);
+
+        refreshSnapshot(now);
+    }
+
+    private void refreshSnapshot(long now) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE updated_at >= ?",
+                Long.class,
+                now - idleTtlMs
+        );
+        Long bytes = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(OCTET_LENGTH(state)), 0) FROM " + TABLE,
+                Long.class
+        );
+        sessionCountSnapshot = count == null ? 0 : count;
+        bytesSnapshot = bytes == null ? 0 : bytes;
+    }
+}
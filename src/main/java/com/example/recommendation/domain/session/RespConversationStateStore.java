@@ -0,0 +1,205 @@
+package com.example.recommendation.domain.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 프로토콜 대화 상태 저장소
+ *
+ * - GET / SET key value EX ttl / DEL 세 명령만 사용
+ *   → Redis / Valkey / RespStandInServer 어디에 붙여도 동일
+ * - 키: {keyPrefix}{sessionId}, 유휴 TTL은 서버 만료(EX)에 맡긴다
+ * - 세션 수 상한 / 밀어내기도 서버 설정에 맡긴다 (maxmemory + volatile-lru)
+ *   → 세션 수 / 바이트 / 밀려난 수는 이 노드에서 알 수 없음 (-1)
+ * - 커넥션 풀: 최대 maxConnections개, 필요할 때 연결 (keep-alive)
+ * - I/O 오류가 난 연결은 버린다 (다음 요청에서 새로 연결)
+ */
+public class RespConversationStateStore implements ConversationStateStore, AutoCloseable {
+
+    private static final byte[] GET = bytes("GET");
+    private static final byte[] SET = bytes("SET");
+    private static final byte[] DEL = bytes("DEL");
+    private static final byte[] EX = bytes("EX");
+
+    private final String host;
+    private final int port;
+    private final String keyPrefix;
+    private final byte[] ttlSeconds;
+    private final int timeoutMs;
+
+    private final Semaphore permits;
+    private final BlockingQueue<Connection> idle = new LinkedBlockingQueue<>();
+
+    public RespConversationStateStore(
+            String host,
+            int port,
+            String keyPrefix,
+            Duration idleTtl,
+            int maxConnections,
+            int timeoutMs
+    ) {
+        this.host = host;
+        this.port = port;
+        this.keyPrefix = keyPrefix;
+        this.ttlSeconds = bytes(Long.toString(Math.max(1, idleTtl.toSeconds())));
+        this.timeoutMs = timeoutMs;
+        this.permits = new Semaphore(maxConnections);
+    }
+
+    @Override
+    public byte[] load(String sessionId) {
+        Object reply = execute(GET, key(sessionId));
+        return (byte[]) reply;
+    }
+
+    @Override
+    public void save(String sessionId, byte[] state) {
+        execute(SET, key(sessionId), state, EX, ttlSeconds);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        execute(DEL, key(sessionId));
+    }
+
+    @Override
+    public long sessionCount() {
+        return -1;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return -1;
+    }
+
+    @Override
+    public long evictedCount() {
+        return -1;
+    }
+
+    @Override
+    public String type() {
+        return "resp";
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    /* =====================
+       명령 실행
+       ===================== */
+
+    private Object execute(byte[]... command) {
+
+        acquirePermit();
+        Connection connection = null;
+        try {
+            connection = borrow();
+            Object reply = connection.call(command);
+
+            idle.offer(connection);
+            connection = null;
+
+            if (reply instanceof RespProtocol.ErrorReply error) {
+                throw new IllegalStateException("RESP error: " + error.message());
+            }
+            return reply;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "RESP store " + host + ":" + port + " unavailable", e
+            );
+        } finally {
+            if (connection != null) {
+                connection.close();
+            }
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException(
+                        "RESP store connection pool exhausted"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for RESP connection", e);
+        }
+    }
+
+    private Connection borrow() throws IOException {
+        Connection connection = idle.poll();
+        return connection != null ? connection : connect();
+    }
+
+    private Connection connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(timeoutMs);
+            socket.connect(new InetSocketAddress(host, port), timeoutMs);
+            return new Connection(socket);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private byte[] key(String sessionId) {
+        return bytes(keyPrefix + sessionId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 연결 1개 (요청 → 응답 순차, 파이프라이닝 ❌)
+     */
+    private static final class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        Object call(byte[]... command) throws IOException {
+            RespProtocol.writeCommand(out, command);
+            out.flush();
+            return RespProtocol.read(in);
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 버리는 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.recommendation.domain.session;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 직렬화 프로토콜(RESP2) 최소 구현
+ *
+ * - 요청: bulk string 배열 (*N / $len)
+ * - 응답: + simple / - error / : integer / $ bulk / * array
+ * - 값은 byte[] 그대로 (binary-safe)
+ *
+ * RespConversationStateStore(클라이언트)와 RespStandInServer(서버)가 공유
+ */
+final class RespProtocol {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private RespProtocol() {
+    }
+
+    /**
+     * 오류 응답 (-ERR ...)
+     */
+    record ErrorReply(String message) {
+    }
+
+    /* =====================
+       쓰기
+       ===================== */
+
+    static void writeCommand(OutputStream out, byte[]... args)
+            throws IOException {
+        writeHeader(out, '*', args.length);
+        for (byte[] arg : args) {
+            writeBulk(out, arg);
+        }
+    }
+
+    static void writeBulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            writeHeader(out, '$', -1);
+            return;
+        }
+        writeHeader(out, '$', value.length);
+        out.write(value);
+        out.write(CRLF);
+    }
+
+    static void writeSimple(OutputStream out, String value) throws IOException {
+        out.write('+');
+        out.write(value.getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    static void writeError(OutputStream out, String message) throws IOException {
+        out.write('-');
+        out.write(message.getBytes(StandardCharsets.UTF_8));
+        out.write(CRLF);
+    }
+
+    static void writeInteger(OutputStream out, long value) throws IOException {
+        writeHeader(out, ':', value);
+    }
+
+    private static void writeHeader(OutputStream out, char type, long value)
+            throws IOException {
+        out.write(type);
+        out.write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    /* =====================
+       읽기
+       ===================== */
+
+    /**
+     * 응답 1개 읽기
+     *
+     * @return String(simple) / ErrorReply / Long / byte[](bulk, null 가능) / List(array)
+     * @throws EOFException 연결이 닫힘
+     */
+    static Object read(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            throw new EOFException("connection closed");
+        }
+        String line = readLine(in);
+
+        return switch (type) {
+            case '+' -> line;
+            case '-' -> new ErrorReply(line);
+            case ':' -> Long.parseLong(line);
+            case '$' -> readBulk(in, Integer.parseInt(line));
+            case '*' -> readArray(in, Integer.parseInt(line));
+            default -> throw new IOException("unexpected RESP type: " + (char) type);
+        };
+    }
+
+    private static byte[] readBulk(InputStream in, int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = in.readNBytes(length);
+        if (value.length < length || in.read() != '\r' || in.read() != '\n') {
+            throw new EOFException("truncated bulk string");
+        }
+        return value;
+    }
+
+    private static List<Object> readArray(InputStream in, int size) throws IOException {
+        if (size < 0) {
+            return null;
+        }
+        List<Object> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(read(in));
+        }
+        return items;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(16);
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException("truncated line");
+            }
+            line.write(b);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("malformed line ending");
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+}
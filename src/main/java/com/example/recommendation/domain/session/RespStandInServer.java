@@ -0,0 +1,214 @@
+package com.example.recommendation.domain.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Redis 대역 서버 (RESP2, 개발 / 테스트 / 부하 테스트용)
+ *
+ * - 지원 명령: PING / GET / SET key value [EX s | PX ms] / DEL key...
+ * - 값은 메모리 Map, 만료는 조회 시 + 주기적 정리
+ * - 연결마다 데몬 스레드 1개
+ * - 생성은 start(port)로만 (생성자에서 accept 스레드 시작 ❌ → 초기화 전 this 노출 방지)
+ *
+ * 운영 ❌ (영속성 / 복제 없음) → 실제 Redis로 교체
+ */
+public class RespStandInServer implements AutoCloseable {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(RespStandInServer.class);
+
+    // SET N회마다 만료 키 정리
+    private static final int SWEEP_EVERY_SETS = 1024;
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger setCount = new AtomicInteger();
+    private final AtomicInteger connectionSeq = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    private record Entry(byte[] value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt > 0 && expiresAt <= now;
+        }
+    }
+
+    private RespStandInServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * 포트를 열고 accept 스레드 시작
+     *
+     * @param port 0이면 임의 포트 (getPort로 확인)
+     */
+    public static RespStandInServer start(int port) throws IOException {
+        RespStandInServer server = new RespStandInServer(
+                new ServerSocket(port, 128, InetAddress.getLoopbackAddress())
+        );
+
+        Thread acceptor = new Thread(server::acceptLoop, "resp-stand-in-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        log.info("[RespStandInServer] listening on {}", server.getPort());
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 만료 전 키 수 (테스트 / 진단용)
+     */
+    public int size() {
+        long now = System.currentTimeMillis();
+        return (int) entries.values().stream()
+                .filter(entry -> !entry.isExpired(now))
+                .count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+    }
+
+    /* =====================
+       연결 처리
+       ===================== */
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread worker = new Thread(
+                        () -> serve(socket),
+                        "resp-stand-in-" + connectionSeq.incrementAndGet()
+                );
+                worker.setDaemon(true);
+                worker.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("[RespStandInServer] accept failed", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+            while (running) {
+                Object request = RespProtocol.read(in);
+                if (!(request instanceof List<?> args) || args.isEmpty()) {
+                    RespProtocol.writeError(out, "ERR expected command array");
+                } else {
+                    dispatch(args, out);
+                }
+                out.flush();
+            }
+        } catch (EOFException | SocketException e) {
+            // 클라이언트가 연결을 닫음
+        } catch (IOException | RuntimeException e) {
+            log.warn("[RespStandInServer] connection failed", e);
+        }
+    }
+
+    private void dispatch(List<?> args, OutputStream out) throws IOException {
+
+        String command = text(args.get(0)).toUpperCase();
+
+        switch (command) {
+            case "PING" -> RespProtocol.writeSimple(out, "PONG");
+            case "GET" -> {
+                if (args.size() != 2) {
+                    RespProtocol.writeError(out, "ERR wrong number of arguments for 'get'");
+                    return;
+                }
+                RespProtocol.writeBulk(out, get(text(args.get(1))));
+            }
+            case "SET" -> set(args, out);
+            case "DEL" -> {
+                long removed = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    if (entries.remove(text(args.get(i))) != null) {
+                        removed++;
+                    }
+                }
+                RespProtocol.writeInteger(out, removed);
+            }
+            default -> RespProtocol.writeError(out, "ERR unknown command '" + command + "'");
+        }
+    }
+
+    private byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private void set(List<?> args, OutputStream out) throws IOException {
+
+        if (args.size() != 3 && args.size() != 5) {
+            RespProtocol.writeError(out, "ERR syntax error");
+            return;
+        }
+
+        long expiresAt = 0;
+        if (args.size() == 5) {
+            String unit = text(args.get(3)).toUpperCase();
+            long amount = Long.parseLong(text(args.get(4)));
+            long ttlMs = switch (unit) {
+                case "EX" -> amount * 1000;
+                case "PX" -> amount;
+                default -> -1;
+            };
+            if (ttlMs <= 0) {
+                RespProtocol.writeError(out, "ERR syntax error");
+                return;
+            }
+            expiresAt = System.currentTimeMillis() + ttlMs;
+        }
+
+        entries.put(text(args.get(1)), new Entry((byte[]) args.get(2), expiresAt));
+        RespProtocol.writeSimple(out, "OK");
+
+        if (setCount.incrementAndGet() % SWEEP_EVERY_SETS == 0) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    private static String text(Object arg) {
+        return new String((byte[]) arg, StandardCharsets.UTF_8);
+    }
+}
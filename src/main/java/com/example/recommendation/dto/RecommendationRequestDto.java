@@ -15,6 +15,9 @@ public class RecommendationRequestDto {
     // 사용자의 자연어 입력
     private String userInput;
 
+    // 무상태 모드: 직전 응답의 stateToken 그대로 (첫 턴 / 저장소 모드는 null)
+    private String stateToken;
+
     public RecommendationRequestDto() {
     }
 
@@ -29,4 +32,12 @@ public class RecommendationRequestDto {
     public void setUserInput(String userInput) {
         this.userInput = userInput;
     }
+
+    public String getStateToken() {
+        return stateToken;
+    }
+
+    public void setStateToken(String stateToken) {
+        this.stateToken = stateToken;
+    }
 }
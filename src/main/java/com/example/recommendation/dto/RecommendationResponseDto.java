@@ -3,6 +3,7 @@ package com.example.recommendation.dto;
 import java.util.List;
 
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public class RecommendationResponseDto {
 
@@ -11,6 +12,7 @@ public class RecommendationResponseDto {
     private final List<Item> items;
     private final ConsultResponse consult;
     private RecommendationCriteria criteria;  // 🔥 추가: SEARCH_READY용
+    private String stateToken;                // 무상태 모드: 다음 요청에 돌려줄 상태 토큰
 
     private RecommendationResponseDto(
             ResponseType type,
@@ -112,6 +114,18 @@ public class RecommendationResponseDto {
         return criteria;
     }
 
+    /**
+     * 무상태 모드 상태 토큰 (저장소 모드면 JSON에서 생략)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getStateToken() {
+        return stateToken;
+    }
+
+    public void setStateToken(String stateToken) {
+        this.stateToken = stateToken;
+    }
+
     public static class Item {
 
         private final Long productId;
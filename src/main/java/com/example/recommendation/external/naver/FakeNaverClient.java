@@ -66,6 +66,11 @@ public class FakeNaverClient implements NaverClient {
 
     @Override
     public List<Product> search(String keyword, int start) {
+        return search(keyword, start, 30);
+    }
+
+    @Override
+    public List<Product> search(String keyword, int start, int display) {
         
         // 🔥 start 기반 offset 시뮬레이션
         // start=1 → index 0부터 (1~30번째)
@@ -82,8 +87,8 @@ public class FakeNaverClient implements NaverClient {
             return List.of(); // 범위 초과
         }
         
-        // 최대 30개까지 반환 (실제 API display 파라미터와 동일)
-        int endIndex = Math.min(startIndex + 30, DUMMY_PRODUCTS.size());
+        // 최대 display개까지 반환 (실제 API display 파라미터와 동일)
+        int endIndex = Math.min(startIndex + display, DUMMY_PRODUCTS.size());
         
         List<Product> result = new ArrayList<>(
             DUMMY_PRODUCTS.subList(startIndex, endIndex)
@@ -19,6 +19,9 @@ import com.example.recommendation.external.naver.dto.Product;
  * 🔥 2025-02-09 업데이트:
  * - search(keyword, start) 오버로드 추가
  * - RETRY_SEARCH 지원
+ *
+ * - search(keyword, start, display) 오버로드 추가
+ * - 후보 창(window)이 소진됐을 때 더 큰 페이지로 한 번에 가져오기
  */
 public interface NaverClient {
 
@@ -46,4 +49,14 @@ public interface NaverClient {
      * - search("노트북", 11) → 11~40번째 결과
      */
     List<Product> search(String keyword, int start);
+
+    /**
+     * 네이버 쇼핑 검색 수행 (start + display 지정)
+     *
+     * @param keyword 네이버 검색에 전달할 최종 검색어(query)
+     * @param start 검색 시작 위치 (1~1000)
+     * @param display 한 번에 가져올 개수 (1~100)
+     * @return 검색 결과 상품 리스트
+     */
+    List<Product> search(String keyword, int start, int display);
 }
\ No newline at end of file
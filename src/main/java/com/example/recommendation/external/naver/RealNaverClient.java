@@ -4,13 +4,13 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -27,6 +27,10 @@ import com.example.recommendation.external.naver.dto.Product;
  * 
  * 🔥 2025-02-09 업데이트:
  * - start 파라미터 지원 (RETRY_SEARCH)
+ *
+ * [커넥션]
+ * - 요청마다 새 연결 ❌
+ * - RestClientConfig의 keep-alive 커넥션 풀(naverRestTemplate) 공유
  */
 @Component
 
@@ -37,23 +41,23 @@ public class RealNaverClient implements NaverClient {
 
     private static final int DEFAULT_DISPLAY = 30;
     private static final int DEFAULT_START = 1;
+    private static final String SHOP_SEARCH_PATH = "/v1/search/shop.json";
 
     private final RestTemplate restTemplate;
     private final String clientId;
     private final String clientSecret;
+    private final String shopSearchUrl;
 
     public RealNaverClient(
+            @Qualifier("naverRestTemplate") RestTemplate restTemplate,
             @Value("${naver.client-id}") String clientId,
-            @Value("${naver.client-secret}") String clientSecret
+            @Value("${naver.client-secret}") String clientSecret,
+            @Value("${naver.base-url:https://openapi.naver.com}") String baseUrl
     ) {
-        SimpleClientHttpRequestFactory factory =
-                new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000);
-        factory.setReadTimeout(3000);
-
-        this.restTemplate = new RestTemplate(factory);
+        this.restTemplate = restTemplate;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
+        this.shopSearchUrl = baseUrl + SHOP_SEARCH_PATH;
     }
 
     @Override
@@ -63,9 +67,14 @@ public class RealNaverClient implements NaverClient {
 
     @Override
     public List<Product> search(String keyword, int start) {
+        return search(keyword, start, DEFAULT_DISPLAY);
+    }
+
+    @Override
+    public List<Product> search(String keyword, int start, int display) {
 
-        log.info("[RealNaverClient] search - keyword='{}', start={}", 
-                 keyword, start);
+        log.info("[RealNaverClient] search - keyword='{}', start={}, display={}",
+                 keyword, start, display);
 
         try {
             // 1️⃣ 인증 헤더
@@ -75,9 +84,9 @@ public class RealNaverClient implements NaverClient {
 
             // 2️⃣ URL 구성 (🔥 start 파라미터 추가!)
             String url = UriComponentsBuilder
-                    .fromUriString("https://openapi.naver.com/v1/search/shop.json")
+                    .fromUriString(shopSearchUrl)
                     .queryParam("query", keyword)   // 한글 그대로
-                    .queryParam("display", DEFAULT_DISPLAY)
+                    .queryParam("display", display)
                     .queryParam("start", start)     // 🔥 추가!
                     .queryParam("sort", "sim")
                     .build(false) 
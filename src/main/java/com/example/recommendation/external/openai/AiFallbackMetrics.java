@@ -0,0 +1,23 @@
+package com.example.recommendation.external.openai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 호출 실패 → fallback 지표
+ *
+ * - ai.fallback{call} 하나로 모든 AI 호출의 fallback 수를 센다
+ * - 이름 / 설명은 여기서만 정한다 (호출부는 call 태그만)
+ */
+public final class AiFallbackMetrics {
+
+    private AiFallbackMetrics() {
+    }
+
+    public static Counter counter(MeterRegistry meterRegistry, String call) {
+        return Counter.builder("ai.fallback")
+                .tag("call", call)
+                .description("AI 호출 실패로 fallback 문장을 쓴 횟수")
+                .register(meterRegistry);
+    }
+}
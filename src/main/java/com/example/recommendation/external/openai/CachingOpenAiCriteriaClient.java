@@ -0,0 +1,137 @@
+package com.example.recommendation.external.openai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.dto.AiCriteriaResultDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Criteria AI 응답 메모 캐시
+ *
+ * - temperature 0 + 고정 프롬프트 → 같은 입력이면 같은 결과
+ * - 키: 프롬프트 버전 해시 + 정규화된 사용자 입력
+ * - 프롬프트가 바뀌면 버전이 바뀌어 기존 항목은 더 이상 맞지 않는다
+ * - 지표: cache.gets{cache=openai.criteria, result=hit|miss}
+ *
+ * 판단 ❌
+ * 보정 ❌
+ * 순수 기술 코드
+ */
+@Component
+public class CachingOpenAiCriteriaClient implements OpenAiCriteriaClient {
+
+    static final String CACHE_NAME = "openai.criteria";
+
+    private final OpenAiCriteriaClient delegate;
+    private final String promptVersion;
+    private final Cache<String, AiCriteriaResultDto> cache;
+
+    @Autowired
+    public CachingOpenAiCriteriaClient(
+            OpenAiCriteriaClientImpl delegate,
+            MeterRegistry meterRegistry,
+            @Value("${openai.criteria.cache.max-entries:10000}") long maxEntries,
+            @Value("${openai.criteria.cache.ttl-minutes:360}") long ttlMinutes
+    ) {
+        this(delegate, delegate.promptVersion(),
+                meterRegistry, maxEntries, ttlMinutes);
+    }
+
+    CachingOpenAiCriteriaClient(
+            OpenAiCriteriaClient delegate,
+            String promptVersion,
+            MeterRegistry meterRegistry,
+            long maxEntries,
+            long ttlMinutes
+    ) {
+        this.delegate = delegate;
+        this.promptVersion = promptVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public AiCriteriaResultDto extractCriteria(String userInput) {
+
+        String key = keyOf(userInput);
+
+        AiCriteriaResultDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        AiCriteriaResultDto result = delegate.extractCriteria(userInput);
+        if (result != null) {
+            cache.put(key, copyOf(result));
+        }
+        return result;
+    }
+
+    @Override
+    public AiCriteriaResultDto findCached(String userInput) {
+        AiCriteriaResultDto cached = cache.getIfPresent(keyOf(userInput));
+        return cached == null ? null : copyOf(cached);
+    }
+
+    /**
+     * 통합 추출의 criteria 부분도 같은 프롬프트 계약 → 같은 키로 저장
+     */
+    @Override
+    public void recordExtraction(String userInput, AiCriteriaResultDto result) {
+        if (result != null) {
+            cache.put(keyOf(userInput), copyOf(result));
+        }
+    }
+
+    private String keyOf(String userInput) {
+        return promptVersion + "|" + normalize(userInput);
+    }
+
+    /**
+     * 의미를 바꾸지 않는 범위의 정규화
+     *
+     * - 앞뒤 공백 / 연속 공백 정리
+     * - 영문 소문자화
+     * - 끝의 문장부호(. ! ? ~) 제거
+     */
+    static String normalize(String userInput) {
+        if (userInput == null) {
+            return "";
+        }
+        return userInput.trim()
+                .replaceAll("\\s+", " ")
+                .replaceAll("[.!?~]+$", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // DTO가 가변이라 캐시 보관본과 호출자 사본을 분리
+    private static AiCriteriaResultDto copyOf(AiCriteriaResultDto source) {
+        AiCriteriaResultDto copy = new AiCriteriaResultDto();
+        copy.setSearchKeyword(source.getSearchKeyword());
+        copy.setOptionKeywords(
+                source.getOptionKeywords() == null
+                        ? null
+                        : new ArrayList<>(source.getOptionKeywords())
+        );
+        copy.setPriceMax(source.getPriceMax());
+        copy.setPreferredBrand(source.getPreferredBrand());
+        copy.setIntentType(source.getIntentType());
+        copy.setCommandType(source.getCommandType());
+        return copy;
+    }
+}
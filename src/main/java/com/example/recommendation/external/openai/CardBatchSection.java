@@ -0,0 +1,16 @@
+package com.example.recommendation.external.openai;
+
+import java.util.List;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+/**
+ * 카드 설명 배치의 한 섹션 (= 한 요청의 카드 묶음)
+ */
+public record CardBatchSection(
+        String sectionId,
+        List<CardExplanationPrompt> prompts,
+        RecommendationCriteria criteria
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.recommendation.external.openai;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 설명 배치 전송 수단
+ *
+ * - 운영: 다중 섹션 프롬프트 1회 호출 (OpenAiCardExplanationBatchTransport)
+ * - 테스트: 로컬 대체 구현
+ *
+ * @return 섹션ID → (상품ID → 설명). 빠진 섹션은 호출자가 fallback
+ */
+public interface CardExplanationBatchTransport {
+
+    Map<String, Map<Long, String>> send(List<CardBatchSection> sections);
+}
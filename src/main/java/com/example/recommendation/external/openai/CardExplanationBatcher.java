@@ -0,0 +1,215 @@
+package com.example.recommendation.external.openai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 카드 설명 마이크로 배처
+ *
+ * [동작]
+ * - 동시에 들어온 여러 세션의 카드 설명 요청을 window-ms 동안 모은다
+ * - max-batch-size에 도달하면 즉시 전송
+ * - 한 번의 전송 결과에서 섹션ID로 각 요청의 몫을 돌려준다
+ *
+ * [실패]
+ * - 전송 실패 / 섹션 누락 → 해당 요청 future만 예외 완료
+ *   (fallback 문장 / ai.fallback 지표는 호출부 몫)
+ *
+ * [스레드]
+ * - 전송은 cardBatchExecutor에서 (대기하는 pipelineExecutor와 분리 → 교착 ❌)
+ *
+ * [지표]
+ * - openai.card.batch.size (배치당 요청 수)
+ *
+ * 판단 ❌
+ * 순수 기술 코드
+ */
+@Component
+public class CardExplanationBatcher {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(CardExplanationBatcher.class);
+
+    private final CardExplanationBatchTransport transport;
+    private final Executor sendExecutor;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "card-batch-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final AtomicLong sectionSequence = new AtomicLong();
+    private final DistributionSummary batchSize;
+
+    private final Object lock = new Object();
+    private List<PendingRequest> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    @Autowired
+    public CardExplanationBatcher(
+            CardExplanationBatchTransport transport,
+            @Qualifier("cardBatchExecutor") Executor sendExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${openai.card-batch.window-ms:5}") long windowMs,
+            @Value("${openai.card-batch.max-batch-size:8}") int maxBatchSize
+    ) {
+        this.transport = transport;
+        this.sendExecutor = sendExecutor;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("openai.card.batch.size")
+                .description("카드 설명 배치 1회에 묶인 요청 수")
+                .register(meterRegistry);
+    }
+
+    CardExplanationBatcher(
+            CardExplanationBatchTransport transport,
+            Executor sendExecutor,
+            long windowMs,
+            int maxBatchSize
+    ) {
+        this(transport, sendExecutor, new SimpleMeterRegistry(),
+                windowMs, maxBatchSize);
+    }
+
+    /**
+     * 배치에 합류
+     *
+     * - 전송 실패 / 섹션 누락이면 예외 완료
+     * - 대기 상한은 호출부가 건다 (orTimeout)
+     */
+    public CompletableFuture<Map<Long, String>> submit(
+            List<CardExplanationPrompt> prompts,
+            RecommendationCriteria criteria
+    ) {
+
+        PendingRequest request = new PendingRequest(
+                new CardBatchSection(
+                        "s" + sectionSequence.incrementAndGet(),
+                        prompts,
+                        criteria
+                ),
+                new CompletableFuture<>()
+        );
+
+        List<PendingRequest> ready = null;
+
+        synchronized (lock) {
+            pending.add(request);
+
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(
+                        this::flushOnTimer,
+                        windowMs,
+                        TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+
+        return request.future();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void flushOnTimer() {
+        List<PendingRequest> ready;
+        synchronized (lock) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready = drain();
+        }
+        dispatch(ready);
+    }
+
+    // lock 안에서만 호출
+    private List<PendingRequest> drain() {
+        List<PendingRequest> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingRequest> batch) {
+        sendExecutor.execute(() -> send(batch));
+    }
+
+    private void send(List<PendingRequest> batch) {
+
+        batchSize.record(batch.size());
+        log.info("[CardExplanationBatcher] send batch - requests={}", batch.size());
+
+        Map<String, Map<Long, String>> result;
+        try {
+            result = transport.send(
+                    batch.stream().map(PendingRequest::section).toList()
+            );
+        } catch (Exception e) {
+            log.error("[CardExplanationBatcher] batch failed", e);
+            batch.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+
+        for (PendingRequest request : batch) {
+            Map<Long, String> slice =
+                    result.get(request.section().sectionId());
+
+            if (slice == null || slice.isEmpty()) {
+                request.future().completeExceptionally(
+                        new IllegalStateException(
+                                "Card batch section missing: "
+                                        + request.section().sectionId()
+                        )
+                );
+            } else {
+                request.future().complete(slice);
+            }
+        }
+    }
+
+    private record PendingRequest(
+            CardBatchSection section,
+            CompletableFuture<Map<Long, String>> future
+    ) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.recommendation.external.openai;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+/**
+ * 카드 설명 프롬프트 생성 전용
+ *
+ * - 단건: 한 요청의 카드 목록 (Step3 프롬프트 그대로)
+ * - 배치: 여러 요청을 섹션으로 묶은 프롬프트 (페르소나 지시는 1회만)
+ *
+ * 정책 ❌
+ * 의미 ❌
+ * 순수 기술 코드
+ */
+final class CardExplanationPromptBuilder {
+
+    static final String FALLBACK_MESSAGE =
+            OpenAiExplanationClient.CARD_FALLBACK_MESSAGE;
+
+    // 단건 / 배치 공통 호출 설정
+    static final String CARD_MODEL = "gpt-4o-mini";
+    static final double CARD_TEMPERATURE = 0.5;  // 🔥 0.7 → 0.5
+
+    private static final String PERSONA = """
+        너는 "꼬강"이라는 쇼핑 도우미야.
+        꼬질한 강아지지만 눈치 빠르고 똑똑해.
+        
+        말투:
+        - 자연스러운 반말
+        - 짧게 끊어서 말해
+        - 적당히 밝게 귀여운 말투
+        
+        절대 금지:
+        - 슬롯, 시스템, 단계 같은 내부 표현
+        - 점수, 순위 언급
+        - "가성비 최고" 같은 과장
+        
+        ---
+        
+        역할:
+        - 각 상품이 왜 이 사람한테 어울리는지 설명해
+        - 서로 다른 이유로 말해
+        - 상품당 1~2문장
+        
+        규칙:
+        - 사용자 상황을 이해한 것처럼 자연스럽게
+        - 카드마다 다른 관점 제시
+        - JSON 형태로만 응답
+        """;
+
+    // 카드 1장 블록
+    private static final String CARD_TEMPLATE = """
+            - 상품 ID: %d
+            - 상품명: %s
+            - 맞은 조건 키워드: %s
+            - 브랜드 선호 반영: %s
+
+            """;
+
+    private static final String SINGLE_RESPONSE_FORMAT = """
+        응답 형식:
+        {
+          "상품ID": "설명 문장"
+        }
+        """;
+
+    private static final String BATCH_INSTRUCTION = """
+
+        - 아래에 서로 다른 사용자 요청이 여러 개 있어
+        - 요청끼리 섞지 말고 요청별로 따로 설명해
+        """;
+
+    private static final String BATCH_RESPONSE_FORMAT = """
+        응답 형식:
+        {
+          "요청 섹션ID": {
+            "상품ID": "설명 문장"
+          }
+        }
+        """;
+
+    // 카드 설명 프롬프트 버전 (카드 설명 캐시 키에 포함)
+    // - 모델 / temperature / 페르소나 / 카드 템플릿 / 응답 형식 중 하나라도 바뀌면 값이 바뀐다
+    static final String PERSONA_VERSION = PromptHashes.sha256Prefix(
+            CARD_MODEL
+                    + "|" + CARD_TEMPERATURE
+                    + "|" + PERSONA
+                    + "|" + CARD_TEMPLATE
+                    + "|" + SINGLE_RESPONSE_FORMAT
+                    + "|" + BATCH_INSTRUCTION
+                    + "|" + BATCH_RESPONSE_FORMAT
+    );
+
+    private CardExplanationPromptBuilder() {
+    }
+
+    /**
+     * 카드 설명용 프롬프트 (Step3 그대로)
+     */
+    static String single(
+            List<CardExplanationPrompt> prompts,
+            RecommendationCriteria criteria
+    ) {
+        StringBuilder sb = new StringBuilder(PERSONA);
+
+        appendRequest(sb, prompts, criteria);
+
+        sb.append(SINGLE_RESPONSE_FORMAT);
+
+        return sb.toString();
+    }
+
+    /**
+     * 여러 요청을 한 번에 (마이크로 배칭)
+     *
+     * - 요청마다 [요청 섹션ID] 블록
+     * - 응답은 섹션ID → {상품ID: 설명} 중첩 JSON
+     */
+    static String batch(List<CardBatchSection> sections) {
+
+        StringBuilder sb = new StringBuilder(PERSONA);
+
+        sb.append(BATCH_INSTRUCTION);
+
+        for (CardBatchSection section : sections) {
+            sb.append("\n===== [요청 ").append(section.sectionId()).append("] =====\n");
+            appendRequest(sb, section.prompts(), section.criteria());
+        }
+
+        sb.append(BATCH_RESPONSE_FORMAT);
+
+        return sb.toString();
+    }
+
+    static Map<Long, String> fallback(List<CardExplanationPrompt> prompts) {
+        Map<Long, String> fallback = new HashMap<>();
+        for (CardExplanationPrompt p : prompts) {
+            fallback.put(p.productId(), FALLBACK_MESSAGE);
+        }
+        return fallback;
+    }
+
+    private static void appendRequest(
+            StringBuilder sb,
+            List<CardExplanationPrompt> prompts,
+            RecommendationCriteria criteria
+    ) {
+        sb.append("\n[사용자 조건]\n");
+        sb.append(criteria.toString()).append("\n");
+
+        sb.append("\n[추천 상품 목록]\n");
+
+        for (CardExplanationPrompt p : prompts) {
+            sb.append(CARD_TEMPLATE.formatted(
+                    p.productId(),
+                    p.title(),
+                    p.matchedOptionKeywords(),
+                    p.brandMatched() ? "예" : "아니오"
+            ));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.recommendation.external.openai;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.rule.RuleBasedCriteriaExtractor;
+import com.example.recommendation.domain.criteria.rule.RuleExtraction;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Criteria 추출 fast path
+ *
+ * 흐름:
+ * 1. 규칙 기반 추출 (사전 trie + 가격 정규식 + 명령어)
+ * 2. confidence >= threshold → 그대로 반환 (OpenAI 호출 ❌)
+ * 3. 아니면 캐시 → OpenAI 순서로 위임
+ * - 통합 추출(TurnInputResolver)로 받은 결과도 recordExtraction으로 같은 지표 / 캐시에
+ *
+ * 지표:
+ * - criteria.fastpath{result=hit|miss}
+ * - criteria.fastpath.hit.ratio
+ */
+@Component
+@Primary
+public class FastPathCriteriaClient implements OpenAiCriteriaClient {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(FastPathCriteriaClient.class);
+
+    private final RuleBasedCriteriaExtractor ruleExtractor;
+    private final OpenAiCriteriaClient delegate;
+    private final double confidenceThreshold;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+
+    @Autowired
+    public FastPathCriteriaClient(
+            RuleBasedCriteriaExtractor ruleExtractor,
+            CachingOpenAiCriteriaClient delegate,
+            MeterRegistry meterRegistry,
+            @Value("${criteria.fastpath.confidence-threshold:0.8}") double confidenceThreshold
+    ) {
+        this(ruleExtractor, (OpenAiCriteriaClient) delegate,
+                meterRegistry, confidenceThreshold);
+    }
+
+    FastPathCriteriaClient(
+            RuleBasedCriteriaExtractor ruleExtractor,
+            OpenAiCriteriaClient delegate,
+            MeterRegistry meterRegistry,
+            double confidenceThreshold
+    ) {
+        this.ruleExtractor = ruleExtractor;
+        this.delegate = delegate;
+        this.confidenceThreshold = confidenceThreshold;
+
+        this.hitCounter = Counter.builder("criteria.fastpath")
+                .tag("result", "hit")
+                .description("규칙 기반 추출로 OpenAI 호출을 생략한 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("criteria.fastpath")
+                .tag("result", "miss")
+                .description("OpenAI로 위임한 횟수")
+                .register(meterRegistry);
+
+        // 게이지는 카운터만 참조 (생성 중인 this를 레지스트리에 넘기지 ❌)
+        AtomicLong totalCount = this.total;
+        Gauge.builder("criteria.fastpath.hit.ratio", hits,
+                        hitCount -> ratio(hitCount.get(), totalCount.get()))
+                .description("fast path 적중률")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AiCriteriaResultDto extractCriteria(String userInput) {
+
+        RuleExtraction extraction = ruleExtractor.extract(userInput);
+        total.incrementAndGet();
+
+        if (extraction.isConfident(confidenceThreshold)) {
+            hits.incrementAndGet();
+            hitCounter.increment();
+            log.info("[FastPathCriteria] hit - confidence={}",
+                    extraction.confidence());
+            return extraction.result();
+        }
+
+        missCounter.increment();
+        return delegate.extractCriteria(userInput);
+    }
+
+    @Override
+    public boolean canExtractLocally(String userInput) {
+        return ruleExtractor.extract(userInput)
+                .isConfident(confidenceThreshold);
+    }
+
+    @Override
+    public AiCriteriaResultDto extractLocally(String userInput) {
+        return ruleExtractor.extract(userInput).result();
+    }
+
+    @Override
+    public AiCriteriaResultDto findCached(String userInput) {
+        return delegate.findCached(userInput);
+    }
+
+    /**
+     * 통합 추출로 AI 결과를 받은 턴 = fast path miss
+     */
+    @Override
+    public void recordExtraction(String userInput, AiCriteriaResultDto result) {
+        total.incrementAndGet();
+        missCounter.increment();
+        delegate.recordExtraction(userInput, result);
+    }
+
+    double hitRatio() {
+        return ratio(hits.get(), total.get());
+    }
+
+    private static double ratio(long hitCount, long totalCount) {
+        return totalCount == 0 ? 0.0 : (double) hitCount / totalCount;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.recommendation.external.openai;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 설명 배치 → 다중 섹션 프롬프트 1회 호출
+ *
+ * - JSON 모드로 섹션ID별 중첩 JSON을 강제
+ * - 실패는 그대로 던진다 (fallback은 OpenAiExplanationClientImpl)
+ */
+@Component
+public class OpenAiCardExplanationBatchTransport
+        implements CardExplanationBatchTransport {
+
+    private final OpenAiGateway openAiGateway;
+
+    public OpenAiCardExplanationBatchTransport(OpenAiGateway openAiGateway) {
+        this.openAiGateway = openAiGateway;
+    }
+
+    @Override
+    public Map<String, Map<Long, String>> send(List<CardBatchSection> sections) {
+
+        Map<String, Object> body = Map.of(
+                "model", CardExplanationPromptBuilder.CARD_MODEL,
+                "temperature", CardExplanationPromptBuilder.CARD_TEMPERATURE,
+                "response_format", Map.of("type", "json_object"),
+                "messages", List.of(
+                        Map.of(
+                                "role", "user",
+                                "content", CardExplanationPromptBuilder.batch(sections)
+                        )
+                )
+        );
+
+        String response = openAiGateway.chatCompletion(body);
+
+        return OpenAiResponseParser.parseCardExplanationBatch(response);
+    }
+}
@@ -57,4 +57,33 @@ import com.example.recommendation.dto.AiCriteriaResultDto;
 public interface OpenAiCriteriaClient {
 
     AiCriteriaResultDto extractCriteria(String userInput);
+
+    /**
+     * OpenAI 호출 없이 처리 가능한 입력인지 (fast path 구현체만 true)
+     */
+    default boolean canExtractLocally(String userInput) {
+        return false;
+    }
+
+    /**
+     * OpenAI 호출 없이 뽑을 수 있는 만큼만 추출 (확신도 무관)
+     * - 아무것도 못 뽑으면 null
+     */
+    default AiCriteriaResultDto extractLocally(String userInput) {
+        return null;
+    }
+
+    /**
+     * OpenAI 호출 없이 캐시에 있는 AI 결과 (캐시 구현체만, 없으면 null)
+     */
+    default AiCriteriaResultDto findCached(String userInput) {
+        return null;
+    }
+
+    /**
+     * 다른 경로(통합 추출)로 받은 AI 결과를 캐시 / 지표에 반영
+     * - extractCriteria를 거친 것과 같은 흔적을 남긴다
+     */
+    default void recordExtraction(String userInput, AiCriteriaResultDto result) {
+    }
 }
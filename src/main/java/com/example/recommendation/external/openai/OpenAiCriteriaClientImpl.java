@@ -1,11 +1,7 @@
 package com.example.recommendation.external.openai;
 
 import com.example.recommendation.dto.AiCriteriaResultDto;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Criteria AI 전용 OpenAI 클라이언트
@@ -22,11 +18,17 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class OpenAiCriteriaClientImpl implements OpenAiCriteriaClient {
 
-    private final RestTemplate restTemplate;
-    private final String apiKey = System.getenv("OPENAI_API_KEY");
-
-    public OpenAiCriteriaClientImpl(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    private final OpenAiGateway openAiGateway;
+    private final String promptVersion;
+
+    public OpenAiCriteriaClientImpl(OpenAiGateway openAiGateway) {
+        this.openAiGateway = openAiGateway;
+        this.promptVersion = PromptHashes.sha256Prefix(
+                OpenAiRequestFactory.CRITERIA_MODEL
+                        + "|" + OpenAiRequestFactory.CRITERIA_SYSTEM_PROMPT
+                        + "|" + OpenAiRequestFactory.CRITERIA_TEMPERATURE
+                        + "|" + PROMPT_TEMPLATE
+        );
     }
 
     @Override
@@ -34,23 +36,9 @@ public class OpenAiCriteriaClientImpl implements OpenAiCriteriaClient {
 
         String prompt = buildPrompt(userInput);
 
-        // ✅ Header 구성 (핵심)
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-
-        // ✅ Body + Header 결합
-        HttpEntity<Object> requestEntity =
-                new HttpEntity<>(
-                        OpenAiRequestFactory.criteriaRequest(prompt, apiKey),
-                        headers
-                );
-
         String response =
-                restTemplate.postForObject(
-                        "https://api.openai.com/v1/chat/completions",
-                        requestEntity,
-                        String.class
+                openAiGateway.chatCompletion(
+                        OpenAiRequestFactory.criteriaRequest(prompt)
                 );
 
         // JSON → DTO 변환만 수행
@@ -64,8 +52,7 @@ public class OpenAiCriteriaClientImpl implements OpenAiCriteriaClient {
      * - intentType 자동 결정
      * - commandType 3가지 (APPEND/RESET/RETRY_SEARCH)
      */
-    private String buildPrompt(String userInput) {
-        return """
+    static final String PROMPT_TEMPLATE = """
     너는 상품 추천 시스템의 "조건 추출기"다.
 
     사용자의 문장을 분석해서
@@ -268,7 +255,19 @@ public class OpenAiCriteriaClientImpl implements OpenAiCriteriaClient {
 
     사용자 입력:
     "%s"
-    """.formatted(userInput);
+    """;
+
+    private String buildPrompt(String userInput) {
+        return PROMPT_TEMPLATE.formatted(userInput);
     }
 
-}
\ No newline at end of file
+    /**
+     * 프롬프트 버전 해시
+     *
+     * - 모델 / system / 템플릿 / temperature 중 하나라도 바뀌면 값이 바뀐다
+     * - 응답 캐시 키에 포함 → 프롬프트 수정 시 기존 캐시 자동 무효화
+     */
+    public String promptVersion() {
+        return promptVersion;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.recommendation.external.openai;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.domain.evaluation.EvaluatedProduct;
@@ -9,15 +10,37 @@ import com.example.recommendation.domain.explanation.CardExplanationPrompt;
 
 public interface OpenAiExplanationClient {
 
+    // 카드 설명 실패 시 공통 문장 (캐시 저장 대상 ❌)
+    String CARD_FALLBACK_MESSAGE =
+            "사용자의 조건과 잘 어울리는 상품입니다.";
+
     // 상단 설명
     String generateExplanation(
             List<EvaluatedProduct> products,
             RecommendationCriteria criteria
     );
 
+    // 상단 설명 (토큰 스트리밍)
+    // - 기본 구현: 완성 문장을 한 번에 전달
+    default String generateExplanationStreaming(
+            List<EvaluatedProduct> products,
+            RecommendationCriteria criteria,
+            Consumer<String> onToken
+    ) {
+        String explanation = generateExplanation(products, criteria);
+        onToken.accept(explanation);
+        return explanation;
+    }
+
     // 카드별 설명 (신규)
     Map<Long, String> generateCardExplanations(
             List<CardExplanationPrompt> prompts,
             RecommendationCriteria criteria
     );
+
+    // 카드 설명 프롬프트(페르소나) 버전
+    // - 바뀌면 이전에 만든 카드 설명은 재사용하지 않는다
+    default String cardPromptVersion() {
+        return "default";
+    }
 }
@@ -1,24 +1,62 @@
 package com.example.recommendation.external.openai;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.domain.evaluation.EvaluatedProduct;
 import com.example.recommendation.domain.explanation.CardExplanationPrompt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Component
 public class OpenAiExplanationClientImpl implements OpenAiExplanationClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final String apiKey = System.getenv("OPENAI_API_KEY");
+    private static final Logger log =
+            LoggerFactory.getLogger(OpenAiExplanationClientImpl.class);
+
+    private static final String MAIN_FALLBACK_MESSAGE =
+            "말씀해주신 조건으로 상품을 찾아봤어.";
+
+    private final OpenAiGateway openAiGateway;
+
+    // 🔥 토큰 스트리밍 opt-in (기본 꺼짐)
+    private final boolean streamingEnabled;
+
+    // 🔥 카드 설명 마이크로 배칭 opt-in (기본 꺼짐)
+    private final CardExplanationBatcher cardExplanationBatcher;
+    private final boolean cardBatchEnabled;
+    private final long cardBatchTimeoutMs;
+
+    private final Counter mainFallbackCounter;
+    private final Counter cardFallbackCounter;
+
+    public OpenAiExplanationClientImpl(
+            OpenAiGateway openAiGateway,
+            CardExplanationBatcher cardExplanationBatcher,
+            MeterRegistry meterRegistry,
+            @Value("${openai.streaming.enabled:false}") boolean streamingEnabled,
+            @Value("${openai.card-batch.enabled:false}") boolean cardBatchEnabled,
+            @Value("${openai.card-batch.timeout-ms:3000}") long cardBatchTimeoutMs
+    ) {
+        this.openAiGateway = openAiGateway;
+        this.cardExplanationBatcher = cardExplanationBatcher;
+        this.streamingEnabled = streamingEnabled;
+        this.cardBatchEnabled = cardBatchEnabled;
+        this.cardBatchTimeoutMs = cardBatchTimeoutMs;
+
+        this.mainFallbackCounter = AiFallbackMetrics.counter(meterRegistry, "main_explanation");
+        this.cardFallbackCounter = AiFallbackMetrics.counter(meterRegistry, "card_explanations");
+    }
 
     /**
      * 상단 공통 설명 (🔥 AI 호출로 교체)
@@ -31,35 +69,71 @@ public class OpenAiExplanationClientImpl implements OpenAiExplanationClient {
         String prompt = buildMainExplanationPrompt(products, criteria);
         
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
-            Map<String, Object> body = Map.of(
-                    "model", "gpt-4o-mini",
-                    "temperature", 0.5,  // 🔥 메인 요약 temperature
-                    "messages", List.of(
-                            Map.of("role", "user", "content", prompt)
-                    )
-            );
-
-            HttpEntity<Map<String, Object>> request =
-                    new HttpEntity<>(body, headers);
-
             String response =
-                    restTemplate.postForObject(
-                            "https://api.openai.com/v1/chat/completions",
-                            request,
-                            String.class
+                    openAiGateway.chatCompletion(
+                            mainExplanationBody(prompt)
                     );
 
             return OpenAiResponseParser.parseExplanation(response);
 
         } catch (Exception e) {
             // Fallback
-            return "말씀해주신 조건으로 상품을 찾아봤어.";
+            mainFallbackCounter.increment();
+            return MAIN_FALLBACK_MESSAGE;
         }
     }
+
+    /**
+     * 상단 공통 설명 (🔥 토큰 스트리밍)
+     * - openai.streaming.enabled=false 이면 기존 호출 후 한 번에 전달
+     * - 실패 시 아직 토큰을 못 보냈다면 fallback 문장을 전달
+     */
+    @Override
+    public String generateExplanationStreaming(
+            List<EvaluatedProduct> products,
+            RecommendationCriteria criteria,
+            Consumer<String> onToken
+    ) {
+        if (!streamingEnabled) {
+            return OpenAiExplanationClient.super.generateExplanationStreaming(
+                    products,
+                    criteria,
+                    onToken
+            );
+        }
+
+        String prompt = buildMainExplanationPrompt(products, criteria);
+        AtomicBoolean emitted = new AtomicBoolean(false);
+
+        try {
+            return openAiGateway.streamChatCompletion(
+                    mainExplanationBody(prompt),
+                    token -> {
+                        emitted.set(true);
+                        onToken.accept(token);
+                    }
+            );
+
+        } catch (Exception e) {
+            log.error("[OpenAiExplanation] streaming failed, fallback", e);
+            mainFallbackCounter.increment();
+
+            if (!emitted.get()) {
+                onToken.accept(MAIN_FALLBACK_MESSAGE);
+            }
+            return MAIN_FALLBACK_MESSAGE;
+        }
+    }
+
+    private Map<String, Object> mainExplanationBody(String prompt) {
+        return Map.of(
+                "model", "gpt-4o-mini",
+                "temperature", 0.5,  // 🔥 메인 요약 temperature
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                )
+        );
+    }
     
     /**
      * 메인 요약 프롬프트 (🔥 신규)
@@ -116,109 +190,49 @@ public class OpenAiExplanationClientImpl implements OpenAiExplanationClient {
             RecommendationCriteria criteria
     ) {
 
-        String prompt = buildCardExplanationPrompt(prompts, criteria);
+        // 🔥 마이크로 배칭 모드: 동시 요청들과 묶어서 한 번에 호출
+        // - 대기 상한(orTimeout) / 실패 → 단건 모드와 같은 fallback
+        if (cardBatchEnabled) {
+            return cardExplanationBatcher.submit(prompts, criteria)
+                    .orTimeout(cardBatchTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("[OpenAiExplanation] card batch failed, fallback", e);
+                        cardFallbackCounter.increment();
+                        return CardExplanationPromptBuilder.fallback(prompts);
+                    })
+                    .join();
+        }
 
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+        String prompt =
+                CardExplanationPromptBuilder.single(prompts, criteria);
 
+        try {
             Map<String, Object> body = Map.of(
-                    "model", "gpt-4o-mini",
-                    "temperature", 0.5,  // 🔥 0.7 → 0.5
+                    "model", CardExplanationPromptBuilder.CARD_MODEL,
+                    "temperature", CardExplanationPromptBuilder.CARD_TEMPERATURE,
                     "messages", List.of(
                             Map.of("role", "user", "content", prompt)  // 🔥 system 제거
                     )
             );
 
-            HttpEntity<Map<String, Object>> request =
-                    new HttpEntity<>(body, headers);
-
             String response =
-                    restTemplate.postForObject(
-                            "https://api.openai.com/v1/chat/completions",
-                            request,
-                            String.class
-                    );
+                    openAiGateway.chatCompletion(body);
 
             return OpenAiResponseParser.parseCardExplanationMap(response);
 
         } catch (Exception e) {
             // 🔥 실패해도 UX는 유지
-            Map<Long, String> fallback = new HashMap<>();
-            for (CardExplanationPrompt p : prompts) {
-                fallback.put(
-                        p.productId(),
-                        "사용자의 조건과 잘 어울리는 상품입니다."
-                );
-            }
-            return fallback;
+            cardFallbackCounter.increment();
+            return CardExplanationPromptBuilder.fallback(prompts);
         }
     }
 
     /**
-     * 카드 설명용 프롬프트 (Step3 그대로)
+     * 카드 설명 프롬프트 버전
+     * - 모델 / temperature / 페르소나 / 템플릿이 바뀌면 값이 바뀐다 (카드 설명 캐시 자동 무효화)
      */
-    private String buildCardExplanationPrompt(
-            List<CardExplanationPrompt> prompts,
-            RecommendationCriteria criteria
-    ) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("""
-        너는 "꼬강"이라는 쇼핑 도우미야.
-        꼬질한 강아지지만 눈치 빠르고 똑똑해.
-        
-        말투:
-        - 자연스러운 반말
-        - 짧게 끊어서 말해
-        - 적당히 밝게 귀여운 말투
-        
-        절대 금지:
-        - 슬롯, 시스템, 단계 같은 내부 표현
-        - 점수, 순위 언급
-        - "가성비 최고" 같은 과장
-        
-        ---
-        
-        역할:
-        - 각 상품이 왜 이 사람한테 어울리는지 설명해
-        - 서로 다른 이유로 말해
-        - 상품당 1~2문장
-        
-        규칙:
-        - 사용자 상황을 이해한 것처럼 자연스럽게
-        - 카드마다 다른 관점 제시
-        - JSON 형태로만 응답
-        """);
-
-        sb.append("\n[사용자 조건]\n");
-        sb.append(criteria.toString()).append("\n");
-
-        sb.append("\n[추천 상품 목록]\n");
-
-        for (CardExplanationPrompt p : prompts) {
-            sb.append("""
-            - 상품 ID: %d
-            - 상품명: %s
-            - 맞은 조건 키워드: %s
-            - 브랜드 선호 반영: %s
-
-            """.formatted(
-                    p.productId(),
-                    p.title(),
-                    p.matchedOptionKeywords(),
-                    p.brandMatched() ? "예" : "아니오"
-            ));
-        }
-
-        sb.append("""
-        응답 형식:
-        {
-          "상품ID": "설명 문장"
-        }
-        """);
-
-        return sb.toString();
+    @Override
+    public String cardPromptVersion() {
+        return CardExplanationPromptBuilder.PERSONA_VERSION;
     }
-}
\ No newline at end of file
+}
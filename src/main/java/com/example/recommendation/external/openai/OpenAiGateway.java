@@ -0,0 +1,320 @@
+package com.example.recommendation.external.openai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * OpenAI chat completions 단일 관문
+ *
+ * 책임:
+ * 1. 공유 HTTP/2 keep-alive 클라이언트로 호출 (연결 재사용)
+ * 2. 타임아웃 적용 (connect / read / overall)
+ * 3. 동시 호출 수 제한 (in-flight)
+ * 4. raw 응답 문자열 반환 → 파싱은 호출부 책임
+ *
+ * 판단 ❌
+ * 파싱 ❌
+ * fallback ❌
+ */
+@Component
+public class OpenAiGateway {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OpenAiGateway.class);
+
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final URI chatCompletionsUri;
+    private final Duration readTimeout;
+    private final Duration overallTimeout;
+    private final Duration acquireTimeout;
+    private final Semaphore inFlight;
+
+    @Autowired
+    public OpenAiGateway(
+            @Qualifier("openAiHttpClient") HttpClient httpClient,
+            @Value("${openai.base-url:https://api.openai.com}") String baseUrl,
+            @Value("${openai.http.read-timeout-ms:15000}") long readTimeoutMs,
+            @Value("${openai.http.overall-timeout-ms:20000}") long overallTimeoutMs,
+            @Value("${openai.http.max-in-flight:64}") int maxInFlight,
+            @Value("${openai.http.acquire-timeout-ms:2000}") long acquireTimeoutMs
+    ) {
+        this(
+                httpClient,
+                System.getenv("OPENAI_API_KEY"),
+                baseUrl,
+                readTimeoutMs,
+                overallTimeoutMs,
+                maxInFlight,
+                acquireTimeoutMs
+        );
+    }
+
+    /**
+     * 테스트용 (API 키 직접 주입)
+     */
+    OpenAiGateway(
+            HttpClient httpClient,
+            String apiKey,
+            String baseUrl,
+            long readTimeoutMs,
+            long overallTimeoutMs,
+            int maxInFlight,
+            long acquireTimeoutMs
+    ) {
+        this.httpClient = httpClient;
+        this.objectMapper = new ObjectMapper();
+        this.apiKey = apiKey;
+        this.chatCompletionsUri = URI.create(baseUrl + CHAT_COMPLETIONS_PATH);
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.overallTimeout = Duration.ofMillis(overallTimeoutMs);
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMs);
+        this.inFlight = new Semaphore(maxInFlight, true);
+
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("OPENAI_API_KEY is not set");
+        }
+    }
+
+    /**
+     * chat completion 호출
+     *
+     * @param body model / temperature / messages
+     * @return OpenAI raw 응답 JSON
+     */
+    public String chatCompletion(Map<String, Object> body) {
+
+        HttpRequest request = buildRequest(body, "application/json");
+
+        acquire();
+        CompletableFuture<HttpResponse<String>> future = null;
+        try {
+            future = httpClient.sendAsync(
+                    request,
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            HttpResponse<String> response =
+                    future.get(overallTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            ensureSuccess(response.statusCode());
+            return response.body();
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException(
+                    "OpenAI call exceeded " + overallTimeout.toMillis() + "ms", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("OpenAI call failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI call interrupted", e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * chat completion 토큰 스트리밍 호출 (stream=true)
+     *
+     * [전체 타임아웃]
+     * - HttpRequest.timeout은 헤더 도착까지만 → 본문이 멈추면 읽기가 끝없이 막힌다
+     * - 헤더 대기 + 본문 읽기 전체를 overall-timeout 하나로 묶고,
+     *   마감 시각에 타이머가 본문 스트림을 닫아 막힌 읽기를 깨운다
+     * - in-flight 슬롯은 어떤 경로로 끝나도 반환
+     *
+     * @param body    model / temperature / messages
+     * @param onToken 토큰 도착 콜백 (호출 스레드에서 순서대로 호출)
+     * @return 이어 붙인 전체 응답 문장
+     */
+    public String streamChatCompletion(
+            Map<String, Object> body,
+            Consumer<String> onToken
+    ) {
+        Map<String, Object> streamingBody = new HashMap<>(body);
+        streamingBody.put("stream", true);
+
+        HttpRequest request = buildRequest(streamingBody, "text/event-stream");
+
+        acquire();
+
+        // 마감 타이머 (정상 종료 시 complete → 타이머 취소)
+        CompletableFuture<Void> watchdog = new CompletableFuture<>();
+        try {
+            watchdog.orTimeout(overallTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            // 헤더 전: 마감 시 요청 취소
+            CompletableFuture<HttpResponse<InputStream>> future =
+                    httpClient.sendAsync(
+                            request,
+                            HttpResponse.BodyHandlers.ofInputStream()
+                    );
+            watchdog.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    future.cancel(true);
+                }
+            });
+
+            HttpResponse<InputStream> response = future.get();
+
+            // 본문: 마감 시 스트림을 닫아 막힌 readLine을 깨운다
+            try (InputStream stream = response.body()) {
+                watchdog.whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        closeQuietly(stream);
+                    }
+                });
+
+                ensureSuccess(response.statusCode());
+
+                String full = readTokens(stream, onToken);
+
+                log.debug("[OpenAiGateway] streaming completed length={}", full.length());
+
+                return full;
+            }
+
+        } catch (IOException | CancellationException e) {
+            throw streamingFailure(watchdog, "OpenAI streaming I/O failed", e);
+        } catch (ExecutionException e) {
+            throw streamingFailure(watchdog, "OpenAI streaming failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI streaming interrupted", e);
+        } finally {
+            watchdog.complete(null);
+            inFlight.release();
+        }
+    }
+
+    /* =========================
+     * Private Helpers
+     * ========================= */
+
+    /**
+     * SSE 본문 → delta 토큰 (data: [DONE]에서 종료)
+     */
+    private static String readTokens(
+            InputStream stream,
+            Consumer<String> onToken
+    ) throws IOException {
+
+        StringBuilder full = new StringBuilder();
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(stream, StandardCharsets.UTF_8)
+        );
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+
+            if (OpenAiStreamParser.isDone(line)) {
+                break;
+            }
+
+            String token = OpenAiStreamParser.parseDeltaContent(line);
+            if (token != null) {
+                full.append(token);
+                onToken.accept(token);
+            }
+        }
+
+        return full.toString();
+    }
+
+    /**
+     * 마감 타이머가 먼저 끝났으면 I/O 오류 대신 타임아웃으로 알린다
+     */
+    private IllegalStateException streamingFailure(
+            CompletableFuture<Void> watchdog,
+            String message,
+            Throwable cause
+    ) {
+        if (watchdog.isCompletedExceptionally()) {
+            return new IllegalStateException(
+                    "OpenAI streaming exceeded " + overallTimeout.toMillis() + "ms",
+                    cause
+            );
+        }
+        return new IllegalStateException(message, cause);
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("[OpenAiGateway] stream close failed", e);
+        }
+    }
+
+    private HttpRequest buildRequest(Map<String, Object> body, String accept) {
+        try {
+            return HttpRequest.newBuilder()
+                    .uri(chatCompletionsUri)
+                    .timeout(readTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", accept)
+                    .header("Authorization", "Bearer " + apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(body)
+                    ))
+                    .build();
+
+        } catch (Exception e) {
+            throw new IllegalStateException("OpenAI request serialization failed", e);
+        }
+    }
+
+    /**
+     * in-flight 슬롯 확보
+     * - 제한 초과 상태가 acquire-timeout 이상 지속되면 즉시 실패
+     */
+    private void acquire() {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[OpenAiGateway] in-flight limit reached");
+                throw new IllegalStateException("OpenAI in-flight limit reached");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI call interrupted", e);
+        }
+    }
+
+    private void ensureSuccess(int statusCode) {
+        if (statusCode / 100 != 2) {
+            throw new IllegalStateException(
+                    "OpenAI call failed status=" + statusCode
+            );
+        }
+    }
+}
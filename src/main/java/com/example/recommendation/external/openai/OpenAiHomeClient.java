@@ -1,5 +1,7 @@
 package com.example.recommendation.external.openai;
 
+import java.util.function.Consumer;
+
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.domain.home.answer.AnswerInterpretation;
 import com.example.recommendation.domain.home.slot.DecisionSlot;
@@ -45,6 +47,42 @@ public interface OpenAiHomeClient {
             HomeConversationState state
     );
     
+    /**
+     * 슬롯별 질문 생성 (토큰 스트리밍)
+     * 
+     * - 기본 구현: 완성 문장을 한 번에 전달
+     * 
+     * @param onToken 토큰 도착 콜백
+     * @return 생성된 질문 문장 (전체)
+     */
+    default String generateQuestionStreaming(
+            DecisionSlot slot,
+            HomeConversationState state,
+            Consumer<String> onToken
+    ) {
+        String question = generateQuestion(slot, state);
+        onToken.accept(question);
+        return question;
+    }
+    
+    /**
+     * 슬롯별 가이드 제시 (토큰 스트리밍)
+     * 
+     * - 기본 구현: 완성 문장을 한 번에 전달
+     * 
+     * @param onToken 토큰 도착 콜백
+     * @return 생성된 가이드 문장 (전체)
+     */
+    default String generateGuideStreaming(
+            DecisionSlot slot,
+            HomeConversationState state,
+            Consumer<String> onToken
+    ) {
+        String guide = generateGuide(slot, state);
+        onToken.accept(guide);
+        return guide;
+    }
+    
     /**
      * READY 단계 요약 생성
      * 
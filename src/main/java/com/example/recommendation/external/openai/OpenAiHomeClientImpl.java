@@ -1,21 +1,19 @@
 package com.example.recommendation.external.openai;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.domain.home.answer.AnswerIntent;
 import com.example.recommendation.domain.home.answer.AnswerInterpretation;
-import com.example.recommendation.domain.home.answer.SecondarySignal;
 import com.example.recommendation.domain.home.prompt.HomeAnswerInterpretationPrompt;
 import com.example.recommendation.domain.home.prompt.HomeGuidePrompt;
 import com.example.recommendation.domain.home.prompt.HomeQuestionPrompt;
@@ -42,14 +40,19 @@ public class OpenAiHomeClientImpl implements OpenAiHomeClient {
     private static final Logger log = 
             LoggerFactory.getLogger(OpenAiHomeClientImpl.class);
     
-    private final RestTemplate restTemplate;
-    private final String apiKey;
+    private final OpenAiGateway openAiGateway;
     private final ObjectMapper objectMapper;
     
-    public OpenAiHomeClientImpl() {
-        this.restTemplate = new RestTemplate();
-        this.apiKey = System.getenv("OPENAI_API_KEY");
+    // 🔥 토큰 스트리밍 opt-in (기본 꺼짐)
+    private final boolean streamingEnabled;
+    
+    public OpenAiHomeClientImpl(
+            OpenAiGateway openAiGateway,
+            @Value("${openai.streaming.enabled:false}") boolean streamingEnabled
+    ) {
+        this.openAiGateway = openAiGateway;
         this.objectMapper = new ObjectMapper();
+        this.streamingEnabled = streamingEnabled;
     }
     
     @Override
@@ -98,6 +101,54 @@ public class OpenAiHomeClientImpl implements OpenAiHomeClient {
         }
     }
     
+    @Override
+    public String generateQuestionStreaming(
+            DecisionSlot slot,
+            HomeConversationState state,
+            Consumer<String> onToken
+    ) {
+        
+        if (!streamingEnabled) {
+            return OpenAiHomeClient.super.generateQuestionStreaming(
+                    slot, state, onToken);
+        }
+        
+        log.info("[OpenAiHome] generateQuestionStreaming slot={}", slot);
+        
+        HomeQuestionPrompt prompt = new HomeQuestionPrompt(slot, state);
+        
+        return stream(
+                prompt.toPromptText(),
+                0.4,
+                onToken,
+                () -> getFallbackQuestion(slot)
+        );
+    }
+    
+    @Override
+    public String generateGuideStreaming(
+            DecisionSlot slot,
+            HomeConversationState state,
+            Consumer<String> onToken
+    ) {
+        
+        if (!streamingEnabled) {
+            return OpenAiHomeClient.super.generateGuideStreaming(
+                    slot, state, onToken);
+        }
+        
+        log.info("[OpenAiHome] generateGuideStreaming slot={}", slot);
+        
+        HomeGuidePrompt prompt = new HomeGuidePrompt(slot, state);
+        
+        return stream(
+                prompt.toPromptText(),
+                0.5,
+                onToken,
+                () -> getFallbackGuide(slot)
+        );
+    }
+    
     @Override
     public String generateReadySummary(
             RecommendationCriteria criteria
@@ -133,7 +184,7 @@ public class OpenAiHomeClientImpl implements OpenAiHomeClient {
         
         try {
             String response = callOpenAi(prompt.toPromptText(), 0.0);
-            return parseAnswerInterpretation(response);
+            return OpenAiResponseParser.parseAnswerInterpretation(response);
             
         } catch (Exception e) {
             log.error("[OpenAiHome] answer interpretation failed", e);
@@ -150,27 +201,49 @@ public class OpenAiHomeClientImpl implements OpenAiHomeClient {
      * ========================= */
     
     private String callOpenAi(String prompt, double temperature) {
+        return openAiGateway.chatCompletion(requestBody(prompt, temperature));
+    }
+    
+    /**
+     * 토큰 스트리밍 호출
+     * - 실패 시 아직 토큰을 못 보냈다면 fallback 문장을 전달
+     */
+    private String stream(
+            String prompt,
+            double temperature,
+            Consumer<String> onToken,
+            Supplier<String> fallback
+    ) {
+        AtomicBoolean emitted = new AtomicBoolean(false);
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-        
-        Map<String, Object> body = Map.of(
+        try {
+            return openAiGateway.streamChatCompletion(
+                    requestBody(prompt, temperature),
+                    token -> {
+                        emitted.set(true);
+                        onToken.accept(token);
+                    }
+            );
+            
+        } catch (Exception e) {
+            log.error("[OpenAiHome] streaming failed, fallback", e);
+            
+            String message = fallback.get();
+            if (!emitted.get()) {
+                onToken.accept(message);
+            }
+            return message;
+        }
+    }
+    
+    private Map<String, Object> requestBody(String prompt, double temperature) {
+        return Map.of(
                 "model", "gpt-4o-mini",
                 "temperature", temperature,
                 "messages", List.of(
                         Map.of("role", "user", "content", prompt)
                 )
         );
-        
-        HttpEntity<Map<String, Object>> request =
-                new HttpEntity<>(body, headers);
-        
-        return restTemplate.postForObject(
-                "https://api.openai.com/v1/chat/completions",
-                request,
-                String.class
-        );
     }
     
     private String extractTextContent(String response) throws Exception {
@@ -182,35 +255,6 @@ public class OpenAiHomeClientImpl implements OpenAiHomeClient {
                 .asText();
     }
     
-    private AnswerInterpretation parseAnswerInterpretation(String response) 
-            throws Exception {
-        
-        String content = extractTextContent(response);
-        
-        // JSON 파싱
-        JsonNode json = objectMapper.readTree(content);
-        
-        String intentStr = json.path("primaryIntent").asText();
-        AnswerIntent intent = AnswerIntent.valueOf(intentStr);
-        
-        String normalizedValue = json.path("normalizedValue").asText();
-        
-        List<SecondarySignal> signals = new ArrayList<>();
-        JsonNode signalsNode = json.path("secondarySignals");
-        
-        if (signalsNode.isArray()) {
-            for (JsonNode signal : signalsNode) {
-                String slotStr = signal.path("targetSlot").asText();
-                String value = signal.path("value").asText();
-                
-                DecisionSlot slot = DecisionSlot.valueOf(slotStr);
-                signals.add(new SecondarySignal(slot, value));
-            }
-        }
-        
-        return new AnswerInterpretation(intent, normalizedValue, signals);
-    }
-    
     /* =========================
      * Fallback Messages
      * ========================= */
@@ -12,19 +12,23 @@ import java.util.Map;
  */
 public class OpenAiRequestFactory {
 
-    public static Map<String, Object> criteriaRequest(String prompt, String apiKey) {
+    static final String CRITERIA_MODEL = "gpt-4o-mini";
+    static final String CRITERIA_SYSTEM_PROMPT = "너는 상품 추천 시스템의 조건 추출기다.";
+    static final int CRITERIA_TEMPERATURE = 0;
+
+    public static Map<String, Object> criteriaRequest(String prompt) {
 
         return Map.of(
-                "model", "gpt-4o-mini",
+                "model", CRITERIA_MODEL,
                 "messages", List.of(
-                        Map.of("role", "system", "content", "너는 상품 추천 시스템의 조건 추출기다."),
+                        Map.of("role", "system", "content", CRITERIA_SYSTEM_PROMPT),
                         Map.of("role", "user", "content", prompt)
                 ),
-                "temperature", 0
+                "temperature", CRITERIA_TEMPERATURE
         );
     }
     
-    public static Object explanationRequest(String prompt, String apiKey) {
+    public static Map<String, Object> explanationRequest(String prompt) {
         return Map.of(
             "model", "gpt-4o-mini",
             "messages", List.of(
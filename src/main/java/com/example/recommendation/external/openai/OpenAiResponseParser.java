@@ -1,17 +1,24 @@
 package com.example.recommendation.external.openai;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import com.example.recommendation.domain.home.answer.AnswerIntent;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.domain.home.answer.SecondarySignal;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
 import com.example.recommendation.dto.AiCriteriaResultDto;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * OpenAI 응답 파싱 전용
  *
  * [격리 전략]
- * - JsonNode 직접 조작 ❌
+ * - 호출부의 JsonNode 직접 조작 ❌ (JSON 구조는 여기서만 안다)
  * - 의미 해석 ❌
  * - 판단 ❌
  * - fallback ❌
@@ -40,6 +47,42 @@ public class OpenAiResponseParser {
         }
     }
 
+    /* =========================
+       답변 해석 파싱 (HomeAnswerInterpretationPrompt 계약)
+       ========================= */
+
+    public static AnswerInterpretation parseAnswerInterpretation(String response) {
+        try {
+            return toAnswerInterpretation(
+                    objectMapper.readTree(contentOf(response))
+            );
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* =========================
+       통합 추출 파싱 ({"answer": ..., "criteria": ...})
+       ========================= */
+
+    public static TurnExtraction parseTurnExtraction(String response) {
+        try {
+            JsonNode root = objectMapper.readTree(contentOf(response));
+
+            return new TurnExtraction(
+                    toAnswerInterpretation(root.path("answer")),
+                    objectMapper.treeToValue(
+                            root.path("criteria"),
+                            AiCriteriaResultDto.class
+                    )
+            );
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /* =========================
        상단 설명 파싱 (기존)
        ========================= */
@@ -91,4 +134,79 @@ public class OpenAiResponseParser {
             throw new RuntimeException(e);
         }
     }
+
+    /* =========================
+       카드 설명 배치 파싱 (섹션ID → 상품ID → 설명)
+       ========================= */
+
+    public static Map<String, Map<Long, String>> parseCardExplanationBatch(
+            String response
+    ) {
+        try {
+            String content = objectMapper.readTree(response)
+                    .path("choices")
+                    .get(0)
+                    .path("message")
+                    .path("content")
+                    .asText();
+
+            Map<String, Map<String, String>> raw =
+                    objectMapper.readValue(
+                            content,
+                            new TypeReference<Map<String, Map<String, String>>>() {}
+                    );
+
+            return raw.entrySet().stream()
+                    .collect(
+                            java.util.stream.Collectors.toMap(
+                                    Map.Entry::getKey,
+                                    section -> section.getValue().entrySet().stream()
+                                            .collect(
+                                                    java.util.stream.Collectors.toMap(
+                                                            e -> Long.valueOf(e.getKey()),
+                                                            Map.Entry::getValue
+                                                    )
+                                            )
+                            )
+                    );
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* =========================
+       내부
+       ========================= */
+
+    private static String contentOf(String response) throws Exception {
+        return objectMapper.readTree(response)
+                .path("choices")
+                .get(0)
+                .path("message")
+                .path("content")
+                .asText();
+    }
+
+    private static AnswerInterpretation toAnswerInterpretation(JsonNode json) {
+
+        AnswerIntent intent =
+                AnswerIntent.valueOf(json.path("primaryIntent").asText());
+
+        String normalizedValue = json.path("normalizedValue").asText();
+
+        List<SecondarySignal> signals = new ArrayList<>();
+        JsonNode signalsNode = json.path("secondarySignals");
+
+        if (signalsNode.isArray()) {
+            for (JsonNode signal : signalsNode) {
+                signals.add(new SecondarySignal(
+                        DecisionSlot.valueOf(signal.path("targetSlot").asText()),
+                        signal.path("value").asText()
+                ));
+            }
+        }
+
+        return new AnswerInterpretation(intent, normalizedValue, signals);
+    }
 }
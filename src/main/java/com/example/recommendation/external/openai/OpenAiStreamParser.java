@@ -0,0 +1,70 @@
+package com.example.recommendation.external.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * OpenAI 스트리밍(stream=true) 응답 한 줄 파싱 전용
+ *
+ * SSE 형식:
+ *   data: {"choices":[{"delta":{"content":"안"}}]}
+ *   data: [DONE]
+ *
+ * [격리 전략]
+ * - 의미 해석 ❌
+ * - 판단 ❌
+ * - fallback ❌
+ */
+public class OpenAiStreamParser {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String DONE = "[DONE]";
+
+    /**
+     * 스트림 종료 신호 여부
+     */
+    public static boolean isDone(String line) {
+        String payload = payloadOf(line);
+        return DONE.equals(payload);
+    }
+
+    /**
+     * delta.content 추출
+     *
+     * @return 토큰 문자열, 내용이 없는 줄(keep-alive / role / finish)이면 null
+     */
+    public static String parseDeltaContent(String line) {
+        String payload = payloadOf(line);
+
+        if (payload == null || payload.isEmpty() || DONE.equals(payload)) {
+            return null;
+        }
+
+        try {
+            JsonNode delta = objectMapper.readTree(payload)
+                    .path("choices")
+                    .path(0)
+                    .path("delta");
+
+            JsonNode content = delta.path("content");
+            if (content.isMissingNode() || content.isNull()) {
+                return null;
+            }
+
+            String token = content.asText();
+            return token.isEmpty() ? null : token;
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String payloadOf(String line) {
+        if (line == null || !line.startsWith(DATA_PREFIX)) {
+            return null;
+        }
+        return line.substring(DATA_PREFIX.length()).trim();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.recommendation.external.openai;
+
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+/**
+ * 답변 해석 + 조건 추출 통합 호출 클라이언트
+ *
+ * - 한 턴의 같은 발화에 대한 두 프롬프트를 한 번의 호출로
+ * - 판단 ❌ / 변환만 담당
+ */
+public interface OpenAiTurnExtractionClient {
+
+    TurnExtraction extract(String userInput, DecisionSlot lastAskedSlot);
+}
@@ -0,0 +1,104 @@
+package com.example.recommendation.external.openai;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.home.prompt.HomeAnswerInterpretationPrompt;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+/**
+ * 통합 추출 OpenAI 클라이언트
+ *
+ * 책임:
+ * 1. 답변 해석 프롬프트 + Criteria 프롬프트를 하나로 묶기
+ * 2. JSON 모드(response_format=json_object) 1회 호출
+ * 3. {"answer": ..., "criteria": ...} → TurnExtraction
+ *
+ * 판단 ❌
+ * 보정 ❌
+ * fallback ❌ (호출자가 개별 호출로 되돌린다)
+ */
+@Component
+public class OpenAiTurnExtractionClientImpl implements OpenAiTurnExtractionClient {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OpenAiTurnExtractionClientImpl.class);
+
+    private final OpenAiGateway openAiGateway;
+
+    public OpenAiTurnExtractionClientImpl(OpenAiGateway openAiGateway) {
+        this.openAiGateway = openAiGateway;
+    }
+
+    @Override
+    public TurnExtraction extract(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+
+        log.info("[OpenAiTurnExtraction] input={}, lastAsked={}",
+                userInput, lastAskedSlot);
+
+        String prompt = buildPrompt(userInput, lastAskedSlot);
+
+        String response =
+                openAiGateway.chatCompletion(requestBody(prompt));
+
+        try {
+            return OpenAiResponseParser.parseTurnExtraction(response);
+
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(
+                    "Invalid turn extraction response", e
+            );
+        }
+    }
+
+    /**
+     * 두 계약 프롬프트를 그대로 싣고, 반환 형식만 하나로 묶는다
+     */
+    private String buildPrompt(String userInput, DecisionSlot lastAskedSlot) {
+
+        String answerTask =
+                new HomeAnswerInterpretationPrompt(userInput, lastAskedSlot)
+                        .toPromptText();
+
+        String criteriaTask =
+                OpenAiCriteriaClientImpl.PROMPT_TEMPLATE.formatted(userInput);
+
+        return """
+    너는 같은 사용자 발화에 대해 두 작업을 한 번에 수행한다.
+
+    각 작업의 규칙은 그대로 지키되,
+    각 작업이 요구하는 JSON을 아래 최종 형식의 필드에 넣어
+    JSON 객체 하나로만 응답하라.
+
+    [최종 반환 형식]
+    {
+      "answer":   <작업 A의 반환 JSON>,
+      "criteria": <작업 B의 응답 JSON>
+    }
+
+    ===== 작업 A: 답변 해석 =====
+    %s
+
+    ===== 작업 B: 조건 추출 =====
+    %s
+    """.formatted(answerTask, criteriaTask);
+    }
+
+    private Map<String, Object> requestBody(String prompt) {
+        return Map.of(
+                "model", OpenAiRequestFactory.CRITERIA_MODEL,
+                "temperature", 0,
+                "response_format", Map.of("type", "json_object"),
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                )
+        );
+    }
+}
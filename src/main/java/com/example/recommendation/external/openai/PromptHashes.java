@@ -0,0 +1,28 @@
+package com.example.recommendation.external.openai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 프롬프트 / 조건 지문 해시
+ *
+ * - 응답 캐시 키에 넣는 짧은 버전 값 (SHA-256 앞 8바이트, hex 16자)
+ * - 보안 용도 ❌ (충돌 확률만 낮으면 된다)
+ */
+public final class PromptHashes {
+
+    private PromptHashes() {
+    }
+
+    public static String sha256Prefix(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.recommendation.external.openai;
+
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+/**
+ * 통합 추출 결과 (한 번의 호출로 받은 두 결과)
+ *
+ * - interpretation: 답변 해석 (HomeAnswerInterpretationPrompt 계약)
+ * - criteria: 조건 추출 (Criteria 프롬프트 계약)
+ */
+public record TurnExtraction(
+        AnswerInterpretation interpretation,
+        AiCriteriaResultDto criteria
+) {
+}
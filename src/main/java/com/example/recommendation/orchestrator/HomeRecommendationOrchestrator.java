@@ -1,34 +1,39 @@
 package com.example.recommendation.orchestrator;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.example.recommendation.domain.criteria.CommandType;
 import com.example.recommendation.domain.criteria.ConversationContext;
 import com.example.recommendation.domain.criteria.ConversationContextService;
-import com.example.recommendation.domain.criteria.CriteriaService;
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.domain.criteria.SearchReadiness;
 import com.example.recommendation.domain.criteria.SearchReadinessEvaluator;
 import com.example.recommendation.domain.criteria.SearchReadinessResult;
 import com.example.recommendation.domain.decision.Decision;
 import com.example.recommendation.domain.decision.DecisionResult;
+import com.example.recommendation.domain.evaluation.EvaluatedProduct;
 import com.example.recommendation.domain.evaluation.EvaluationResult;
+import com.example.recommendation.domain.explanation.ExplanationPolicy;
 import com.example.recommendation.domain.home.HomeService;
 import com.example.recommendation.domain.home.answer.UserInputProcessor;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
 import com.example.recommendation.domain.home.state.HomeConversationState;
 import com.example.recommendation.domain.recommendation.RecommendationService;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
 import com.example.recommendation.domain.search.SearchService;
+import com.example.recommendation.domain.session.ConversationSession;
+import com.example.recommendation.domain.session.ConversationSessionManager;
 import com.example.recommendation.dto.RecommendationRequestDto;
 import com.example.recommendation.dto.RecommendationResponseDto;
-import com.example.recommendation.external.naver.dto.Product;
 
 @Component
 public class HomeRecommendationOrchestrator {
@@ -36,75 +41,458 @@ public class HomeRecommendationOrchestrator {
     private static final Logger log =
             LoggerFactory.getLogger(HomeRecommendationOrchestrator.class);
 
-    private final CriteriaService criteriaService;
-    private final ConversationContextService contextService;
+    // RETRY_SEARCH 한 번에 보여줄 후보 수 (EvaluationService top 5)
+    private static final int RETRY_SLICE_SIZE = 5;
+
+    // 같은 세션이 바쁠 때 안내 (턴 응답 / /reset 응답 공용)
+    public static final String BUSY_MESSAGE =
+            "이전 요청을 처리하고 있어요. 잠시 후 다시 시도해주세요.";
+
+    private final ConversationSessionManager sessionManager;
+    private final SessionTurnGate turnGate;
     private final SearchReadinessEvaluator searchReadinessEvaluator;
     private final SearchService searchService;
     private final RecommendationService recommendationService;
     private final HomeService homeService;
     private final RecommendationResponseAssembler assembler;
     private final UserInputProcessor userInputProcessor;
-    private final ObjectProvider<HomeConversationState> stateProvider;
+    private final TurnInputResolver turnInputResolver;
+    private final StageBudgets stageBudgets;
+    private final PipelineMetrics pipelineMetrics;
+    private final Executor pipelineExecutor;
+    private final Executor turnExecutor;
 
     public HomeRecommendationOrchestrator(
-            CriteriaService criteriaService,
-            ConversationContextService contextService,
+            ConversationSessionManager sessionManager,
+            SessionTurnGate turnGate,
             SearchReadinessEvaluator searchReadinessEvaluator,
             SearchService searchService,
             RecommendationService recommendationService,
             HomeService homeService,
             RecommendationResponseAssembler assembler,
             UserInputProcessor userInputProcessor,
-            ObjectProvider<HomeConversationState> stateProvider
+            TurnInputResolver turnInputResolver,
+            StageBudgets stageBudgets,
+            PipelineMetrics pipelineMetrics,
+            @Qualifier("pipelineExecutor") Executor pipelineExecutor,
+            @Qualifier("turnExecutor") Executor turnExecutor
     ) {
-        this.criteriaService = criteriaService;
-        this.contextService = contextService;
+        this.sessionManager = sessionManager;
+        this.turnGate = turnGate;
         this.searchReadinessEvaluator = searchReadinessEvaluator;
         this.searchService = searchService;
         this.recommendationService = recommendationService;
         this.homeService = homeService;
         this.assembler = assembler;
         this.userInputProcessor = userInputProcessor;
-        this.stateProvider = stateProvider;
+        this.turnInputResolver = turnInputResolver;
+        this.stageBudgets = stageBudgets;
+        this.pipelineMetrics = pipelineMetrics;
+        this.pipelineExecutor = pipelineExecutor;
+        this.turnExecutor = turnExecutor;
     }
 
-    public RecommendationResponseDto handle(RecommendationRequestDto request) {
+    /**
+     * 동기 처리 (/home 기본 모드)
+     *
+     * - 같은 세션 턴은 SessionTurnGate로 한 번에 하나씩 (모든 변형 공통)
+     */
+    public RecommendationResponseDto handle(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+        CompletableFuture<RecommendationResponseDto> turn = gated(
+                sessionId,
+                request,
+                () -> CompletableFuture.completedFuture(handleTurn(sessionId, request))
+        );
 
-        // 🔥 세션 state 매 요청마다 조회
-        HomeConversationState homeConversationState =
-                stateProvider.getObject();
+        try {
+            return turn.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private RecommendationResponseDto handleTurn(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+
+        // 🔥 턴 전체 마감 (단계별 예산 초과 시 fallback으로 degrade)
+        TurnDeadline deadline = stageBudgets.start();
+
+        // 🔥 세션 state 매 요청마다 저장소(무상태 모드는 토큰)에서 조회
+        ConversationSession session = loadSession(sessionId, request);
+
+        HomeTurn turn = resolveTurn(session, request, deadline);
+
+        if (turn.isCompleted()) {
+            return withStateToken(turn.response(), session);
+        }
+
+        // ✅ 6️⃣ 메인 설명 + 카드 설명 병렬 생성
+        return withStateToken(
+                assembler.assemble(
+                        turn.evaluationResult(),
+                        turn.criteria(),
+                        deadline
+                ),
+                session
+        );
+    }
+
+    /**
+     * 비동기 변형 (/home 비동기 모드)
+     *
+     * - 서블릿 스레드: 세션 state 조회 + 해석 호출 시작까지만
+     *   (해석 호출에 직전 질문 슬롯이 필요)
+     * - 이후 단계는 future로 이어지고, 블로킹 단계(반영 / 검색 / 평가 / 저장)는 turnExecutor에서
+     *   → 네트워크 대기 중 서블릿 스레드 점유 ❌
+     * - 세션 state 변경은 한 턴 안에서 applyTurnInput 한 단계에서만 (순서 보장)
+     */
+    public CompletableFuture<RecommendationResponseDto> handleAsync(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+        return gated(
+                sessionId,
+                request,
+                () -> handleTurnAsync(sessionId, request)
+        );
+    }
+
+    private CompletableFuture<RecommendationResponseDto> handleTurnAsync(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+
+        TurnDeadline deadline = stageBudgets.start();
+
+        if (request == null || request.getUserInput() == null) {
+            return CompletableFuture.completedFuture(
+                    RecommendationResponseDto.invalid(
+                            "요청이 올바르지 않습니다."
+                    )
+            );
+        }
+
+        log.info("[Orchestrator] handleAsync start");
+
+        ConversationSession session = loadSession(sessionId, request);
+
+        DecisionSlot lastAskedSlot =
+                session.getHomeState()
+                        .getQuestionContext()
+                        .getLastAskedSlot();
+
+        return turnInputResolver
+                .resolveAsync(request.getUserInput(), lastAskedSlot, deadline)
+                .thenApplyAsync(
+                        turnInput -> applyTurnInput(
+                                turnInput,
+                                session,
+                                deadline
+                        ),
+                        turnExecutor
+                )
+                .thenCompose(turn -> turn.isCompleted()
+                        ? CompletableFuture.completedFuture(turn.response())
+                        : assembler.assembleAsync(
+                                turn.evaluationResult(),
+                                turn.criteria(),
+                                deadline
+                        )
+                )
+                .thenApply(response -> withStateToken(response, session));
+    }
+
+    /**
+     * 스트리밍 변형
+     *
+     * - 세션 state 변경(해석 / 병합 / 검색 / 평가)은 호출 스레드에서 끝낸다
+     * - 설명 생성은 비동기로 진행하며 단계별로 listener에 전달
+     * - 시간 예산은 설명 직전 단계까지만 (토큰은 도착하는 대로 흘려보낸다)
+     * - 턴 게이트는 state 변경까지만 잡는다 (스트림은 공유할 수 없어 중복 병합 ❌, 줄만 선다)
+     */
+    public void stream(
+            String sessionId,
+            RecommendationRequestDto request,
+            RecommendationStreamListener listener
+    ) {
+        turnGate.<RecommendationResponseDto>submit(
+                        gateKey(sessionId, request),
+                        null,
+                        () -> CompletableFuture.completedFuture(
+                                streamTurn(sessionId, request, listener)
+                        )
+                )
+                .exceptionallyCompose(error -> recoverBusy(error, request))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        listener.onError(
+                                error instanceof CompletionException
+                                        && error.getCause() != null
+                                        ? error.getCause()
+                                        : error
+                        );
+                    } else if (response != null) {
+                        listener.onComplete(response);
+                    }
+                });
+    }
+
+    /**
+     * @return 검색 없이 끝난 턴의 응답 (검색 턴은 listener로 흘려보내고 null)
+     */
+    private RecommendationResponseDto streamTurn(
+            String sessionId,
+            RecommendationRequestDto request,
+            RecommendationStreamListener listener
+    ) {
+
+        ConversationSession session = loadSession(sessionId, request);
+
+        HomeTurn turn = resolveTurn(session, request, stageBudgets.start());
+
+        if (turn.isCompleted()) {
+            return withStateToken(turn.response(), session);
+        }
+
+        assembler.stream(
+                turn.evaluationResult(),
+                turn.criteria(),
+                withStateToken(listener, session)
+        );
+        return null;
+    }
+
+    /**
+     * 맥락 리셋 (/reset)
+     *
+     * - 턴과 같은 게이트에 줄을 선다 → 진행 중인 턴이 끝난 뒤 리셋
+     *   (게이트 밖에서 리셋하면 진행 중인 턴의 save가 리셋을 덮어쓴다)
+     * - 중복 판단 ❌ (입력 없음) → 줄만 선다, 대기 한도 초과 시 BusyException
+     *
+     * @return 무상태 모드면 새 토큰, 저장소 모드면 null
+     */
+    public String resetContext(String sessionId, String stateToken) {
+        CompletableFuture<String> reset = turnGate.submit(
+                gateKey(sessionId, stateToken),
+                null,
+                () -> CompletableFuture.completedFuture(
+                        sessionManager.resetContext(sessionId, stateToken)
+                )
+        );
+
+        try {
+            return reset.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 단위 직렬화 + 중복 처리 (SessionTurnGate)
+     * - 바쁨(중복 reject / 대기 한도)은 안내 응답으로 (받은 토큰은 그대로)
+     */
+    private CompletableFuture<RecommendationResponseDto> gated(
+            String sessionId,
+            RecommendationRequestDto request,
+            Supplier<CompletableFuture<RecommendationResponseDto>> turn
+    ) {
+        return turnGate
+                .submit(
+                        gateKey(sessionId, request),
+                        request == null ? null : request.getUserInput(),
+                        turn
+                )
+                .exceptionallyCompose(error -> recoverBusy(error, request));
+    }
+
+    /**
+     * 저장소 모드: 세션 id / 무상태 모드: 받은 토큰 (같은 토큰 = 같은 턴 기준)
+     * - 둘 다 없으면 새 세션 첫 턴 → 직렬화 ❌
+     */
+    private static String gateKey(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+        return gateKey(sessionId, request == null ? null : request.getStateToken());
+    }
+
+    private static String gateKey(String sessionId, String stateToken) {
+        return sessionId != null ? sessionId : stateToken;
+    }
+
+    private static CompletableFuture<RecommendationResponseDto> recoverBusy(
+            Throwable error,
+            RecommendationRequestDto request
+    ) {
+        Throwable cause = error instanceof CompletionException
+                && error.getCause() != null
+                ? error.getCause()
+                : error;
+
+        if (!(cause instanceof SessionTurnGate.BusyException)) {
+            return CompletableFuture.failedFuture(cause);
+        }
 
-        System.out.println("🔥 ORCH_STATE_HASH = "
-                + homeConversationState.hashCode());
+        RecommendationResponseDto busy =
+                RecommendationResponseDto.invalid(BUSY_MESSAGE);
+        if (request != null) {
+            busy.setStateToken(request.getStateToken());
+        }
+        return CompletableFuture.completedFuture(busy);
+    }
 
-        ServletRequestAttributes attr =
-                (ServletRequestAttributes)
-                        RequestContextHolder.currentRequestAttributes();
+    private ConversationSession loadSession(
+            String sessionId,
+            RecommendationRequestDto request
+    ) {
+        return sessionManager.load(
+                sessionId,
+                request == null ? null : request.getStateToken()
+        );
+    }
 
-        String sessionId =
-                attr.getRequest().getSession().getId();
+    /**
+     * 무상태 모드: 이번 턴에 발급된 상태 토큰을 응답에 싣는다 (저장소 모드면 null → 생략)
+     */
+    private static RecommendationResponseDto withStateToken(
+            RecommendationResponseDto response,
+            ConversationSession session
+    ) {
+        response.setStateToken(session.getStateToken());
+        return response;
+    }
 
-        System.out.println("🔥 세션ID = " + sessionId);
+    /**
+     * 스트리밍: 최종 응답(done)에만 상태 토큰을 싣는다
+     * - 토큰은 설명 생성 전에 이미 발급됨 (applyTurnInput에서 저장)
+     */
+    private static RecommendationStreamListener withStateToken(
+            RecommendationStreamListener listener,
+            ConversationSession session
+    ) {
+        if (session.getStateToken() == null) {
+            return listener;
+        }
+
+        return new RecommendationStreamListener() {
+
+            @Override
+            public void onItems(List<RecommendationResponseDto.Item> items) {
+                listener.onItems(items);
+            }
+
+            @Override
+            public void onMessageToken(String token) {
+                listener.onMessageToken(token);
+            }
+
+            @Override
+            public void onMessage(String message) {
+                listener.onMessage(message);
+            }
+
+            @Override
+            public void onCardExplanation(Long productId, String explanation) {
+                listener.onCardExplanation(productId, explanation);
+            }
+
+            @Override
+            public void onComplete(RecommendationResponseDto response) {
+                listener.onComplete(withStateToken(response, session));
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                listener.onError(error);
+            }
+        };
+    }
+
+    /**
+     * 설명 생성 직전까지 한 턴 진행
+     */
+    private HomeTurn resolveTurn(
+            ConversationSession session,
+            RecommendationRequestDto request,
+            TurnDeadline deadline
+    ) {
+
+        System.out.println("🔥 세션ID = " + session.getSessionId());
 
         if (request == null || request.getUserInput() == null) {
-            return RecommendationResponseDto.invalid(
-                    "요청이 올바르지 않습니다."
+            return HomeTurn.completed(
+                    RecommendationResponseDto.invalid(
+                            "요청이 올바르지 않습니다."
+                    )
             );
         }
 
         log.info("[Orchestrator] handle start");
 
-        // ✅ 1️⃣ 사용자 입력을 먼저 세션 state에 반영
-        userInputProcessor.processUserInput(
-                request.getUserInput(),
+        String userInput = request.getUserInput();
+
+        DecisionSlot lastAskedSlot =
+                session.getHomeState()
+                        .getQuestionContext()
+                        .getLastAskedSlot();
+
+        // ✅ 1️⃣ 답변 해석 + Criteria 생성 (병렬 또는 통합 1회 호출)
+        // - 세션 state 변경은 이후 요청 스레드에서만
+        TurnInput turnInput =
+                turnInputResolver.resolve(userInput, lastAskedSlot, deadline);
+
+        return applyTurnInput(turnInput, session, deadline);
+    }
+
+    /**
+     * 해석 결과 반영 → readiness → 검색 / 평가
+     *
+     * - 세션 state를 바꾸는 유일한 단계
+     * - 동기: 요청 스레드 / 비동기: turnExecutor
+     * - 끝나면 저장소에 저장 (예외여도 그 시점까지 바뀐 state는 남긴다)
+     */
+    private HomeTurn applyTurnInput(
+            TurnInput turnInput,
+            ConversationSession session,
+            TurnDeadline deadline
+    ) {
+        try {
+            return advanceTurn(turnInput, session, deadline);
+        } finally {
+            sessionManager.save(session);
+        }
+    }
+
+    private HomeTurn advanceTurn(
+            TurnInput turnInput,
+            ConversationSession session,
+            TurnDeadline deadline
+    ) {
+
+        HomeConversationState homeConversationState =
+                session.getHomeState();
+        ConversationContextService contextService =
+                session.getContextService();
+
+        // ✅ 2️⃣ 사용자 입력을 먼저 세션 state에 반영
+        userInputProcessor.applyInterpretation(
+                turnInput.interpretation(),
                 homeConversationState
         );
 
-        // ✅ 2️⃣ Criteria 생성
-        RecommendationCriteria incoming =
-                criteriaService.createCriteria(
-                        request.getUserInput()
-                );
+        // ✅ 3️⃣ 이번 발화의 Criteria
+        RecommendationCriteria incoming = turnInput.criteria();
 
         CommandType command = incoming.getCommandType();
 
@@ -114,67 +502,66 @@ public class HomeRecommendationOrchestrator {
         }
 
         if (command == CommandType.RETRY_SEARCH) {
-            return handleRetrySearch();
+            return handleRetrySearch(contextService, deadline);
         }
 
         contextService.merge(incoming);
         ConversationContext context = contextService.getContext();
 
-        // ✅ 3️⃣ readiness 평가
+        // ✅ 4️⃣ readiness 평가
         SearchReadinessResult readinessResult =
-                searchReadinessEvaluator.evaluate(context, incoming);
+                pipelineMetrics.time(
+                        PipelineMetrics.READINESS,
+                        () -> searchReadinessEvaluator.evaluate(context, incoming)
+                );
 
         if (readinessResult.readiness()
                 == SearchReadiness.NEED_MORE_CONTEXT) {
 
-            return homeService.handle(
-                    DecisionResult.discovery(
-                            Decision.requery(),
-                            readinessResult.reason()
-                    ),
-                    incoming,
-                    homeConversationState
+            return HomeTurn.completed(
+                    homeService.handle(
+                            DecisionResult.discovery(
+                                    Decision.requery(),
+                                    readinessResult.reason()
+                            ),
+                            incoming,
+                            homeConversationState
+                    )
             );
         }
 
-        // ✅ 4️⃣ SEARCH 단계
+        // ✅ 5️⃣ SEARCH 단계
         RecommendationCriteria criteriaForSearch =
                 context.toCriteria();
 
-        List<Product> products =
-                searchService.search(criteriaForSearch);
-
-        EvaluationResult evaluationResult =
-                recommendationService.evaluate(
-                        criteriaForSearch,
-                        products
-                );
+        SearchCandidateWindow window =
+                openWindowWithinBudget(criteriaForSearch, deadline);
 
-        String message =
-                assembler.buildMainMessage(
-                        evaluationResult,
-                        criteriaForSearch
-                );
+        if (window == null) {
+            return searchDegraded();
+        }
 
-        Map<Long, String> cardExplanations =
-                assembler.buildCardExplanations(
-                        evaluationResult,
-                        criteriaForSearch
-                );
+        context.setSearchWindow(window);
 
-        List<RecommendationResponseDto.Item> items =
-                assembler.assembleItems(
-                        evaluationResult,
-                        cardExplanations
-                );
+        EvaluationResult evaluationResult =
+                evaluateUnseen(window, criteriaForSearch);
 
-        return RecommendationResponseDto.recommend(
-                items,
-                message
+        return HomeTurn.searched(
+                evaluationResult,
+                criteriaForSearch
         );
     }
 
-    private RecommendationResponseDto handleRetrySearch() {
+    private HomeTurn handleRetrySearch(
+            ConversationContextService contextService,
+            TurnDeadline deadline
+    ) {
+
+        // 창 이어 받기는 세션 창을 직접 바꾸므로 state 변경 단계 안에서만
+        // → 시작 전에 턴 마감만 확인
+        if (stageBudgets.skipIfExpired(deadline, PipelineStage.SEARCH)) {
+            return searchDegraded();
+        }
 
         ConversationContext context =
                 contextService.getContext();
@@ -182,37 +569,95 @@ public class HomeRecommendationOrchestrator {
         RecommendationCriteria criteria =
                 context.toCriteria();
 
-        int offset = context.getRetryCount() * 5;
-
-        List<Product> products =
-                searchService.searchWithOffset(criteria, offset);
+        // 🔥 네이버 재호출 ❌ → 세션에 보관한 후보 창에서 다음 후보
+        // - 창이 소진됐을 때만 더 큰 페이지로 이어 받아온다
+        SearchCandidateWindow window =
+                pipelineMetrics.time(
+                        PipelineMetrics.SEARCH,
+                        () -> searchService.prepareRetryWindow(
+                                context.getSearchWindow(),
+                                criteria,
+                                RETRY_SLICE_SIZE
+                        )
+                );
+        context.setSearchWindow(window);
 
         context.increaseRetryCount();
 
         EvaluationResult evaluationResult =
-                recommendationService.evaluate(criteria, products);
+                evaluateUnseen(window, criteria);
 
-        String message =
-                assembler.buildMainMessage(
-                        evaluationResult,
-                        criteria
-                );
+        return HomeTurn.searched(
+                evaluationResult,
+                criteria
+        );
+    }
+
+    /**
+     * 새 검색 창 열기 (SEARCH 단계 예산 안에서만)
+     *
+     * - 새 창은 세션과 무관한 객체 → 작업 스레드에서 만들어도 안전
+     * - 예산 초과 / 턴 마감이면 null (늦게 온 결과는 네이버 캐시에만 남는다)
+     */
+    private SearchCandidateWindow openWindowWithinBudget(
+            RecommendationCriteria criteria,
+            TurnDeadline deadline
+    ) {
+        if (stageBudgets.skipIfExpired(deadline, PipelineStage.SEARCH)) {
+            return null;
+        }
 
-        Map<Long, String> cardExplanations =
-                assembler.buildCardExplanations(
-                        evaluationResult,
-                        criteria
+        long searchEnd =
+                stageBudgets.stageEnd(deadline, PipelineStage.SEARCH);
+
+        CompletableFuture<SearchCandidateWindow> windowFuture =
+                CompletableFuture.supplyAsync(
+                        () -> pipelineMetrics.time(
+                                PipelineMetrics.SEARCH,
+                                () -> searchService.openWindow(criteria)
+                        ),
+                        pipelineExecutor
                 );
 
-        List<RecommendationResponseDto.Item> items =
-                assembler.assembleItems(
-                        evaluationResult,
-                        cardExplanations
+        return stageBudgets.await(
+                windowFuture,
+                PipelineStage.SEARCH,
+                searchEnd,
+                () -> null
+        );
+    }
+
+    private HomeTurn searchDegraded() {
+        return HomeTurn.completed(
+                RecommendationResponseDto.requery(
+                        ExplanationPolicy.REQUERY_SEARCH_ZERO.getMessage()
+                )
+        );
+    }
+
+    /**
+     * 창에서 아직 안 보여준 후보만 평가하고, 결과로 나간 상품을 기록
+     */
+    private EvaluationResult evaluateUnseen(
+            SearchCandidateWindow window,
+            RecommendationCriteria criteria
+    ) {
+
+        EvaluationResult evaluationResult =
+                pipelineMetrics.time(
+                        PipelineMetrics.EVALUATION,
+                        () -> recommendationService.evaluate(
+                                criteria,
+                                window.unseen()
+                        )
                 );
 
-        return RecommendationResponseDto.recommend(
-                items,
-                message
+        window.markShown(
+                evaluationResult.getProducts().stream()
+                        .map(EvaluatedProduct::getProduct)
+                        .toList()
         );
+
+        return evaluationResult;
     }
 }
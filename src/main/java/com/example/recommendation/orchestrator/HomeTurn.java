@@ -0,0 +1,36 @@
+package com.example.recommendation.orchestrator;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.evaluation.EvaluationResult;
+import com.example.recommendation.dto.RecommendationResponseDto;
+
+/**
+ * 설명 생성 직전까지 진행된 한 턴의 결과
+ *
+ * - completed : HOME / INVALID 등 이미 응답이 확정된 턴
+ * - searched  : 검색 + 평가까지 끝나고 설명(AI)만 남은 턴
+ *
+ * 세션 state 변경은 이 객체가 만들어지기 전에 모두 끝난다.
+ * → 이후 설명 생성은 세션과 무관하게 어느 스레드에서든 진행 가능
+ */
+record HomeTurn(
+        RecommendationResponseDto response,
+        EvaluationResult evaluationResult,
+        RecommendationCriteria criteria
+) {
+
+    static HomeTurn completed(RecommendationResponseDto response) {
+        return new HomeTurn(response, null, null);
+    }
+
+    static HomeTurn searched(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria
+    ) {
+        return new HomeTurn(null, evaluationResult, criteria);
+    }
+
+    boolean isCompleted() {
+        return response != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.recommendation.orchestrator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 병렬 / 비동기 파이프라인 헬퍼
+ *
+ * - join 시 CompletionException을 벗겨 원래 예외를 그대로 다시 던진다
+ */
+final class PipelineFutures {
+
+    private PipelineFutures() {
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * CompletionException → 원래 예외 (RuntimeException / Error는 그대로)
+     */
+    static RuntimeException unwrap(Throwable error) {
+        Throwable cause =
+                error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.recommendation.orchestrator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 턴 파이프라인 단계별 지연 / 예외 지표
+ *
+ * [지표]
+ * - pipeline.stage{stage}           : 단계 실행 시간 (percentile histogram → p50 / p95 / p99)
+ * - pipeline.errors{stage, exception}: 단계에서 터진 예외 수
+ *
+ * [측정 범위]
+ * - 작업 스레드에서 실제 실행된 시간만 (큐 대기 / 예산 대기 ❌)
+ * - 예산 초과 degrade는 StageBudgets(pipeline.degraded) 몫
+ *
+ * 판단 ❌
+ * 예외 삼키기 ❌ (기록 후 그대로 던진다)
+ */
+@Component
+public class PipelineMetrics {
+
+    static final String INTERPRETATION = "interpretation";
+    static final String CRITERIA = "criteria";
+    static final String COMBINED_EXTRACTION = "combined_extraction";
+    static final String READINESS = "readiness";
+    static final String SEARCH = "search";
+    static final String EVALUATION = "evaluation";
+    static final String MAIN_MESSAGE = "main_message";
+    static final String CARD_EXPLANATIONS = "card_explanations";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 단계 실행 시간 기록
+     * - 예외도 시간은 남기고, 예외 지표를 올린 뒤 그대로 전파
+     */
+    <T> T time(String stage, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            error(stage, e);
+            throw e;
+        } finally {
+            sample.stop(timer(stage));
+        }
+    }
+
+    private Timer timer(String stage) {
+        return timers.computeIfAbsent(stage, s ->
+                Timer.builder("pipeline.stage")
+                        .tag("stage", s)
+                        .publishPercentileHistogram()
+                        .description("턴 파이프라인 단계 실행 시간")
+                        .register(meterRegistry)
+        );
+    }
+
+    private void error(String stage, RuntimeException e) {
+        Counter.builder("pipeline.errors")
+                .tag("stage", stage)
+                .tag("exception", e.getClass().getSimpleName())
+                .description("턴 파이프라인 단계에서 발생한 예외 수")
+                .register(meterRegistry)
+                .increment();
+    }
+}
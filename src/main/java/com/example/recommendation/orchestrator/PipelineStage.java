@@ -0,0 +1,22 @@
+package com.example.recommendation.orchestrator;
+
+/**
+ * 턴 파이프라인 단계 (시간 예산 / degrade 지표 단위)
+ */
+public enum PipelineStage {
+
+    INTERPRETATION("interpretation"),
+    CRITERIA("criteria"),
+    SEARCH("search"),
+    EXPLANATION("explanation");
+
+    private final String tag;
+
+    PipelineStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
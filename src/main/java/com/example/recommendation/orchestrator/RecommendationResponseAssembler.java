@@ -1,19 +1,28 @@
 package com.example.recommendation.orchestrator;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.example.recommendation.domain.evaluation.EvaluatedProduct;
 import com.example.recommendation.domain.evaluation.EvaluationResult;
+import com.example.recommendation.domain.explanation.CardExplanationCache;
 import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+import com.example.recommendation.domain.explanation.ExplanationPolicy;
 import com.example.recommendation.domain.explanation.ExplanationService;
 import com.example.recommendation.domain.criteria.RecommendationCriteria;
 import com.example.recommendation.dto.RecommendationResponseDto;
+import com.example.recommendation.external.openai.OpenAiExplanationClient;
 
 @Component
 public class RecommendationResponseAssembler {
@@ -22,11 +31,183 @@ public class RecommendationResponseAssembler {
             LoggerFactory.getLogger(RecommendationResponseAssembler.class);
 
     private final ExplanationService explanationService;
+    private final CardExplanationCache cardExplanationCache;
+    private final StageBudgets stageBudgets;
+    private final PipelineMetrics pipelineMetrics;
+    private final Executor pipelineExecutor;
 
     public RecommendationResponseAssembler(
-            ExplanationService explanationService
+            ExplanationService explanationService,
+            CardExplanationCache cardExplanationCache,
+            StageBudgets stageBudgets,
+            PipelineMetrics pipelineMetrics,
+            @Qualifier("pipelineExecutor") Executor pipelineExecutor
     ) {
         this.explanationService = explanationService;
+        this.cardExplanationCache = cardExplanationCache;
+        this.stageBudgets = stageBudgets;
+        this.pipelineMetrics = pipelineMetrics;
+        this.pipelineExecutor = pipelineExecutor;
+    }
+
+    /* =========================
+     * 전체 조립 (메인 + 카드 병렬)
+     * ========================= */
+
+    /**
+     * 메인 설명과 카드 설명을 동시에 요청하고 합류
+     *
+     * - 두 AI 호출은 EvaluationResult + criteria만 본다 (서로 독립)
+     * - 검색 턴 지연 = max(메인, 카드) (합 ❌)
+     */
+    public RecommendationResponseDto assemble(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria
+    ) {
+        return assemble(evaluationResult, criteria, stageBudgets.start());
+    }
+
+    /**
+     * 턴 마감을 지키는 조립
+     *
+     * - EXPLANATION 단계 예산 안에 안 오면 정책 문장 / 카드 fallback 문장으로 degrade
+     * - 턴 마감이 이미 지났으면 AI 호출 자체를 생략
+     */
+    public RecommendationResponseDto assemble(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria,
+            TurnDeadline deadline
+    ) {
+        return PipelineFutures.join(
+                assembleAsync(evaluationResult, criteria, deadline)
+        );
+    }
+
+    /**
+     * 비동기 조립 (호출 스레드를 막지 않는다)
+     * - 두 설명 future가 모두 끝나거나 단계 마감이 오면 완료
+     */
+    public CompletableFuture<RecommendationResponseDto> assembleAsync(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria,
+            TurnDeadline deadline
+    ) {
+        log.info("[Assembler] assemble start");
+
+        if (stageBudgets.skipIfExpired(deadline, PipelineStage.EXPLANATION)) {
+            return CompletableFuture.completedFuture(
+                    RecommendationResponseDto.recommend(
+                            assembleItems(
+                                    evaluationResult,
+                                    fallbackCardExplanations(evaluationResult)
+                            ),
+                            fallbackMainMessage(evaluationResult)
+                    )
+            );
+        }
+
+        long explanationEnd =
+                stageBudgets.stageEnd(deadline, PipelineStage.EXPLANATION);
+
+        CompletableFuture<String> messageFuture =
+                stageBudgets.within(
+                        CompletableFuture.supplyAsync(
+                                () -> pipelineMetrics.time(
+                                        PipelineMetrics.MAIN_MESSAGE,
+                                        () -> buildMainMessage(evaluationResult, criteria)
+                                ),
+                                pipelineExecutor
+                        ),
+                        PipelineStage.EXPLANATION,
+                        explanationEnd,
+                        () -> fallbackMainMessage(evaluationResult)
+                );
+
+        CompletableFuture<Map<Long, String>> cardFuture =
+                stageBudgets.within(
+                        CompletableFuture.supplyAsync(
+                                () -> pipelineMetrics.time(
+                                        PipelineMetrics.CARD_EXPLANATIONS,
+                                        () -> buildCardExplanations(evaluationResult, criteria)
+                                ),
+                                pipelineExecutor
+                        ),
+                        PipelineStage.EXPLANATION,
+                        explanationEnd,
+                        () -> fallbackCardExplanations(evaluationResult)
+                );
+
+        return messageFuture.thenCombine(
+                cardFuture,
+                (message, cardExplanations) ->
+                        RecommendationResponseDto.recommend(
+                                assembleItems(evaluationResult, cardExplanations),
+                                message
+                        )
+        );
+    }
+
+    /**
+     * 스트리밍 조립
+     *
+     * - 카드 목록을 먼저 내보내고 (설명 없음)
+     * - 메인 / 카드 설명은 도착하는 대로 전달
+     * - 마지막에 assemble()과 같은 최종 응답 전달
+     *
+     * 호출 스레드를 막지 않는다.
+     */
+    public CompletableFuture<RecommendationResponseDto> stream(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria,
+            RecommendationStreamListener listener
+    ) {
+        log.info("[Assembler] stream start");
+
+        listener.onItems(assembleItems(evaluationResult, Map.of()));
+
+        CompletableFuture<String> messageFuture =
+                CompletableFuture.supplyAsync(
+                        () -> pipelineMetrics.time(
+                                PipelineMetrics.MAIN_MESSAGE,
+                                () -> buildMainMessageStreaming(
+                                        evaluationResult,
+                                        criteria,
+                                        listener::onMessageToken
+                                )
+                        ),
+                        pipelineExecutor
+                ).thenApply(message -> {
+                    listener.onMessage(message);
+                    return message;
+                });
+
+        CompletableFuture<Map<Long, String>> cardFuture =
+                CompletableFuture.supplyAsync(
+                        () -> pipelineMetrics.time(
+                                PipelineMetrics.CARD_EXPLANATIONS,
+                                () -> buildCardExplanations(evaluationResult, criteria)
+                        ),
+                        pipelineExecutor
+                ).thenApply(cardExplanations -> {
+                    cardExplanations.forEach(listener::onCardExplanation);
+                    return cardExplanations;
+                });
+
+        return messageFuture
+                .thenCombine(cardFuture, (message, cardExplanations) ->
+                        RecommendationResponseDto.recommend(
+                                assembleItems(evaluationResult, cardExplanations),
+                                message
+                        )
+                )
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.error("[Assembler] stream failed", error);
+                        listener.onError(error);
+                        return;
+                    }
+                    listener.onComplete(response);
+                });
     }
 
     /* =========================
@@ -65,9 +246,41 @@ public class RecommendationResponseAssembler {
         return msg;
     }
 
+    /**
+     * 메인 설명 (토큰 스트리밍)
+     * - 후보 0건이면 정책 문장을 한 번에 전달
+     */
+    public String buildMainMessageStreaming(
+            EvaluationResult evaluationResult,
+            RecommendationCriteria criteria,
+            Consumer<String> onToken
+    ) {
+        log.info("[Assembler] buildMainMessageStreaming start");
+
+        if (evaluationResult.getCandidateCount() == 0) {
+            String msg = buildMainMessage(evaluationResult, criteria);
+            onToken.accept(msg);
+            return msg;
+        }
+
+        return explanationService.generateExplanationStreaming(
+                evaluationResult.getProducts(),
+                criteria,
+                onToken
+        );
+    }
+
     /* =========================
      * 카드별 설명
      * ========================= */
+
+    /**
+     * 카드 설명 생성
+     *
+     * - 캐시에 있는 상품은 바로 채운다
+     * - 캐시에 없는 상품만 AI로 보낸다 (전부 있으면 호출 ❌)
+     * - 둘을 합쳐서 반환
+     */
     public Map<Long, String> buildCardExplanations(
             EvaluationResult evaluationResult,
             RecommendationCriteria criteria
@@ -84,22 +297,68 @@ public class RecommendationResponseAssembler {
                         .map(this::toPrompt)
                         .toList();
 
-        log.info("[Assembler] cardPromptCount={}", prompts.size());
+        Map<Long, String> explanations = new HashMap<>();
 
-        Map<Long, String> explanations =
-                explanationService.generateCardExplanations(
-                        prompts,
-                        criteria
-                );
+        List<CardExplanationPrompt> misses =
+                cardExplanationCache.fill(prompts, criteria, explanations);
+
+        log.info(
+            "[Assembler] cardPromptCount={}, cacheHit={}, miss={}",
+            prompts.size(),
+            prompts.size() - misses.size(),
+            misses.size()
+        );
+
+        if (!misses.isEmpty()) {
+            Map<Long, String> generated =
+                    explanationService.generateCardExplanations(
+                            misses,
+                            criteria
+                    );
+
+            cardExplanationCache.putAll(misses, criteria, generated);
+
+            if (generated != null) {
+                explanations.putAll(generated);
+            }
+        }
 
         log.info(
             "[Assembler] cardExplanationCount={}",
-            explanations == null ? 0 : explanations.size()
+            explanations.size()
         );
 
         return explanations;
     }
 
+    /* =========================
+     * 시간 예산 초과 시 fallback
+     * ========================= */
+
+    private String fallbackMainMessage(EvaluationResult evaluationResult) {
+        if (evaluationResult.getCandidateCount() == 0) {
+            return ExplanationPolicy.REQUERY_NEED_MORE_CONDITION.getMessage();
+        }
+        return ExplanationPolicy.RECOMMEND_CONFIDENT.getMessage();
+    }
+
+    private Map<Long, String> fallbackCardExplanations(
+            EvaluationResult evaluationResult
+    ) {
+        if (evaluationResult.getCandidateCount() == 0) {
+            return Map.of();
+        }
+
+        Map<Long, String> fallback = new LinkedHashMap<>();
+        for (EvaluatedProduct p : evaluationResult.getProducts()) {
+            fallback.put(
+                    p.getProduct().getId(),
+                    OpenAiExplanationClient.CARD_FALLBACK_MESSAGE
+            );
+        }
+        return fallback;
+    }
+
     private CardExplanationPrompt toPrompt(EvaluatedProduct p) {
         return new CardExplanationPrompt(
                 p.getProduct().getId(),
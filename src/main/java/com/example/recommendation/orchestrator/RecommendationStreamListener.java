@@ -0,0 +1,35 @@
+package com.example.recommendation.orchestrator;
+
+import java.util.List;
+
+import com.example.recommendation.dto.RecommendationResponseDto;
+
+/**
+ * 추천 턴 스트리밍 수신자
+ *
+ * [호출 순서]
+ * 1. onItems            : 평가 직후 카드 목록 (설명은 빈 값)
+ * 2. onMessageToken     : 메인 설명 토큰 (openai.streaming.enabled일 때 조각 단위)
+ *    onMessage          : 메인 설명 완성
+ * 3. onCardExplanation  : 카드 설명 도착 (상품별)
+ * 4. onComplete         : 최종 응답 (기존 JSON 응답과 동일한 형태)
+ *
+ * - 검색이 없는 턴(HOME / INVALID)은 onComplete만 호출된다
+ * - 2 / 3은 도착 순서대로 호출된다 (순서 보장 ❌)
+ * - 실패 시 onError 후 종료
+ */
+public interface RecommendationStreamListener {
+
+    void onItems(List<RecommendationResponseDto.Item> items);
+
+    default void onMessageToken(String token) {
+    }
+
+    void onMessage(String message);
+
+    void onCardExplanation(Long productId, String explanation);
+
+    void onComplete(RecommendationResponseDto response);
+
+    void onError(Throwable error);
+}
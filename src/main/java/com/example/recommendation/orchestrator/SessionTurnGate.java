@@ -0,0 +1,245 @@
+package com.example.recommendation.orchestrator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 세션별 턴 직렬화 (세션 단위 mailbox)
+ *
+ * [문제]
+ * - 턴마다 load → 변경 → save (ConversationSessionManager)
+ *   → 더블클릭 / 프론트 재시도로 같은 세션 턴이 겹치면 한쪽 변경이 사라진다
+ *
+ * [방식]
+ * - 세션 키마다 마지막 턴 future 하나만 들고, 다음 턴은 그 뒤에 이어 붙인다
+ *   → 같은 세션은 한 번에 한 턴, 다른 세션끼리는 서로 기다리지 ❌ (전역 락 ❌)
+ * - 앞 턴이 없으면 호출 스레드에서 바로, 있으면 앞 턴이 끝난 뒤 turnExecutor에서
+ *   → 락을 스레드에 묶지 않으므로 동기 / 비동기 / 스트리밍 모두 같은 방식
+ * - 대기 턴이 없어지면 mailbox 제거 (세션 수만큼 쌓이지 ❌)
+ *
+ * [중복 요청] 진행 중인 마지막 턴과 입력이 같을 때
+ * - coalesce : 새로 실행하지 않고 진행 중인 턴 결과를 같이 받는다 (기본값)
+ * - reject   : BusyException
+ * - 입력이 다르면 정책과 무관하게 뒤에 줄을 선다 (max-pending 초과 시 BusyException)
+ *
+ * - 노드 로컬 (분산 락 ❌) → 여러 노드로 흩어진 같은 세션 동시 턴은 막지 못한다
+ *
+ * 판단 ❌ / 상태 변경 ❌ → 실행 순서만
+ */
+@Component
+public class SessionTurnGate {
+
+    public enum DuplicatePolicy {
+        COALESCE,
+        REJECT
+    }
+
+    /**
+     * 같은 세션의 턴을 더 받을 수 없음 (중복 reject / 대기 한도 초과)
+     */
+    public static class BusyException extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        BusyException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Mailbox {
+
+        // 마지막으로 줄 선 턴 (완료 여부와 무관)
+        private CompletableFuture<?> tail;
+        private String tailInput;
+
+        // 실행 중 + 대기 중 턴 수
+        private int pending;
+    }
+
+    private final ConcurrentHashMap<String, Mailbox> mailboxes =
+            new ConcurrentHashMap<>();
+
+    private final DuplicatePolicy duplicatePolicy;
+    private final int maxPending;
+    private final Executor turnExecutor;
+
+    private final Counter queued;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public SessionTurnGate(
+            @Value("${conversation.turn-gate.duplicate-policy:coalesce}") String duplicatePolicy,
+            @Value("${conversation.turn-gate.max-pending:3}") int maxPending,
+            @Qualifier("turnExecutor") Executor turnExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.duplicatePolicy = DuplicatePolicy.valueOf(duplicatePolicy.toUpperCase());
+        this.maxPending = maxPending;
+        this.turnExecutor = turnExecutor;
+
+        this.queued = outcome(meterRegistry, "queued", "앞 턴이 끝나길 기다린 턴 수");
+        this.coalesced = outcome(meterRegistry, "coalesced", "진행 중인 같은 입력 턴 결과를 공유한 수");
+        this.rejected = outcome(meterRegistry, "rejected", "같은 세션이 바빠서 거절한 턴 수");
+
+        Gauge.builder("conversation.turn.gate.sessions", mailboxes, ConcurrentHashMap::size)
+                .description("턴이 진행 / 대기 중인 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 키 단위로 턴 실행
+     *
+     * @param sessionKey 세션 id (무상태 모드는 받은 토큰), null이면 직렬화 ❌ 바로 실행
+     * @param input      중복 판단용 입력, null이면 중복 판단 ❌ (줄만 선다)
+     * @param turn       턴 본체 (future 완료 = 턴 종료 → 다음 턴 시작)
+     */
+    public <T> CompletableFuture<T> submit(
+            String sessionKey,
+            String input,
+            Supplier<CompletableFuture<T>> turn
+    ) {
+        if (sessionKey == null) {
+            return start(turn);
+        }
+
+        Admission<T> admission = new Admission<>();
+
+        Mailbox mailbox = mailboxes.compute(sessionKey, (key, box) -> {
+            if (box == null) {
+                box = new Mailbox();
+            }
+
+            if (box.pending > 0 && input != null && input.equals(box.tailInput)) {
+                if (duplicatePolicy == DuplicatePolicy.COALESCE) {
+                    admission.shared = box.tail;
+                } else {
+                    admission.busy = "duplicate request in flight";
+                }
+                return box;
+            }
+
+            if (box.pending >= maxPending) {
+                admission.busy = "too many pending turns";
+                return box;
+            }
+
+            admission.previous = box.pending > 0 ? box.tail : null;
+            admission.result = new CompletableFuture<>();
+            box.tail = admission.result;
+            box.tailInput = input;
+            box.pending++;
+            return box;
+        });
+
+        if (admission.shared != null) {
+            coalesced.increment();
+            @SuppressWarnings("unchecked")
+            CompletableFuture<T> shared = (CompletableFuture<T>) admission.shared;
+            return shared.thenApply(result -> result);
+        }
+
+        if (admission.busy != null) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new BusyException(admission.busy));
+        }
+
+        CompletableFuture<T> result = admission.result;
+
+        if (admission.previous == null) {
+            run(sessionKey, mailbox, turn, result);
+        } else {
+            queued.increment();
+            admission.previous
+                    .handle((ignored, error) -> null)
+                    .thenRunAsync(
+                            () -> run(sessionKey, mailbox, turn, result),
+                            turnExecutor
+                    )
+                    .exceptionally(error -> {
+                        // turnExecutor 거절 등 → 줄에서 빼고 실패로 끝낸다
+                        release(sessionKey, mailbox);
+                        result.completeExceptionally(error);
+                        return null;
+                    });
+        }
+
+        return result;
+    }
+
+    /**
+     * 진행 / 대기 중인 세션 수 (테스트 / 진단용)
+     */
+    public int activeSessions() {
+        return mailboxes.size();
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private static final class Admission<T> {
+        private CompletableFuture<?> shared;
+        private String busy;
+        private CompletableFuture<?> previous;
+        private CompletableFuture<T> result;
+    }
+
+    /**
+     * 턴 실행 → 끝나면 mailbox에서 빠진 뒤 결과 전달
+     * (결과를 받은 클라이언트의 다음 요청이 이 턴을 기다리지 않도록 순서 유지)
+     */
+    private <T> void run(
+            String sessionKey,
+            Mailbox mailbox,
+            Supplier<CompletableFuture<T>> turn,
+            CompletableFuture<T> result
+    ) {
+        start(turn).whenComplete((value, error) -> {
+            release(sessionKey, mailbox);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release(String sessionKey, Mailbox mailbox) {
+        mailboxes.computeIfPresent(sessionKey, (key, box) -> {
+            if (box != mailbox) {
+                return box;
+            }
+            box.pending--;
+            return box.pending == 0 ? null : box;
+        });
+    }
+
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> turn) {
+        try {
+            return turn.get();
+        } catch (Throwable error) {
+            return CompletableFuture.failedFuture(error);
+        }
+    }
+
+    private static Counter outcome(
+            MeterRegistry meterRegistry,
+            String outcome,
+            String description
+    ) {
+        return Counter.builder("conversation.turn.gate")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.recommendation.orchestrator;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 턴 전체 마감 + 단계별 시간 예산
+ *
+ * [흐름]
+ * - 요청 시작 시 start() → TurnDeadline
+ * - 단계 시작 시 stageEnd() → 단계 마감 시각
+ * - await() / within()이 마감까지만 기다리고, 넘으면 fallback 결과로 degrade
+ *
+ * [degrade 사유]
+ * - timeout : 단계 예산 안에 결과가 오지 않음
+ * - deadline: 단계 시작 전에 턴 전체 마감이 이미 지남 (호출 자체 생략)
+ * - 지표: pipeline.degraded{stage, reason}
+ *
+ * [스위치]
+ * - pipeline.deadline.enabled=false(기본): 마감 / 예산 없이 기존처럼 결과를 끝까지 기다린다
+ *   → 기본 설정으로는 턴 시간 상한 ❌
+ * - 턴 시간 상한을 두려면 pipeline.deadline.enabled=true
+ *   → 켜기 전에 pipeline.stage p95 / p99를 보고 pipeline.deadline.*-ms 예산 값을 정할 것
+ *
+ * [주의]
+ * - 늦게 끝난 작업은 버려질 뿐 중단되지 않는다 (HTTP 타임아웃은 게이트웨이 몫)
+ * - 작업 실패(예외)는 degrade ❌ → 기존처럼 그대로 전파
+ */
+@Component
+public class StageBudgets {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(StageBudgets.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration total;
+    private final Map<PipelineStage, Duration> budgets =
+            new EnumMap<>(PipelineStage.class);
+
+    @Autowired
+    public StageBudgets(
+            MeterRegistry meterRegistry,
+            @Value("${pipeline.deadline.enabled:false}") boolean enabled,
+            @Value("${pipeline.deadline.total-ms:2500}") long totalMs,
+            @Value("${pipeline.deadline.interpretation-ms:800}") long interpretationMs,
+            @Value("${pipeline.deadline.criteria-ms:800}") long criteriaMs,
+            @Value("${pipeline.deadline.search-ms:1000}") long searchMs,
+            @Value("${pipeline.deadline.explanation-ms:1200}") long explanationMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.total = Duration.ofMillis(totalMs);
+        budgets.put(PipelineStage.INTERPRETATION, Duration.ofMillis(interpretationMs));
+        budgets.put(PipelineStage.CRITERIA, Duration.ofMillis(criteriaMs));
+        budgets.put(PipelineStage.SEARCH, Duration.ofMillis(searchMs));
+        budgets.put(PipelineStage.EXPLANATION, Duration.ofMillis(explanationMs));
+    }
+
+    /**
+     * 예산을 켠 상태 (테스트 / 수동 조립용)
+     */
+    public StageBudgets(
+            MeterRegistry meterRegistry,
+            long totalMs,
+            long interpretationMs,
+            long criteriaMs,
+            long searchMs,
+            long explanationMs
+    ) {
+        this(meterRegistry, true, totalMs,
+                interpretationMs, criteriaMs, searchMs, explanationMs);
+    }
+
+    public TurnDeadline start() {
+        return TurnDeadline.after(total);
+    }
+
+    /**
+     * 지금 시작하는 단계의 마감 시각
+     */
+    long stageEnd(TurnDeadline deadline, PipelineStage stage) {
+        return deadline.stageEndNanos(budgets.get(stage));
+    }
+
+    /**
+     * 턴 마감이 이미 지났으면 단계 호출 자체를 생략
+     * - true면 degrade 지표를 남긴다
+     */
+    boolean skipIfExpired(TurnDeadline deadline, PipelineStage stage) {
+        if (!enabled || !deadline.isExpired()) {
+            return false;
+        }
+        degrade(stage, "deadline");
+        return true;
+    }
+
+    /**
+     * 단계 마감 시각까지만 기다리기 (호출 스레드 블로킹)
+     *
+     * - 시간 안에 끝나면 결과 그대로
+     * - 넘으면 fallback (timeout 지표 기록)
+     * - 작업 예외는 직렬 호출일 때와 같은 의미로 원래 예외를 다시 던진다
+     */
+    <T> T await(
+            CompletableFuture<T> future,
+            PipelineStage stage,
+            long stageEndNanos,
+            Supplier<T> fallback
+    ) {
+        return PipelineFutures.join(
+                within(future, stage, stageEndNanos, fallback)
+        );
+    }
+
+    /**
+     * 단계 마감 시각에 fallback으로 완료되는 future (스레드 점유 ❌)
+     *
+     * - 원래 작업이 먼저 끝나면 그 결과 / 예외 그대로
+     * - 마감 시각이 먼저 오면 fallback 결과 (timeout 지표 기록)
+     * - 예산이 꺼져 있으면 원래 future 그대로
+     * - fallback은 타이머 스레드에서 실행 → 세션 접근 ❌ 로컬 계산만
+     */
+    <T> CompletableFuture<T> within(
+            CompletableFuture<T> future,
+            PipelineStage stage,
+            long stageEndNanos,
+            Supplier<T> fallback
+    ) {
+        if (!enabled) {
+            return future;
+        }
+
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+
+        // 원래 작업 / 마감 타이머 중 먼저 온 쪽만 결과를 정한다
+        AtomicBoolean settled = new AtomicBoolean();
+
+        future.whenComplete((value, error) -> {
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            }
+            if (error != null) {
+                bounded.completeExceptionally(error);
+            } else {
+                bounded.complete(value);
+            }
+        });
+
+        if (bounded.isDone()) {
+            return bounded;
+        }
+
+        long waitNanos = Math.max(0, stageEndNanos - System.nanoTime());
+
+        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                .execute(() -> {
+                    if (!settled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    degrade(stage, "timeout");
+                    try {
+                        bounded.complete(fallback.get());
+                    } catch (RuntimeException e) {
+                        bounded.completeExceptionally(e);
+                    }
+                });
+
+        return bounded;
+    }
+
+    private void degrade(PipelineStage stage, String reason) {
+        log.warn("[StageBudgets] degrade stage={}, reason={}", stage.tag(), reason);
+
+        Counter.builder("pipeline.degraded")
+                .tag("stage", stage.tag())
+                .tag("reason", reason)
+                .description("시간 예산 초과로 fallback 처리한 단계 수")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.recommendation.orchestrator;
+
+import java.time.Duration;
+
+/**
+ * 한 요청(턴)의 전체 마감 시각
+ *
+ * - 요청 시작 시 한 번 만든다
+ * - 단계 예산은 "단계 예산"과 "남은 시간" 중 작은 값
+ *
+ * 정책 ❌
+ * 순수 시간 계산
+ */
+public final class TurnDeadline {
+
+    private final long deadlineNanos;
+
+    private TurnDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static TurnDeadline after(Duration total) {
+        return new TurnDeadline(System.nanoTime() + total.toNanos());
+    }
+
+    long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 지금 시작하는 단계의 마감 시각 (nanoTime 기준)
+     */
+    long stageEndNanos(Duration stageBudget) {
+        long now = System.nanoTime();
+        return now + Math.min(stageBudget.toNanos(), deadlineNanos - now);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.recommendation.orchestrator;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+
+/**
+ * 한 턴의 입력 해석 결과
+ *
+ * - interpretation: 슬롯 귀속용 답변 해석
+ * - criteria: 검색 조건 (이번 발화분)
+ */
+record TurnInput(
+        AnswerInterpretation interpretation,
+        RecommendationCriteria criteria
+) {
+}
@@ -0,0 +1,231 @@
+package com.example.recommendation.orchestrator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.recommendation.domain.criteria.CriteriaService;
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.domain.home.answer.UserInputProcessor;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.external.openai.OpenAiTurnExtractionClient;
+import com.example.recommendation.external.openai.TurnExtraction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자 발화 → (답변 해석, Criteria) 해석기
+ *
+ * [모드]
+ * - 기본: 두 추출을 병렬 호출 (각자 로컬 fast path → AI)
+ * - 통합(openai.combined-extraction.enabled=true):
+ *   둘 다 AI가 필요할 때만 한 번의 호출로 함께 받는다
+ *   (하나라도 로컬 / 캐시로 처리 가능하면 기본 모드가 더 싸다)
+ * - 통합 결과의 criteria도 Criteria 캐시 / fast path 지표에 반영
+ * - 통합 호출 실패 시 기본 모드로 다시 해석
+ *
+ * [시간 예산]
+ * - 단계 예산을 넘기면 로컬 결과로 degrade
+ *   (해석: 패턴 분류기 / Criteria: 규칙 기반 추출)
+ * - 통합 호출은 CRITERIA 단계 예산을 쓴다
+ *
+ * [절대 금지]
+ * - 세션 state 변경 ❌ (요청 스레드에서 Orchestrator가 반영)
+ */
+@Component
+class TurnInputResolver {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(TurnInputResolver.class);
+
+    private final UserInputProcessor userInputProcessor;
+    private final CriteriaService criteriaService;
+    private final OpenAiTurnExtractionClient turnExtractionClient;
+    private final Executor pipelineExecutor;
+    private final StageBudgets stageBudgets;
+    private final PipelineMetrics pipelineMetrics;
+    private final boolean combinedEnabled;
+
+    private final Counter combinedCounter;
+    private final Counter separateCounter;
+
+    TurnInputResolver(
+            UserInputProcessor userInputProcessor,
+            CriteriaService criteriaService,
+            OpenAiTurnExtractionClient turnExtractionClient,
+            @Qualifier("pipelineExecutor") Executor pipelineExecutor,
+            StageBudgets stageBudgets,
+            PipelineMetrics pipelineMetrics,
+            @Value("${openai.combined-extraction.enabled:false}") boolean combinedEnabled,
+            MeterRegistry meterRegistry
+    ) {
+        this.userInputProcessor = userInputProcessor;
+        this.criteriaService = criteriaService;
+        this.turnExtractionClient = turnExtractionClient;
+        this.pipelineExecutor = pipelineExecutor;
+        this.stageBudgets = stageBudgets;
+        this.pipelineMetrics = pipelineMetrics;
+        this.combinedEnabled = combinedEnabled;
+
+        this.combinedCounter = Counter.builder("turn.extraction")
+                .tag("mode", "combined")
+                .description("통합 1회 호출로 해석한 턴 수")
+                .register(meterRegistry);
+        this.separateCounter = Counter.builder("turn.extraction")
+                .tag("mode", "separate")
+                .description("개별 추출로 해석한 턴 수")
+                .register(meterRegistry);
+    }
+
+    TurnInput resolve(
+            String userInput,
+            DecisionSlot lastAskedSlot,
+            TurnDeadline deadline
+    ) {
+        return PipelineFutures.join(
+                resolveAsync(userInput, lastAskedSlot, deadline)
+        );
+    }
+
+    /**
+     * 비동기 변형 (호출 스레드를 막지 않는다)
+     */
+    CompletableFuture<TurnInput> resolveAsync(
+            String userInput,
+            DecisionSlot lastAskedSlot,
+            TurnDeadline deadline
+    ) {
+
+        if (combinedEnabled
+                && !userInputProcessor.canInterpretLocally(userInput, lastAskedSlot)
+                && !criteriaService.canExtractLocally(userInput)
+                && !criteriaService.hasCachedCriteria(userInput)) {
+
+            long stageEnd =
+                    stageBudgets.stageEnd(deadline, PipelineStage.CRITERIA);
+
+            CompletableFuture<TurnInput> combinedFuture =
+                    CompletableFuture.supplyAsync(
+                            () -> pipelineMetrics.time(
+                                    PipelineMetrics.COMBINED_EXTRACTION,
+                                    () -> extractCombined(userInput, lastAskedSlot)
+                            ),
+                            pipelineExecutor
+                    );
+
+            return stageBudgets.within(
+                            combinedFuture,
+                            PipelineStage.CRITERIA,
+                            stageEnd,
+                            () -> resolveLocally(userInput, lastAskedSlot)
+                    )
+                    .thenApply(turnInput -> {
+                        combinedCounter.increment();
+                        return turnInput;
+                    })
+                    .exceptionallyCompose(e -> {
+                        log.warn("[TurnInputResolver] combined extraction failed → separate calls", e);
+                        separateCounter.increment();
+                        return resolveSeparately(userInput, lastAskedSlot, deadline);
+                    });
+        }
+
+        separateCounter.increment();
+        return resolveSeparately(userInput, lastAskedSlot, deadline);
+    }
+
+    /**
+     * 통합 1회 호출 (해석 + Criteria)
+     */
+    private TurnInput extractCombined(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        TurnExtraction extraction =
+                turnExtractionClient.extract(userInput, lastAskedSlot);
+
+        return new TurnInput(
+                extraction.interpretation(),
+                criteriaService.createCriteriaFromCombined(
+                        userInput,
+                        extraction.criteria()
+                )
+        );
+    }
+
+    /**
+     * 답변 해석 + Criteria 생성 병렬 호출
+     * - 두 호출은 같은 userInput만 보고 서로 의존하지 않는다
+     */
+    private CompletableFuture<TurnInput> resolveSeparately(
+            String userInput,
+            DecisionSlot lastAskedSlot,
+            TurnDeadline deadline
+    ) {
+
+        long interpretationEnd =
+                stageBudgets.stageEnd(deadline, PipelineStage.INTERPRETATION);
+        long criteriaEnd =
+                stageBudgets.stageEnd(deadline, PipelineStage.CRITERIA);
+
+        CompletableFuture<AnswerInterpretation> interpretationFuture =
+                CompletableFuture.supplyAsync(
+                        () -> pipelineMetrics.time(
+                                PipelineMetrics.INTERPRETATION,
+                                () -> userInputProcessor.interpret(
+                                        userInput,
+                                        lastAskedSlot
+                                )
+                        ),
+                        pipelineExecutor
+                );
+
+        CompletableFuture<RecommendationCriteria> criteriaFuture =
+                CompletableFuture.supplyAsync(
+                        () -> pipelineMetrics.time(
+                                PipelineMetrics.CRITERIA,
+                                () -> criteriaService.createCriteria(userInput)
+                        ),
+                        pipelineExecutor
+                );
+
+        return stageBudgets.within(
+                        interpretationFuture,
+                        PipelineStage.INTERPRETATION,
+                        interpretationEnd,
+                        () -> userInputProcessor.interpretLocally(
+                                userInput,
+                                lastAskedSlot
+                        )
+                )
+                .thenCombine(
+                        stageBudgets.within(
+                                criteriaFuture,
+                                PipelineStage.CRITERIA,
+                                criteriaEnd,
+                                () -> criteriaService.createCriteriaLocally(userInput)
+                        ),
+                        TurnInput::new
+                );
+    }
+
+    /**
+     * 로컬 전용 해석 (통합 호출 예산 초과 시)
+     */
+    private TurnInput resolveLocally(
+            String userInput,
+            DecisionSlot lastAskedSlot
+    ) {
+        return new TurnInput(
+                userInputProcessor.interpretLocally(userInput, lastAskedSlot),
+                criteriaService.createCriteriaLocally(userInput)
+        );
+    }
+}
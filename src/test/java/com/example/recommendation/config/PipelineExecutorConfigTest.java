@@ -0,0 +1,61 @@
+package com.example.recommendation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class PipelineExecutorConfigTest {
+
+    private final PipelineExecutorConfig config = new PipelineExecutorConfig();
+
+    @AfterEach
+    void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 가상_스레드_모드에서도_요청_컨텍스트가_작업_스레드로_전달된다() {
+        // given
+        RequestAttributes attributes =
+                new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        Executor executor = config.pipelineExecutor(true, 1, 1, 1);
+
+        // when
+        CompletableFuture<Object[]> observed =
+                CompletableFuture.supplyAsync(
+                        () -> new Object[] {
+                                Thread.currentThread().isVirtual(),
+                                RequestContextHolder.getRequestAttributes()
+                        },
+                        executor
+                );
+
+        // then
+        Object[] result = observed.join();
+        assertThat(result[0]).isEqualTo(true);
+        assertThat(result[1]).isSameAs(attributes);
+    }
+
+    @Test
+    void 기본_모드는_플랫폼_스레드_풀을_쓴다() {
+        Executor executor = config.pipelineExecutor(false, 1, 1, 1);
+
+        boolean virtual =
+                CompletableFuture.supplyAsync(
+                        () -> Thread.currentThread().isVirtual(),
+                        executor
+                ).join();
+
+        assertThat(virtual).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.recommendation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.recommendation.domain.session.ConversationSessionManager;
+import com.example.recommendation.domain.session.InMemoryConversationStateStore;
+import com.example.recommendation.dto.RecommendationRequestDto;
+import com.example.recommendation.dto.RecommendationResponseDto;
+import com.example.recommendation.orchestrator.HomeRecommendationOrchestrator;
+import com.example.recommendation.orchestrator.RecommendationStreamListener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * /home/stream → SSE 이벤트 (오케스트레이터는 정해진 순서로 listener만 호출하는 가짜)
+ */
+class RecommendationControllerStreamTest {
+
+    @Test
+    void 검색_턴은_items_token_message_card_done_순으로_내려간다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(listener -> {
+            listener.onItems(List.of(
+                    new RecommendationResponseDto.Item(1L, "무선 헤드셋", null, null, 10000, null, "")
+            ));
+            listener.onMessageToken("가벼운");
+            listener.onMessageToken(" 제품이에요");
+            listener.onMessage("가벼운 제품이에요");
+            listener.onCardExplanation(1L, "무게가 가벼워요");
+            listener.onComplete(RecommendationResponseDto.requery("가벼운 제품이에요"));
+        });
+
+        // when
+        String body = stream(mockMvc, "가벼운 헤드셋");
+
+        // then
+        assertThat(eventNames(body))
+                .containsExactly("items", "token", "token", "message", "card", "done");
+        assertThat(body)
+                .contains("data:{\"token\":\" 제품이에요\"}")
+                .contains("\"productId\":1")
+                .contains("\"explanation\":\"무게가 가벼워요\"");
+    }
+
+    @Test
+    void 실패하면_error_이벤트로_끝나고_done은_없다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(listener -> {
+            listener.onItems(List.of());
+            listener.onError(new IllegalStateException("boom"));
+        });
+
+        // when
+        String body = stream(mockMvc, "가벼운 헤드셋");
+
+        // then
+        assertThat(eventNames(body)).containsExactly("items", "error");
+        assertThat(body)
+                .contains("추천 결과를 만드는 중 문제가 생겼어요.")
+                .doesNotContain("boom");
+    }
+
+    @Test
+    void 빈_입력은_오케스트레이터를_거치지_않고_done_하나로_끝난다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(listener -> {
+            throw new AssertionError("빈 입력은 턴을 시작하지 않는다");
+        });
+
+        // when
+        String body = stream(mockMvc, " ");
+
+        // then
+        assertThat(eventNames(body)).containsExactly("done");
+        assertThat(body).contains("입력이 비어 있습니다.");
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private static MockMvc mockMvc(Consumer<RecommendationStreamListener> script) {
+
+        HomeRecommendationOrchestrator orchestrator =
+                new HomeRecommendationOrchestrator(
+                        null, null, null, null, null, null, null,
+                        null, null, null, null, null, null
+                ) {
+                    @Override
+                    public void stream(
+                            String sessionId,
+                            RecommendationRequestDto request,
+                            RecommendationStreamListener listener
+                    ) {
+                        // 실제처럼 요청 스레드가 반환된 뒤 작업 스레드에서 전달
+                        Thread worker = new Thread(() -> script.accept(listener));
+                        worker.start();
+                    }
+                };
+
+        ConversationSessionManager sessionManager =
+                new ConversationSessionManager(
+                        new InMemoryConversationStateStore(Duration.ofMinutes(30), 100),
+                        null, new SimpleMeterRegistry(), false, 30, 100
+                );
+
+        return MockMvcBuilders.standaloneSetup(
+                new RecommendationController(
+                        orchestrator,
+                        sessionManager,
+                        new ConversationSessionCookie("CONVERSATION_ID", "", false),
+                        5_000,
+                        false,
+                        5_000
+                )
+        ).build();
+    }
+
+    private static String stream(MockMvc mockMvc, String userInput) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        post("/api/recommend/home/stream")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"userInput\":\"" + userInput + "\"}")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // emitter 완료(complete / completeWithError)까지 대기
+        result.getAsyncResult(5_000);
+
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> eventNames(String body) {
+        return body.lines()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()))
+                .toList();
+    }
+}
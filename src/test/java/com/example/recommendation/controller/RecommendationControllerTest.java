@@ -0,0 +1,135 @@
+package com.example.recommendation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.recommendation.domain.session.ConversationSessionManager;
+import com.example.recommendation.domain.session.InMemoryConversationStateStore;
+import com.example.recommendation.dto.RecommendationRequestDto;
+import com.example.recommendation.dto.RecommendationResponseDto;
+import com.example.recommendation.orchestrator.HomeRecommendationOrchestrator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * /home 동기 / 비동기 모드 (오케스트레이터는 고정 응답을 주는 가짜)
+ */
+class RecommendationControllerTest {
+
+    // 어느 경로로 처리됐는지 기록
+    private final Set<String> calls = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void 동기_모드는_비동기_디스패치_없이_바로_응답한다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(false);
+
+        // when / then
+        mockMvc.perform(home("노트북 추천"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("동기 응답"));
+        assertThat(calls).containsExactly("handle");
+    }
+
+    @Test
+    void 비동기_모드는_DeferredResult로_같은_JSON을_보낸다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(true);
+
+        // when
+        MvcResult started = mockMvc.perform(home("노트북 추천"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("비동기 응답"));
+        assertThat(calls).containsExactly("handleAsync");
+    }
+
+    @Test
+    void 빈_입력은_모드와_관계없이_바로_응답한다() throws Exception {
+        // given
+        MockMvc mockMvc = mockMvc(true);
+
+        // when / then
+        mockMvc.perform(home(" "))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(jsonPath("$.message").value("입력이 비어 있습니다."));
+        assertThat(calls).isEmpty();
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private MockMvc mockMvc(boolean asyncEnabled) {
+
+        HomeRecommendationOrchestrator orchestrator =
+                new HomeRecommendationOrchestrator(
+                        null, null, null, null, null, null, null,
+                        null, null, null, null, null, null
+                ) {
+                    @Override
+                    public RecommendationResponseDto handle(
+                            String sessionId,
+                            RecommendationRequestDto request
+                    ) {
+                        calls.add("handle");
+                        return RecommendationResponseDto.requery("동기 응답");
+                    }
+
+                    @Override
+                    public CompletableFuture<RecommendationResponseDto> handleAsync(
+                            String sessionId,
+                            RecommendationRequestDto request
+                    ) {
+                        calls.add("handleAsync");
+                        return CompletableFuture.supplyAsync(
+                                () -> RecommendationResponseDto.requery("비동기 응답")
+                        );
+                    }
+                };
+
+        ConversationSessionManager sessionManager =
+                new ConversationSessionManager(
+                        new InMemoryConversationStateStore(Duration.ofMinutes(30), 100),
+                        null, new SimpleMeterRegistry(), false, 30, 100
+                );
+
+        return MockMvcBuilders.standaloneSetup(
+                new RecommendationController(
+                        orchestrator,
+                        sessionManager,
+                        new ConversationSessionCookie("CONVERSATION_ID", "", false),
+                        5_000,
+                        asyncEnabled,
+                        5_000
+                )
+        ).build();
+    }
+
+    private static RequestBuilder home(String userInput) {
+        return post("/api/recommend/home")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userInput\":\"" + userInput + "\"}");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.recommendation.domain.criteria.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.CommandType;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+class RuleBasedCriteriaExtractorTest {
+
+    private final RuleBasedCriteriaExtractor extractor =
+            new RuleBasedCriteriaExtractor();
+
+    @Test
+    void 브랜드_카테고리_가격을_규칙만으로_추출한다() {
+        // when
+        RuleExtraction extraction =
+                extractor.extract("lg 노트북 150만원 이하 추천해줘");
+
+        // then
+        AiCriteriaResultDto result = extraction.result();
+        assertThat(extraction.confidence()).isGreaterThanOrEqualTo(0.9);
+        assertThat(result.getSearchKeyword()).isEqualTo("노트북");
+        assertThat(result.getPreferredBrand()).isEqualTo("LG");
+        assertThat(result.getPriceMax()).isEqualTo(1_500_000);
+        assertThat(result.getIntentType()).isEqualTo(UserIntentType.SEARCH);
+        assertThat(result.getCommandType()).isEqualTo(CommandType.APPEND);
+    }
+
+    @Test
+    void 명령어_단독_입력은_commandType으로_변환한다() {
+        assertThat(extractor.extract("다른 거!").result().getCommandType())
+                .isEqualTo(CommandType.RETRY_SEARCH);
+        assertThat(extractor.extract("다시").result().getCommandType())
+                .isEqualTo(CommandType.RESET);
+    }
+
+    @Test
+    void 사전에_없는_표현이_섞이면_OpenAI로_넘긴다() {
+        assertThat(extractor.extract("조용한 가습기").isConfident(0.8)).isFalse();
+        assertThat(extractor.extract("LG 말고 삼성 노트북").isConfident(0.8)).isFalse();
+        assertThat(extractor.extract("추천해줘").isConfident(0.8)).isFalse();
+    }
+
+    @Test
+    void int_범위를_넘는_금액은_규칙으로_판단하지_않는다() {
+        // 99999999만원 → 9999억 (int 캐스팅이면 음수로 뒤집힌다)
+        RuleExtraction extraction = extractor.extract("노트북 99999999만원 이하");
+
+        assertThat(extraction.isConfident(0.0)).isFalse();
+        assertThat(extraction.result()).isNull();
+    }
+}
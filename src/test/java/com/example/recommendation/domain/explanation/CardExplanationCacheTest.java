@@ -0,0 +1,68 @@
+package com.example.recommendation.domain.explanation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.CommandType;
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+
+class CardExplanationCacheTest {
+
+    private static final List<CardExplanationPrompt> PROMPTS = List.of(
+            new CardExplanationPrompt(1L, "무선 헤드셋", List.of("무선", "노이즈캔슬링"), true)
+    );
+
+    @Test
+    void 핵심_조건이_같으면_다른_사용자의_설명도_재사용한다() {
+        // given: 사용자 A가 만든 설명
+        CardExplanationCache cache = new CardExplanationCache("test", 100, 10);
+        RecommendationCriteria userA = new RecommendationCriteria(
+                "헤드셋", List.of("무선", "노이즈캔슬링"), 100_000, "소니",
+                UserIntentType.SEARCH, null
+        );
+        userA.setPurpose("출퇴근용");
+        cache.putAll(PROMPTS, userA, Map.of(1L, "출퇴근에 딱이야"));
+
+        // when: 사용자 B - 키워드 순서 / intent / command / 자유 문장이 다르다
+        RecommendationCriteria userB = new RecommendationCriteria(
+                "소니 헤드셋", List.of("노이즈캔슬링", "무선"), 100_000, "소니",
+                UserIntentType.CONSULT, CommandType.RETRY_SEARCH
+        );
+        userB.setPurpose("선물");
+        Map<Long, String> found = new HashMap<>();
+        List<CardExplanationPrompt> misses = cache.fill(PROMPTS, userB, found);
+
+        // then
+        assertThat(misses).isEmpty();
+        assertThat(found).containsEntry(1L, "출퇴근에 딱이야");
+    }
+
+    @Test
+    void 예산이나_브랜드가_다르면_다시_만든다() {
+        // given
+        CardExplanationCache cache = new CardExplanationCache("test", 100, 10);
+        cache.putAll(
+                PROMPTS,
+                new RecommendationCriteria("헤드셋", List.of("무선"), 100_000, "소니"),
+                Map.of(1L, "설명")
+        );
+
+        // when / then
+        assertThat(cache.fill(
+                PROMPTS,
+                new RecommendationCriteria("헤드셋", List.of("무선"), 50_000, "소니"),
+                new HashMap<>()
+        )).hasSize(1);
+        assertThat(cache.fill(
+                PROMPTS,
+                new RecommendationCriteria("헤드셋", List.of("무선"), 100_000, "보스"),
+                new HashMap<>()
+        )).hasSize(1);
+    }
+}
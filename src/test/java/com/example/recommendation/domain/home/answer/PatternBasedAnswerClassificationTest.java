@@ -0,0 +1,45 @@
+package com.example.recommendation.domain.home.answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+class PatternBasedAnswerClassificationTest {
+
+    private final PatternBasedAnswerInterpretationService service =
+            new PatternBasedAnswerInterpretationService();
+
+    @Test
+    void 짧은_모르겠다_답변은_확신한다() {
+        PatternClassification result =
+                service.classify("잘 모르겠어요", DecisionSlot.PURPOSE);
+
+        assertThat(result.interpretation().getPrimaryIntent())
+                .isEqualTo(AnswerIntent.UNKNOWN);
+        assertThat(result.confidence()).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void 예산_질문에_금액만_답하면_확신한다() {
+        PatternClassification result =
+                service.classify("30만원 정도요", DecisionSlot.BUDGET);
+
+        assertThat(result.interpretation().getPrimaryIntent())
+                .isEqualTo(AnswerIntent.ANSWER);
+        assertThat(result.interpretation().getNormalizedValue())
+                .isEqualTo("30만원");
+        assertThat(result.confidence()).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void 키워드가_문장_일부에만_걸리면_애매하다() {
+        assertThat(service.classify("그냥 예쁜 거면 좋겠어요", DecisionSlot.PREFERENCE)
+                .confidence()).isLessThan(0.9);
+        assertThat(service.classify("30만원", DecisionSlot.TARGET)
+                .confidence()).isLessThan(0.9);
+        assertThat(service.classify("친구 결혼 선물", DecisionSlot.PURPOSE)
+                .confidence()).isLessThan(0.9);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.recommendation.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.external.naver.dto.Product;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NaverSearchCacheTest {
+
+    @Test
+    void 공백과_대소문자만_다른_쿼리는_네이버를_한_번만_호출한다() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NaverSearchCache cache = new NaverSearchCache(registry, 1000, 60);
+        AtomicInteger calls = new AtomicInteger();
+        List<Product> products = List.of(new Product(1L, "LG 그램 노트북", "LG"));
+
+        // when
+        cache.get("LG 노트북", 1, 30, () -> { calls.incrementAndGet(); return products; });
+        List<Product> second =
+                cache.get("  lg   노트북 ", 1, 30, () -> { calls.incrementAndGet(); return products; });
+        cache.get("LG 노트북", 6, 30, () -> { calls.incrementAndGet(); return products; });
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(second).containsExactlyElementsOf(products);
+        assertThat(registry.get("cache.gets").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 빈_결과는_저장하지_않는다() {
+        // given
+        NaverSearchCache cache = new NaverSearchCache(new SimpleMeterRegistry(), 1000, 60);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get("가습기", 1, 30, () -> { calls.incrementAndGet(); return List.of(); });
+        cache.get("가습기", 1, 30, () -> { calls.incrementAndGet(); return List.of(); });
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 같은_키_동시_miss는_네이버를_한_번만_호출한다() throws Exception {
+        // given: 첫 호출이 끝나기 전에 같은 쿼리 요청 8개
+        NaverSearchCache cache = new NaverSearchCache(new SimpleMeterRegistry(), 1000, 60);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Product> products = List.of(new Product(1L, "LG 그램 노트북", "LG"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<CompletableFuture<List<Product>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(
+                        () -> cache.get("LG 노트북", 1, 30, () -> {
+                            calls.incrementAndGet();
+                            loading.countDown();
+                            await(release);
+                            return products;
+                        }),
+                        executor
+                ));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (CompletableFuture<List<Product>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS))
+                        .containsExactlyElementsOf(products);
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.recommendation.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.external.naver.NaverClient;
+import com.example.recommendation.external.naver.dto.Product;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SearchServiceWindowTest {
+
+    @Test
+    void 재검색은_창이_소진될_때까지_네이버를_다시_호출하지_않는다() {
+        // given
+        RecordingNaverClient naverClient = new RecordingNaverClient(200);
+        SearchService searchService = new SearchService(
+                naverClient,
+                new NaverSearchCache(new SimpleMeterRegistry(), 1000, 60),
+                new SimpleMeterRegistry(),
+                30,
+                100
+        );
+        RecommendationCriteria criteria =
+                new RecommendationCriteria("노트북", List.of(), null, null, null);
+
+        SearchCandidateWindow window = searchService.openWindow(criteria);
+        window.markShown(window.unseen().subList(0, 5));
+
+        // when: 아직 25개 남음 → 창에서 제공
+        SearchCandidateWindow retry =
+                searchService.prepareRetryWindow(window, criteria, 5);
+
+        // then
+        assertThat(retry).isSameAs(window);
+        assertThat(retry.unseenCount()).isEqualTo(25);
+        assertThat(naverClient.calls).containsExactly("1/30");
+
+        // when: 창 소진 → 이어지는 구간을 큰 페이지로
+        retry.markShown(retry.unseen().subList(0, 22));
+        searchService.prepareRetryWindow(retry, criteria, 5);
+
+        // then
+        assertThat(naverClient.calls).containsExactly("1/30", "31/100");
+        assertThat(retry.unseenCount()).isEqualTo(103);
+    }
+
+    @Test
+    void 복원된_창은_다시_받아오되_이미_보여준_상품은_제외한다() {
+        // given: 다른 노드에서 5개를 보여준 창 (저장소에는 query + 보여준 지문만)
+        RecordingNaverClient naverClient = new RecordingNaverClient(200);
+        SearchService searchService = new SearchService(
+                naverClient,
+                new NaverSearchCache(new SimpleMeterRegistry(), 1000, 60),
+                new SimpleMeterRegistry(),
+                30,
+                100
+        );
+        RecommendationCriteria criteria =
+                new RecommendationCriteria("노트북", List.of(), null, null, null);
+
+        SearchCandidateWindow original = searchService.openWindow(criteria);
+        List<Product> shown = original.unseen().subList(0, 5);
+        original.markShown(shown);
+
+        SearchCandidateWindow restored = SearchCandidateWindow.restore(
+                original.getQuery(),
+                original.getShownFingerprints()
+        );
+
+        // when
+        SearchCandidateWindow retry =
+                searchService.prepareRetryWindow(restored, criteria, 5);
+
+        // then: 1페이지부터 다시 채우고 보여준 5개는 빠진다
+        assertThat(retry).isSameAs(restored);
+        assertThat(naverClient.calls).containsExactly("1/30", "1/100");
+        assertThat(retry.unseenCount()).isEqualTo(95);
+        assertThat(retry.unseen()).doesNotContainAnyElementsOf(shown);
+    }
+
+    private static final class RecordingNaverClient implements NaverClient {
+
+        private final List<Product> products;
+        private final List<String> calls = new ArrayList<>();
+
+        private RecordingNaverClient(int total) {
+            this.products = IntStream.rangeClosed(1, total)
+                    .mapToObj(i -> new Product((long) i, "노트북 " + i, "LG"))
+                    .toList();
+        }
+
+        @Override
+        public List<Product> search(String keyword) {
+            return search(keyword, 1);
+        }
+
+        @Override
+        public List<Product> search(String keyword, int start) {
+            return search(keyword, start, 30);
+        }
+
+        @Override
+        public List<Product> search(String keyword, int start, int display) {
+            calls.add(start + "/" + display);
+            int from = Math.min(start - 1, products.size());
+            int to = Math.min(from + display, products.size());
+            return products.subList(from, to);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.recommendation.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.ConversationContext;
+import com.example.recommendation.domain.criteria.ConversationPhase;
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.answer.PendingQuestionContext;
+import com.example.recommendation.domain.home.answer.SlotUpdateCommand;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.slot.SlotStatus;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.domain.search.SearchCandidateWindow;
+
+class ConversationStateCodecTest {
+
+    @Test
+    void 대화_상태는_저장_후_복원해도_같다() {
+        // given
+        ConversationSession session = ConversationSession.fresh("s-1");
+
+        session.getContextService().merge(
+                new RecommendationCriteria(
+                        "노트북",
+                        List.of("가벼운", "게이밍"),
+                        1_500_000,
+                        "LG",
+                        UserIntentType.SEARCH
+                )
+        );
+        session.getContextService().exclude("게이밍");
+        ConversationContext context = session.getContextService().getContext();
+        context.increaseRetryCount();
+        context.updatePhase(ConversationPhase.SEARCHING);
+        context.setSearchWindow(
+                SearchCandidateWindow.restore("LG 노트북 가벼운", Set.of(-7L, 1L << 62))
+        );
+
+        HomeConversationState homeState = session.getHomeState();
+        homeState.apply(SlotUpdateCommand.confirm(DecisionSlot.PURPOSE, "노트북"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.BUDGET, 150));
+        homeState.apply(SlotUpdateCommand.unknown(DecisionSlot.TARGET));
+        homeState.getSlot(DecisionSlot.CONTEXT).markAsked();
+        homeState.getQuestionContext().markAsked(DecisionSlot.PREFERENCE);
+        homeState.getQuestionContext().markGuided(DecisionSlot.TARGET);
+
+        // when
+        ConversationSession restored = ConversationStateCodec.decode(
+                "s-1",
+                ConversationStateCodec.encode(session)
+        );
+
+        // then: context
+        ConversationContext restoredContext =
+                restored.getContextService().getContext();
+        assertThat(restoredContext.getConfirmedKeyword()).isEqualTo("노트북");
+        assertThat(restoredContext.getOptionKeywords()).containsExactly("가벼운");
+        assertThat(restoredContext.getExcludedKeywords()).containsExactly("게이밍");
+        assertThat(restoredContext.getPriceMax()).isEqualTo(1_500_000);
+        assertThat(restoredContext.getPreferredBrand()).isEqualTo("LG");
+        assertThat(restoredContext.getIntentType()).isEqualTo(UserIntentType.SEARCH);
+        assertThat(restoredContext.getTurnCount()).isEqualTo(1);
+        assertThat(restoredContext.getRetryCount()).isEqualTo(1);
+        assertThat(restoredContext.getPhase()).isEqualTo(ConversationPhase.SEARCHING);
+        assertThat(restoredContext.getSearchWindow().getQuery()).isEqualTo("LG 노트북 가벼운");
+        assertThat(restoredContext.getSearchWindow().getShownFingerprints())
+                .containsExactlyInAnyOrder(-7L, 1L << 62);
+
+        // then: 슬롯
+        HomeConversationState restoredHome = restored.getHomeState();
+        assertThat(restoredHome.getSlot(DecisionSlot.PURPOSE).getStatus()).isEqualTo(SlotStatus.CONFIRMED);
+        assertThat(restoredHome.getSlot(DecisionSlot.PURPOSE).getValue()).isEqualTo("노트북");
+        assertThat(restoredHome.getSlot(DecisionSlot.BUDGET).getValue()).isEqualTo(150);
+        assertThat(restoredHome.getSlot(DecisionSlot.TARGET).getStatus()).isEqualTo(SlotStatus.USER_UNKNOWN);
+        assertThat(restoredHome.getSlot(DecisionSlot.CONTEXT).getStatus()).isEqualTo(SlotStatus.ASKED);
+        assertThat(restoredHome.getSlot(DecisionSlot.CONSTRAINT).getStatus()).isEqualTo(SlotStatus.EMPTY);
+
+        // then: 질문 맥락
+        PendingQuestionContext question = restoredHome.getQuestionContext();
+        assertThat(question.getLastAskedSlot()).isEqualTo(DecisionSlot.PREFERENCE);
+        assertThat(question.hasUnansweredQuestion()).isTrue();
+        assertThat(question.wasLastGuide(DecisionSlot.TARGET)).isTrue();
+        assertThat(question.recentlyGuided()).isTrue();
+    }
+
+    @Test
+    void 검색까지_진행한_세션도_200바이트_안에_들어간다() {
+        // given: 키워드 + 옵션 3개 + 가격 + 슬롯 3개 + 보여준 상품 10개
+        ConversationSession session = ConversationSession.fresh("s-1");
+        session.getContextService().merge(
+                new RecommendationCriteria(
+                        "무선청소기",
+                        List.of("저소음", "가벼운", "원룸용"),
+                        300_000,
+                        "LG",
+                        UserIntentType.SEARCH
+                )
+        );
+        HomeConversationState homeState = session.getHomeState();
+        homeState.apply(SlotUpdateCommand.confirm(DecisionSlot.PURPOSE, "무선청소기"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.BUDGET, "30만원 이하"));
+        homeState.apply(SlotUpdateCommand.answer(DecisionSlot.CONTEXT, "원룸용"));
+        homeState.getQuestionContext().markAsked(DecisionSlot.PREFERENCE);
+
+        Set<Long> shown = new HashSet<>();
+        for (long i = 1; i <= 10; i++) {
+            shown.add(i * 0x9E3779B97F4A7C15L);
+        }
+        session.getContextService().getContext().setSearchWindow(
+                SearchCandidateWindow.restore("LG 무선청소기 저소음 가벼운 원룸용", shown)
+        );
+
+        // when
+        byte[] bytes = ConversationStateCodec.encode(session);
+
+        // then
+        assertThat(bytes.length).isLessThan(200);
+        assertThat(ConversationStateCodec.encode(
+                ConversationStateCodec.decode("s-1", bytes)
+        )).hasSize(bytes.length);
+    }
+
+    @Test
+    void 잘린_상태는_복원하지_않는다() {
+        ConversationSession session = ConversationSession.fresh("s-1");
+        session.getContextService().merge(
+                new RecommendationCriteria("노트북", List.of("원룸용"), null, null, UserIntentType.SEARCH)
+        );
+        byte[] bytes = ConversationStateCodec.encode(session);
+
+        assertThatThrownBy(() -> ConversationStateCodec.decode(
+                "s-1",
+                Arrays.copyOf(bytes, bytes.length - 2)
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 다른_버전의_상태는_복원하지_않는다() {
+        byte[] bytes = ConversationStateCodec.encode(ConversationSession.fresh("s-1"));
+        bytes[0] = (byte) (ConversationStateCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> ConversationStateCodec.decode("s-1", bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 사전_뒤에_단어를_추가해도_기존_상태의_back_ref는_그대로_읽힌다() {
+        // given: 사전에 없는 값이 keyword / 슬롯 값 / 창 query에 반복 → back-ref
+        ConversationSession session = ConversationSession.fresh("s-1");
+        session.getContextService().merge(
+                new RecommendationCriteria(
+                        "원룸청소기", List.of("자취용"), null, "LG", UserIntentType.SEARCH
+                )
+        );
+        session.getHomeState().apply(
+                SlotUpdateCommand.confirm(DecisionSlot.PURPOSE, "원룸청소기")
+        );
+        session.getHomeState().apply(
+                SlotUpdateCommand.answer(DecisionSlot.CONTEXT, "자취용")
+        );
+        byte[] bytes = ConversationStateCodec.encode(session);
+
+        List<String> appended = new ArrayList<>(ConversationStateCodec.DICTIONARY);
+        appended.add("식기세척기");
+        appended.add("자취용");
+
+        // when: 단어를 추가한 새 버전 노드가 읽는다
+        ConversationSession restored =
+                ConversationStateCodec.decode("s-1", bytes, appended);
+
+        // then
+        assertThat(restored.getContextService().getContext().getConfirmedKeyword())
+                .isEqualTo("원룸청소기");
+        assertThat(restored.getContextService().getContext().getOptionKeywords())
+                .containsExactly("자취용");
+        assertThat(restored.getHomeState().getSlot(DecisionSlot.PURPOSE).getValue())
+                .isEqualTo("원룸청소기");
+        assertThat(restored.getHomeState().getSlot(DecisionSlot.CONTEXT).getValue())
+                .isEqualTo("자취용");
+    }
+
+    @Test
+    void 모르는_사전_번호는_복원하지_않는다() {
+        // given: 추가한 단어로 쓴 상태를 추가 전 사전으로 읽는다 (롤링 배포 중)
+        List<String> appended = new ArrayList<>(ConversationStateCodec.DICTIONARY);
+        appended.add("식기세척기");
+
+        ConversationSession session = ConversationSession.fresh("s-1");
+        session.getContextService().merge(
+                new RecommendationCriteria(
+                        "식기세척기", List.of(), null, null, UserIntentType.SEARCH
+                )
+        );
+        byte[] bytes = ConversationStateCodec.encode(session, appended);
+
+        // when / then
+        assertThatThrownBy(() -> ConversationStateCodec.decode("s-1", bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
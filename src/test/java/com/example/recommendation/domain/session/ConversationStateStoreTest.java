@@ -0,0 +1,324 @@
+package com.example.recommendation.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConversationStateStoreTest {
+
+    private RespStandInServer respServer;
+    private RespConversationStateStore respStore;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (respStore != null) {
+            respStore.close();
+        }
+        if (respServer != null) {
+            respServer.close();
+        }
+    }
+
+    @Test
+    void 메모리_저장소() {
+        assertStoreContract(new InMemoryConversationStateStore(Duration.ofMinutes(30), 1000));
+    }
+
+    @Test
+    void H2_저장소() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:conversation-store-test;DB_CLOSE_DELAY=-1"
+        );
+        assertStoreContract(new JdbcConversationStateStore(
+                new JdbcTemplate(dataSource),
+                Duration.ofMinutes(30),
+                1000
+        ));
+    }
+
+    @Test
+    void 메모리_저장소는_상한을_넘으면_밀어내고_바이트를_추정한다() {
+        // given
+        InMemoryConversationStateStore store =
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 100);
+
+        // when: 크롤러처럼 한 번씩만 오는 세션 500개
+        for (int i = 0; i < 500; i++) {
+            store.save("bot-" + i, new byte[10]);
+        }
+        store.cleanUp();
+
+        // then
+        assertThat(store.sessionCount()).isEqualTo(100);
+        assertThat(store.evictedCount()).isEqualTo(400);
+        assertThat(store.estimatedBytes()).isEqualTo(
+                100 * (10 + InMemoryConversationStateStore.ENTRY_OVERHEAD_BYTES)
+        );
+    }
+
+    @Test
+    void 메모리_저장소는_가장_오래전에_저장된_세션부터_밀어낸다() {
+        // given
+        InMemoryConversationStateStore store =
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 3);
+        store.save("a", new byte[1]);
+        store.save("b", new byte[1]);
+        store.save("c", new byte[1]);
+        store.load("b");
+        store.save("a", new byte[2]);
+
+        // when
+        store.save("d", new byte[1]);
+
+        // then: 먼저 저장했어도 다시 저장한 a는 남고, 읽기만 한 b가 밀려난다
+        assertThat(store.load("b")).isNull();
+        assertThat(store.load("a")).isNotNull();
+        assertThat(store.load("c")).isNotNull();
+        assertThat(store.load("d")).isNotNull();
+        assertThat(store.evictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 메모리_저장소의_유휴_TTL은_load로_연장되지_않는다() throws Exception {
+        // given
+        InMemoryConversationStateStore store =
+                new InMemoryConversationStateStore(Duration.ofMillis(500), 100);
+        store.save("s-1", new byte[1]);
+
+        // when: TTL 안에 읽기만 한다
+        Thread.sleep(300);
+        assertThat(store.load("s-1")).isNotNull();
+        Thread.sleep(300);
+
+        // then: 마지막 save 기준으로 만료 (jdbc / resp와 같다)
+        assertThat(store.load("s-1")).isNull();
+        assertThat(store.evictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 메모리_저장소는_봇이_몰려와도_턴이_이어지는_대화는_남긴다() {
+        // given: 대화 60개 (상한 100)
+        InMemoryConversationStateStore store =
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 100);
+        for (int i = 0; i < 60; i++) {
+            store.save("user-" + i, new byte[10]);
+        }
+
+        // when: 한 번씩만 오는 봇 세션 1000개, 그 사이 user-0만 턴을 이어 간다
+        for (int i = 0; i < 1000; i++) {
+            store.save("bot-" + i, new byte[10]);
+            if (i % 10 == 0) {
+                store.save("user-0", store.load("user-0"));
+            }
+        }
+        store.cleanUp();
+
+        // then: 이어지는 대화는 남고, 폭주 동안 쉬던 대화는 밀려난다
+        assertThat(store.load("user-0")).isNotNull();
+        for (int i = 1; i < 60; i++) {
+            assertThat(store.load("user-" + i)).as("user-" + i).isNull();
+        }
+        assertThat(store.sessionCount()).isEqualTo(100);
+        assertThat(store.evictedCount()).isEqualTo(960);
+        assertThat(store.load("bot-999")).isNotNull();
+        assertThat(store.load("bot-900")).isNull();
+    }
+
+    @Test
+    void H2_저장소는_정리_때_최근_세션만_상한만큼_남긴다() {
+        // given: 1ms 간격으로 저장된 세션 5개
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:conversation-store-cap-test;DB_CLOSE_DELAY=-1"
+        ));
+        JdbcConversationStateStore store = new JdbcConversationStateStore(
+                jdbcTemplate,
+                Duration.ofMinutes(30),
+                3
+        );
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 5; i++) {
+            insertRow(jdbcTemplate, "s-" + i, new byte[] {(byte) i, 0}, now - 5 + i);
+        }
+
+        // when
+        store.purge(now);
+
+        // then: 가장 오래된 s-1, s-2가 밀려난다
+        assertThat(store.sessionCount()).isEqualTo(3);
+        assertThat(store.estimatedBytes()).isEqualTo(6);
+        assertThat(store.evictedCount()).isEqualTo(2);
+        assertThat(store.load("s-1")).isNull();
+        assertThat(store.load("s-2")).isNull();
+        assertThat(store.load("s-5")).containsExactly(5, 0);
+    }
+
+    @Test
+    void H2_저장소는_같은_시각에_몰린_세션도_상한만큼은_남긴다() {
+        // given: 봇 폭주처럼 같은 밀리초에 저장된 세션 5개
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:conversation-store-tie-test;DB_CLOSE_DELAY=-1"
+        ));
+        JdbcConversationStateStore store = new JdbcConversationStateStore(
+                jdbcTemplate,
+                Duration.ofMinutes(30),
+                3
+        );
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 5; i++) {
+            insertRow(jdbcTemplate, "s-" + i, new byte[] {(byte) i}, now);
+        }
+
+        // when
+        store.purge(now);
+
+        // then: 경계 동률 행을 모두 지우지 않고 정확히 3개
+        assertThat(store.sessionCount()).isEqualTo(3);
+        assertThat(store.evictedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void H2_저장소의_세션_수와_바이트는_정리_때만_다시_센다() {
+        // given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:conversation-store-snapshot-test;DB_CLOSE_DELAY=-1"
+        );
+        JdbcConversationStateStore store = new JdbcConversationStateStore(
+                new JdbcTemplate(dataSource),
+                Duration.ofMinutes(30),
+                1000
+        );
+        store.save("s-1", new byte[] {1, 2});
+        store.save("s-2", new byte[] {3});
+        store.purge(System.currentTimeMillis());
+
+        // when: 정리 주기 안의 저장
+        store.save("s-3", new byte[] {4, 5, 6});
+
+        // then: 지표는 마지막 정리 시점 값
+        assertThat(store.sessionCount()).isEqualTo(2);
+        assertThat(store.estimatedBytes()).isEqualTo(3);
+
+        // when / then: 다음 정리 때 반영
+        store.purge(System.currentTimeMillis());
+        assertThat(store.sessionCount()).isEqualTo(3);
+        assertThat(store.estimatedBytes()).isEqualTo(6);
+    }
+
+    @Test
+    void 세션_메모리_지표를_노출한다() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConversationSessionManager manager = new ConversationSessionManager(
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 1000),
+                null, registry, false, 30, 100
+        );
+
+        // when
+        manager.save(ConversationSession.fresh("s-1"));
+        manager.save(ConversationSession.fresh("s-2"));
+
+        // then
+        assertThat(registry.get("conversation.sessions.live").gauge().value())
+                .isEqualTo(2);
+        assertThat(registry.get("conversation.sessions.bytes.per.session").gauge().value())
+                .isGreaterThan(InMemoryConversationStateStore.ENTRY_OVERHEAD_BYTES);
+    }
+
+    @Test
+    void Redis_프로토콜_저장소() throws Exception {
+        respServer = RespStandInServer.start(0);
+        respStore = new RespConversationStateStore(
+                "localhost",
+                respServer.getPort(),
+                "conversation:",
+                Duration.ofMinutes(30),
+                4,
+                1000
+        );
+
+        assertStoreContract(respStore);
+        assertThat(respServer.size()).isZero();
+    }
+
+    @Test
+    void 노드가_달라도_저장소를_공유하면_대화가_이어진다() throws Exception {
+        // given: 같은 Redis 대역 서버를 바라보는 두 노드
+        respServer = RespStandInServer.start(0);
+        respStore = new RespConversationStateStore(
+                "localhost", respServer.getPort(), "conversation:",
+                Duration.ofMinutes(30), 4, 1000
+        );
+        ConversationSessionManager nodeA = new ConversationSessionManager(
+                respStore, null, new SimpleMeterRegistry(), false, 30, 100
+        );
+        ConversationSessionManager nodeB = new ConversationSessionManager(
+                respStore, null, new SimpleMeterRegistry(), false, 30, 100
+        );
+
+        // when: A에서 한 턴
+        ConversationSession turn1 = nodeA.load("s-1");
+        turn1.getContextService().merge(new RecommendationCriteria(
+                "노트북", List.of("가벼운"), null, null, UserIntentType.SEARCH
+        ));
+        turn1.getHomeState().getQuestionContext().markAsked(DecisionSlot.BUDGET);
+        nodeA.save(turn1);
+
+        // then: B에서 이어받는다
+        ConversationSession turn2 = nodeB.load("s-1");
+        assertThat(turn2.getContextService().getContext().getConfirmedKeyword())
+                .isEqualTo("노트북");
+        assertThat(turn2.getHomeState().getQuestionContext().getLastAskedSlot())
+                .isEqualTo(DecisionSlot.BUDGET);
+
+        // when: B에서 맥락 리셋
+        nodeB.resetContext("s-1");
+
+        // then
+        assertThat(nodeA.load("s-1").getContextService().getContext().getConfirmedKeyword())
+                .isNull();
+    }
+
+    private static void insertRow(
+            JdbcTemplate jdbcTemplate,
+            String sessionId,
+            byte[] state,
+            long updatedAt
+    ) {
+        jdbcTemplate.update(
+                "INSERT INTO " + JdbcConversationStateStore.TABLE
+                        + " (session_id, state, updated_at) VALUES (?, ?, ?)",
+                sessionId,
+                state,
+                updatedAt
+        );
+    }
+
+    private static void assertStoreContract(ConversationStateStore store) {
+        assertThat(store.load("s-1")).isNull();
+
+        store.save("s-1", new byte[] {1, 2, 3});
+        store.save("s-2", new byte[] {9});
+        store.save("s-1", new byte[] {4, 5});
+
+        assertThat(store.load("s-1")).containsExactly(4, 5);
+        assertThat(store.load("s-2")).containsExactly(9);
+
+        store.delete("s-1");
+        store.delete("s-2");
+
+        assertThat(store.load("s-1")).isNull();
+        assertThat(store.load("s-2")).isNull();
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.recommendation.domain.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.UserIntentType;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.session.ConversationStateToken.InvalidTokenException;
+import com.example.recommendation.domain.session.ConversationStateToken.Rejection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConversationStateTokenTest {
+
+    private static final byte[] KEY =
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private static final String SESSION_ID = UUID.randomUUID().toString();
+
+    @Test
+    void 발급한_토큰은_같은_키로_열린다() {
+        // given
+        ConversationStateToken token =
+                new ConversationStateToken(KEY, Duration.ofMinutes(30), true);
+        byte[] state = ConversationStateCodec.encode(typicalSession());
+
+        // when
+        ConversationStateToken.Claims claims = token.open(token.issue(SESSION_ID, state));
+
+        // then
+        assertThat(claims.sessionId()).isEqualTo(SESSION_ID);
+        assertThat(claims.state()).isEqualTo(state);
+    }
+
+    @Test
+    void 반복이_많은_상태는_압축되어_짧아진다() {
+        // given
+        byte[] state = "노트북 ".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String compressed = new ConversationStateToken(KEY, Duration.ofMinutes(30), true)
+                .issue(SESSION_ID, state);
+        String plain = new ConversationStateToken(KEY, Duration.ofMinutes(30), false)
+                .issue(SESSION_ID, state);
+
+        // then
+        assertThat(compressed.length()).isLessThan(plain.length());
+        assertThat(new ConversationStateToken(KEY, Duration.ofMinutes(30), false)
+                .open(compressed).state()).isEqualTo(state);
+    }
+
+    @Test
+    void 한_바이트라도_바뀌면_서명에서_거절된다() {
+        // given
+        ConversationStateToken token =
+                new ConversationStateToken(KEY, Duration.ofMinutes(30), true);
+        byte[] bytes = Base64.getUrlDecoder().decode(
+                token.issue(SESSION_ID, ConversationStateCodec.encode(typicalSession()))
+        );
+        bytes[30] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        // when / then
+        assertRejected(token, tampered, Rejection.SIGNATURE);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_거절된다() {
+        // given
+        byte[] otherKey = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8);
+        String issued = new ConversationStateToken(otherKey, Duration.ofMinutes(30), true)
+                .issue(SESSION_ID, new byte[] {2, 0, 0});
+
+        // when / then
+        assertRejected(
+                new ConversationStateToken(KEY, Duration.ofMinutes(30), true),
+                issued,
+                Rejection.SIGNATURE
+        );
+    }
+
+    @Test
+    void TTL이_지난_토큰은_거절된다() {
+        // given
+        Instant issuedAt = Instant.parse("2025-01-01T00:00:00Z");
+        String issued = new ConversationStateToken(
+                KEY, Duration.ofMinutes(30), true, Clock.fixed(issuedAt, ZoneOffset.UTC)
+        ).issue(SESSION_ID, new byte[] {2, 0, 0});
+
+        ConversationStateToken later = new ConversationStateToken(
+                KEY, Duration.ofMinutes(30), true,
+                Clock.fixed(issuedAt.plus(Duration.ofMinutes(31)), ZoneOffset.UTC)
+        );
+
+        // when / then
+        assertRejected(later, issued, Rejection.EXPIRED);
+    }
+
+    @Test
+    void 형식이_틀린_토큰은_거절된다() {
+        ConversationStateToken token =
+                new ConversationStateToken(KEY, Duration.ofMinutes(30), true);
+
+        assertRejected(token, "not a token!", Rejection.MALFORMED);
+        assertRejected(token, "AQAB", Rejection.MALFORMED);
+        assertRejected(token, "A".repeat(ConversationStateToken.MAX_TOKEN_CHARS + 1),
+                Rejection.MALFORMED);
+    }
+
+    @Test
+    void 무상태_모드는_같은_키를_쓰는_다른_노드에서도_대화가_이어진다() {
+        // given: 저장소 없이 토큰만 공유하는 두 노드
+        ConversationSessionManager nodeA = statelessManager(KEY);
+        ConversationSessionManager nodeB = statelessManager(KEY);
+
+        // when: A에서 첫 턴 (토큰 없음)
+        ConversationSession turn1 = nodeA.load(null, null);
+        turn1.getContextService().merge(new RecommendationCriteria(
+                "노트북", List.of("가벼운"), null, null, UserIntentType.SEARCH
+        ));
+        turn1.getHomeState().getQuestionContext().markAsked(DecisionSlot.BUDGET);
+        nodeA.save(turn1);
+
+        // then: B가 토큰만으로 이어받는다
+        ConversationSession turn2 = nodeB.load(null, turn1.getStateToken());
+        assertThat(turn2.getSessionId()).isEqualTo(turn1.getSessionId());
+        assertThat(turn2.getContextService().getContext().getConfirmedKeyword())
+                .isEqualTo("노트북");
+        assertThat(turn2.getHomeState().getQuestionContext().getLastAskedSlot())
+                .isEqualTo(DecisionSlot.BUDGET);
+
+        // when: 맥락 리셋 → 새 토큰
+        String reset = nodeB.resetContext(null, turn2.getStateToken());
+
+        // then
+        assertThat(nodeA.load(null, reset).getContextService().getContext()
+                .getConfirmedKeyword()).isNull();
+    }
+
+    @Test
+    void 무상태_모드에서_거절된_토큰은_새_세션으로_시작한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConversationSessionManager manager = new ConversationSessionManager(
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 1000),
+                new ConversationStateToken(KEY, Duration.ofMinutes(30), true),
+                meterRegistry,
+                true,
+                30,
+                100
+        );
+        String foreign = new ConversationStateToken(
+                "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8),
+                Duration.ofMinutes(30),
+                true
+        ).issue(SESSION_ID, ConversationStateCodec.encode(typicalSession()));
+
+        // when
+        ConversationSession session = manager.load(null, foreign);
+
+        // then
+        assertThat(session.getSessionId()).isNotEqualTo(SESSION_ID);
+        assertThat(session.getContextService().getContext().getConfirmedKeyword()).isNull();
+        assertThat(session.getStateToken()).isNull();
+        assertThat(meterRegistry.get("conversation.state.token.rejected")
+                .tag("reason", "signature")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    private static ConversationSessionManager statelessManager(byte[] key) {
+        return new ConversationSessionManager(
+                new InMemoryConversationStateStore(Duration.ofMinutes(30), 1000),
+                new ConversationStateToken(key, Duration.ofMinutes(30), true),
+                new SimpleMeterRegistry(),
+                true,
+                30,
+                100
+        );
+    }
+
+    private static void assertRejected(
+            ConversationStateToken token,
+            String value,
+            Rejection rejection
+    ) {
+        assertThatThrownBy(() -> token.open(value))
+                .isInstanceOf(InvalidTokenException.class)
+                .extracting(e -> ((InvalidTokenException) e).getRejection())
+                .isEqualTo(rejection);
+    }
+
+    private static ConversationSession typicalSession() {
+        ConversationSession session = ConversationSession.fresh(SESSION_ID);
+        session.getContextService().merge(new RecommendationCriteria(
+                "무선청소기",
+                List.of("저소음", "가벼운"),
+                300_000,
+                "LG",
+                UserIntentType.SEARCH
+        ));
+        session.getHomeState().getQuestionContext().markAsked(DecisionSlot.BUDGET);
+        return session;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.rule.RuleBasedCriteriaExtractor;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingOpenAiCriteriaClientTest {
+
+    @Test
+    void 정규화가_같은_입력은_AI를_한_번만_호출한다() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        OpenAiCriteriaClient delegate = userInput -> {
+            calls.incrementAndGet();
+            return new FakeOpenAiCriteriaClient().extractCriteria(userInput);
+        };
+        CachingOpenAiCriteriaClient client = new CachingOpenAiCriteriaClient(
+                delegate, "v1", new SimpleMeterRegistry(), 100, 60
+        );
+
+        // when
+        client.extractCriteria("노트북 추천해줘");
+        AiCriteriaResultDto second = client.extractCriteria("  노트북   추천해줘!! ");
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.getSearchKeyword()).isEqualTo("노트북 추천해줘");
+    }
+
+    @Test
+    void 프롬프트_버전이_다르면_캐시를_공유하지_않는다() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        OpenAiCriteriaClient delegate = userInput -> {
+            calls.incrementAndGet();
+            return new FakeOpenAiCriteriaClient().extractCriteria(userInput);
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        new CachingOpenAiCriteriaClient(delegate, "v1", registry, 100, 60)
+                .extractCriteria("다른거");
+        new CachingOpenAiCriteriaClient(delegate, "v2", registry, 100, 60)
+                .extractCriteria("다른거");
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 통합_추출_결과는_fast_path_miss로_세고_같은_키로_캐시한다() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        OpenAiCriteriaClient delegate = userInput -> {
+            calls.incrementAndGet();
+            return new FakeOpenAiCriteriaClient().extractCriteria(userInput);
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FastPathCriteriaClient client = new FastPathCriteriaClient(
+                new RuleBasedCriteriaExtractor(),
+                new CachingOpenAiCriteriaClient(delegate, "v1", registry, 100, 60),
+                registry,
+                0.8
+        );
+        AiCriteriaResultDto combined = new AiCriteriaResultDto();
+        combined.setSearchKeyword("선물용 커피머신");
+
+        // when
+        assertThat(client.findCached("친구 결혼 선물")).isNull();
+        client.recordExtraction("친구 결혼 선물", combined);
+
+        // then
+        assertThat(client.findCached(" 친구 결혼 선물! ").getSearchKeyword())
+                .isEqualTo("선물용 커피머신");
+        assertThat(registry.get("criteria.fastpath").tag("result", "miss")
+                .counter().count()).isEqualTo(1);
+
+        // 이후 개별 호출도 같은 캐시를 본다
+        assertThat(client.extractCriteria("친구 결혼 선물").getSearchKeyword())
+                .isEqualTo("선물용 커피머신");
+        assertThat(calls.get()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+class CardExplanationBatcherTest {
+
+    private final RecommendationCriteria criteria =
+            new RecommendationCriteria("노트북", List.of(), null, null);
+
+    @Test
+    void 창_안에_들어온_요청들은_한_번에_보내고_각자_몫을_돌려받는다() {
+        // given
+        LocalCardExplanationBatchTransport transport =
+                new LocalCardExplanationBatchTransport();
+        CardExplanationBatcher batcher = new CardExplanationBatcher(
+                transport, Executors.newCachedThreadPool(), 200, 10
+        );
+
+        // when
+        CompletableFuture<Map<Long, String>> first =
+                batcher.submit(List.of(card(1L, "LG 그램")), criteria);
+        CompletableFuture<Map<Long, String>> second =
+                batcher.submit(List.of(card(2L, "갤럭시북"), card(3L, "맥북")), criteria);
+
+        // then
+        assertThat(first.join()).containsExactly(Map.entry(1L, "LG 그램 설명"));
+        assertThat(second.join()).containsOnlyKeys(2L, 3L);
+        assertThat(transport.batches()).hasSize(1);
+        assertThat(transport.batches().get(0)).hasSize(2);
+    }
+
+    @Test
+    void 최대_크기에_도달하면_창을_기다리지_않고_보낸다() {
+        // given
+        LocalCardExplanationBatchTransport transport =
+                new LocalCardExplanationBatchTransport();
+        CardExplanationBatcher batcher = new CardExplanationBatcher(
+                transport, Runnable::run, 60_000, 2
+        );
+
+        // when
+        CompletableFuture<Map<Long, String>> first =
+                batcher.submit(List.of(card(1L, "LG 그램")), criteria);
+        batcher.submit(List.of(card(2L, "갤럭시북")), criteria);
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(transport.batches()).hasSize(1);
+    }
+
+    @Test
+    void 전송이_실패하면_묶인_요청_모두_예외로_끝난다() {
+        // given
+        CardExplanationBatcher batcher = new CardExplanationBatcher(
+                sections -> { throw new IllegalStateException("down"); },
+                Runnable::run, 60_000, 1
+        );
+
+        // when
+        CompletableFuture<Map<Long, String>> result =
+                batcher.submit(List.of(card(7L, "맥북")), criteria);
+
+        // then: fallback은 호출부가 채운다
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("down");
+    }
+
+    @Test
+    void 응답에_섹션이_빠진_요청만_예외로_끝난다() {
+        // given: 첫 섹션만 돌려주는 전송
+        CardExplanationBatcher batcher = new CardExplanationBatcher(
+                sections -> Map.of(
+                        sections.get(0).sectionId(), Map.of(1L, "LG 그램 설명")
+                ),
+                Runnable::run, 60_000, 2
+        );
+
+        // when
+        CompletableFuture<Map<Long, String>> first =
+                batcher.submit(List.of(card(1L, "LG 그램")), criteria);
+        CompletableFuture<Map<Long, String>> second =
+                batcher.submit(List.of(card(2L, "갤럭시북")), criteria);
+
+        // then
+        assertThat(first.join()).containsEntry(1L, "LG 그램 설명");
+        assertThat(second).isCompletedExceptionally();
+    }
+
+    private CardExplanationPrompt card(Long id, String title) {
+        return new CardExplanationPrompt(id, title, List.of(), false);
+    }
+}
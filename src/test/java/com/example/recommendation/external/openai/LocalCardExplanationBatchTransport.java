@@ -0,0 +1,42 @@
+package com.example.recommendation.external.openai;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+/**
+ * 테스트 전용 배치 전송 대체 구현
+ *
+ * - 네트워크 ❌
+ * - 섹션ID / 상품ID를 그대로 담은 설명을 돌려준다
+ * - 전송된 배치를 기록
+ */
+public class LocalCardExplanationBatchTransport
+        implements CardExplanationBatchTransport {
+
+    private final List<List<CardBatchSection>> batches = new ArrayList<>();
+
+    @Override
+    public synchronized Map<String, Map<Long, String>> send(
+            List<CardBatchSection> sections
+    ) {
+        batches.add(List.copyOf(sections));
+
+        Map<String, Map<Long, String>> result = new HashMap<>();
+        for (CardBatchSection section : sections) {
+            Map<Long, String> slice = new HashMap<>();
+            for (CardExplanationPrompt prompt : section.prompts()) {
+                slice.put(prompt.productId(), prompt.title() + " 설명");
+            }
+            result.put(section.sectionId(), slice);
+        }
+        return result;
+    }
+
+    public synchronized List<List<CardBatchSection>> batches() {
+        return List.copyOf(batches);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 카드 설명 배칭 모드 (OpenAI 게이트웨이는 쓰지 않는다)
+ */
+class OpenAiExplanationClientImplTest {
+
+    private final RecommendationCriteria criteria =
+            new RecommendationCriteria("노트북", List.of(), null, null);
+
+    // 카드 설명 fan-out 풀 (스레드 1개 = 가장 빡빡한 경우)
+    private final ExecutorService pipelineExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService cardBatchExecutor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pipelineExecutor.shutdownNow();
+        cardBatchExecutor.shutdownNow();
+    }
+
+    @Test
+    void 대기하는_풀이_가득_차도_전송은_별도_풀에서_돈다() throws Exception {
+        // given
+        OpenAiExplanationClientImpl client = client(
+                new LocalCardExplanationBatchTransport(), 5_000
+        );
+
+        // when: 유일한 pipeline 스레드가 배치 결과를 기다린다
+        CompletableFuture<Map<Long, String>> result = CompletableFuture.supplyAsync(
+                () -> client.generateCardExplanations(List.of(card(1L, "LG 그램")), criteria),
+                pipelineExecutor
+        );
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).containsEntry(1L, "LG 그램 설명");
+        assertThat(fallbackCount()).isZero();
+    }
+
+    @Test
+    void 배치_전송이_실패하면_fallback_문장을_쓰고_지표를_올린다() {
+        // given
+        OpenAiExplanationClientImpl client = client(
+                sections -> { throw new IllegalStateException("down"); }, 5_000
+        );
+
+        // when
+        Map<Long, String> result =
+                client.generateCardExplanations(List.of(card(7L, "맥북")), criteria);
+
+        // then
+        assertThat(result).containsEntry(7L, CardExplanationPromptBuilder.FALLBACK_MESSAGE);
+        assertThat(fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 배치_결과가_대기_상한을_넘으면_fallback으로_끝난다() {
+        // given: 응답하지 않는 전송
+        OpenAiExplanationClientImpl client = client(sections -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of();
+        }, 100);
+
+        // when
+        long started = System.nanoTime();
+        Map<Long, String> result =
+                client.generateCardExplanations(List.of(card(7L, "맥북")), criteria);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // then
+        assertThat(result).containsEntry(7L, CardExplanationPromptBuilder.FALLBACK_MESSAGE);
+        assertThat(elapsedMs).isLessThan(5_000);
+        assertThat(fallbackCount()).isEqualTo(1);
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private OpenAiExplanationClientImpl client(
+            CardExplanationBatchTransport transport,
+            long timeoutMs
+    ) {
+        CardExplanationBatcher batcher = new CardExplanationBatcher(
+                transport, cardBatchExecutor, 1, 8
+        );
+        return new OpenAiExplanationClientImpl(
+                null, batcher, registry, false, true, timeoutMs
+        );
+    }
+
+    private double fallbackCount() {
+        return registry.get("ai.fallback")
+                .tag("call", "card_explanations")
+                .counter()
+                .count();
+    }
+
+    private static CardExplanationPrompt card(Long id, String title) {
+        return new CardExplanationPrompt(id, title, List.of(), false);
+    }
+}
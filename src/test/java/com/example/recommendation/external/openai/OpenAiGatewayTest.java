@@ -0,0 +1,209 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * OpenAiGateway 타임아웃 / 동시 호출 제한 / 상태 코드
+ *
+ * - 로컬 HTTP 서버(JDK HttpServer)가 OpenAI 역할
+ * - 서버 핸들러는 release 래치로 "멈춘 서버"를 흉내 낸다
+ */
+class OpenAiGatewayTest {
+
+    private static final Map<String, Object> BODY = Map.of("model", "test");
+
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private volatile Handler handler;
+
+    interface Handler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            try (exchange) {
+                handler.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 클라이언트가 먼저 끊음
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 동시_호출_한도가_acquire_timeout_동안_차_있으면_바로_실패한다() throws Exception {
+        // given: 슬롯 1개, 첫 호출은 서버에서 멈춤
+        CountDownLatch firstArrived = new CountDownLatch(1);
+        handler = exchange -> {
+            firstArrived.countDown();
+            release.await();
+            respond(exchange, 200, completion("늦은 응답"));
+        };
+        OpenAiGateway gateway = gateway(10_000, 10_000, 1, 50);
+
+        CompletableFuture<String> first =
+                CompletableFuture.supplyAsync(() -> gateway.chatCompletion(BODY), callers);
+        assertThat(firstArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when / then
+        assertThatThrownBy(() -> gateway.chatCompletion(BODY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("OpenAI in-flight limit reached");
+
+        // 첫 호출이 끝나면 슬롯 반환
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains("늦은 응답");
+    }
+
+    @Test
+    void 응답이_2xx가_아니면_상태_코드를_담아_실패하고_슬롯은_반환한다() {
+        // given
+        handler = exchange -> respond(exchange, 429, "{\"error\":\"rate limit\"}");
+        OpenAiGateway gateway = gateway(10_000, 10_000, 1, 50);
+
+        // when / then: 슬롯 1개로 두 번 연속 → 둘 다 상태 코드 실패 (한도 실패 ❌)
+        assertThatThrownBy(() -> gateway.chatCompletion(BODY))
+                .hasMessage("OpenAI call failed status=429");
+        assertThatThrownBy(() -> gateway.streamChatCompletion(BODY, token -> { }))
+                .hasMessage("OpenAI call failed status=429");
+        assertThatThrownBy(() -> gateway.streamChatCompletion(BODY, token -> { }))
+                .hasMessage("OpenAI call failed status=429");
+    }
+
+    @Test
+    void 스트림_본문이_멈추면_overall_timeout에_끊고_슬롯을_반환한다() {
+        // given: 토큰 하나 보낸 뒤 멈추는 서버
+        handler = exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write(delta("첫 토큰").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            release.await();
+        };
+        // 헤더 타임아웃(read)은 길게 → overall만으로 끊기는지
+        OpenAiGateway gateway = gateway(10_000, 300, 1, 50);
+        List<String> tokens = new CopyOnWriteArrayList<>();
+
+        // when
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> gateway.streamChatCompletion(BODY, tokens::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("OpenAI streaming exceeded 300ms");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // then
+        assertThat(tokens).containsExactly("첫 토큰");
+        assertThat(elapsedMs).isLessThan(5_000);
+
+        // 슬롯 반환 → 다음 호출은 한도 실패가 아니라 다시 타임아웃
+        assertThatThrownBy(() -> gateway.streamChatCompletion(BODY, token -> { }))
+                .hasMessage("OpenAI streaming exceeded 300ms");
+    }
+
+    @Test
+    void 스트림_헤더가_오지_않아도_overall_timeout에_끊는다() {
+        // given
+        handler = exchange -> release.await();
+        OpenAiGateway gateway = gateway(10_000, 300, 1, 50);
+
+        // when / then
+        assertThatThrownBy(() -> gateway.streamChatCompletion(BODY, token -> { }))
+                .hasMessage("OpenAI streaming exceeded 300ms");
+    }
+
+    @Test
+    void 스트림은_DONE까지_토큰을_순서대로_전달한다() {
+        // given
+        handler = exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write((delta("가벼운") + delta(" 청소기")
+                    + "data: [DONE]\n\n").getBytes(StandardCharsets.UTF_8));
+        };
+        OpenAiGateway gateway = gateway(10_000, 10_000, 1, 50);
+        List<String> tokens = new CopyOnWriteArrayList<>();
+
+        // when
+        String full = gateway.streamChatCompletion(BODY, tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly("가벼운", " 청소기");
+        assertThat(full).isEqualTo("가벼운 청소기");
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private OpenAiGateway gateway(
+            long readTimeoutMs,
+            long overallTimeoutMs,
+            int maxInFlight,
+            long acquireTimeoutMs
+    ) {
+        return new OpenAiGateway(
+                HttpClient.newHttpClient(),
+                "test-key",
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                readTimeoutMs,
+                overallTimeoutMs,
+                maxInFlight,
+                acquireTimeoutMs
+        );
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String completion(String content) {
+        return "{\"choices\":[{\"message\":{\"content\":\"" + content + "\"}}]}";
+    }
+
+    private static String delta(String content) {
+        return "data: {\"choices\":[{\"delta\":{\"content\":\"" + content + "\"}}]}\n\n";
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.home.answer.AnswerIntent;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class OpenAiResponseParserTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 통합_응답은_답변_해석과_Criteria로_나뉜다() throws Exception {
+        // given
+        String response = completion("""
+                {"answer":{"primaryIntent":"ANSWER","normalizedValue":"친구 결혼",
+                           "secondarySignals":[{"targetSlot":"BUDGET","value":"10만원"}]},
+                 "criteria":{"searchKeyword":"커피머신","optionKeywords":["선물용"],
+                             "priceMax":100000}}
+                """);
+
+        // when
+        TurnExtraction extraction = OpenAiResponseParser.parseTurnExtraction(response);
+
+        // then
+        AnswerInterpretation interpretation = extraction.interpretation();
+        assertThat(interpretation.getPrimaryIntent()).isEqualTo(AnswerIntent.ANSWER);
+        assertThat(interpretation.getNormalizedValue()).isEqualTo("친구 결혼");
+        assertThat(interpretation.getSecondarySignals())
+                .singleElement()
+                .satisfies(signal -> {
+                    assertThat(signal.getTargetSlot()).isEqualTo(DecisionSlot.BUDGET);
+                    assertThat(signal.getValue()).isEqualTo("10만원");
+                });
+        assertThat(extraction.criteria().getSearchKeyword()).isEqualTo("커피머신");
+        assertThat(extraction.criteria().getOptionKeywords()).containsExactly("선물용");
+        assertThat(extraction.criteria().getPriceMax()).isEqualTo(100000);
+    }
+
+    @Test
+    void 답변_해석_단독_응답도_같은_규칙으로_읽는다() throws Exception {
+        // given
+        String response = completion("""
+                {"primaryIntent":"REFUSAL","normalizedValue":""}
+                """);
+
+        // when
+        AnswerInterpretation interpretation =
+                OpenAiResponseParser.parseAnswerInterpretation(response);
+
+        // then
+        assertThat(interpretation.getPrimaryIntent()).isEqualTo(AnswerIntent.REFUSAL);
+        assertThat(interpretation.hasSecondarySignals()).isFalse();
+    }
+
+    @Test
+    void 계약에_없는_의도는_실패한다() throws Exception {
+        // given
+        String response = completion("""
+                {"answer":{"primaryIntent":"MAYBE"},"criteria":{}}
+                """);
+
+        // when / then
+        assertThatThrownBy(() -> OpenAiResponseParser.parseTurnExtraction(response))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    private static String completion(String content) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "choices", List.of(Map.of("message", Map.of("content", content)))
+        ));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.recommendation.external.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+class OpenAiStreamParserTest {
+
+    @Test
+    void delta_조각을_순서대로_이어붙이면_전체_문장이_된다() {
+        // given
+        List<String> lines = List.of(
+                "data: {\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}",
+                "",
+                "data: {\"choices\":[{\"delta\":{\"content\":\"친구 결혼\"}}]}",
+                "data: {\"choices\":[{\"delta\":{\"content\":\" 선물로 찾아봤어\"}}]}",
+                "data: {\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}]}",
+                "data: [DONE]"
+        );
+
+        // when
+        String joined = String.join("",
+                lines.stream()
+                        .takeWhile(line -> !OpenAiStreamParser.isDone(line))
+                        .map(OpenAiStreamParser::parseDeltaContent)
+                        .filter(Objects::nonNull)
+                        .toList()
+        );
+
+        // then
+        assertThat(joined).isEqualTo("친구 결혼 선물로 찾아봤어");
+    }
+
+    @Test
+    void DONE_신호를_인식한다() {
+        assertThat(OpenAiStreamParser.isDone("data: [DONE]")).isTrue();
+        assertThat(OpenAiStreamParser.isDone("data:[DONE]")).isTrue();
+        assertThat(OpenAiStreamParser.isDone(": keep-alive")).isFalse();
+    }
+}
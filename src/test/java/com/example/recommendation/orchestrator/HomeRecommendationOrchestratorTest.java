@@ -0,0 +1,227 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.CriteriaService;
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.criteria.SearchReadinessEvaluator;
+import com.example.recommendation.domain.decision.DecisionResult;
+import com.example.recommendation.domain.home.HomeService;
+import com.example.recommendation.domain.home.answer.AnswerIntent;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.domain.home.answer.UserInputProcessor;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.domain.recommendation.RecommendationService;
+import com.example.recommendation.domain.search.SearchService;
+import com.example.recommendation.domain.session.ConversationSessionManager;
+import com.example.recommendation.domain.session.InMemoryConversationStateStore;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+import com.example.recommendation.dto.RecommendationRequestDto;
+import com.example.recommendation.dto.RecommendationResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Orchestrator 턴 흐름 (AI / 네이버는 가짜)
+ *
+ * - 검색 없이 끝나는 턴(REQUERY)만 다룬다 → 설명 생성 ❌
+ */
+class HomeRecommendationOrchestratorTest {
+
+    private final ExecutorService pipelineExecutor = Executors.newFixedThreadPool(4);
+    private final ExecutorService turnExecutor = Executors.newFixedThreadPool(2);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final StageBudgets stageBudgets =
+            new StageBudgets(registry, 5_000, 5_000, 5_000, 5_000, 5_000);
+    private final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry);
+
+    private final ConversationSessionManager sessionManager =
+            new ConversationSessionManager(
+                    new InMemoryConversationStateStore(Duration.ofMinutes(30), 1000),
+                    null, registry, false, 30, 100
+            );
+
+    // 호출된 스레드 기록
+    private final Set<String> interpretThreads = ConcurrentHashMap.newKeySet();
+    private final Set<String> stateThreads = ConcurrentHashMap.newKeySet();
+
+    // 발화 → 이번 턴 Criteria (가짜 AI)
+    private Function<String, AiCriteriaResultDto> criteriaAi =
+            userInput -> aiCriteria(null);
+
+    // 가짜 HomeService 안에서 실행 (턴 도중 멈추기용)
+    private Runnable homeServiceHook = () -> { };
+
+    @AfterEach
+    void tearDown() {
+        pipelineExecutor.shutdownNow();
+        turnExecutor.shutdownNow();
+    }
+
+    @Test
+    void 동기_턴은_AI_호출만_작업_스레드에서_하고_state는_요청_스레드에서만_바꾼다() {
+        // given
+        HomeRecommendationOrchestrator orchestrator = orchestrator();
+        String requestThread = Thread.currentThread().getName();
+
+        // when
+        RecommendationResponseDto response =
+                orchestrator.handle("s-1", request("음 글쎄요"));
+
+        // then
+        assertThat(response.getMessage()).isEqualTo("어떤 상품을 찾으세요?");
+        assertThat(interpretThreads).isNotEmpty()
+                .doesNotContain(requestThread);
+        assertThat(stateThreads).containsExactly(requestThread);
+    }
+
+    @Test
+    void 비동기_턴은_state_변경을_turnExecutor_한_곳에서만_한다() {
+        // given
+        HomeRecommendationOrchestrator orchestrator = orchestrator();
+
+        // when
+        orchestrator.handleAsync("s-1", request("음 글쎄요")).join();
+
+        // then
+        assertThat(stateThreads).hasSize(1)
+                .doesNotContainAnyElementsOf(interpretThreads)
+                .doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void 진행_중인_턴과_겹친_리셋은_턴이_끝난_뒤_적용된다() throws Exception {
+        // given: 세션 state를 바꾸는 도중 멈춘 턴
+        CountDownLatch turnInProgress = new CountDownLatch(1);
+        CountDownLatch releaseTurn = new CountDownLatch(1);
+        homeServiceHook = () -> {
+            turnInProgress.countDown();
+            await(releaseTurn);
+        };
+        HomeRecommendationOrchestrator orchestrator = orchestrator();
+
+        CompletableFuture<RecommendationResponseDto> turn =
+                orchestrator.handleAsync("s-1", request("음 글쎄요"));
+        assertThat(turnInProgress.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 턴 도중 리셋
+        CompletableFuture<String> reset = CompletableFuture.supplyAsync(
+                () -> orchestrator.resetContext("s-1", null)
+        );
+
+        // then: 리셋은 턴 뒤에 줄을 선다
+        Thread.sleep(100);
+        assertThat(reset).isNotDone();
+
+        releaseTurn.countDown();
+        turn.get(5, TimeUnit.SECONDS);
+        reset.get(5, TimeUnit.SECONDS);
+
+        // 턴의 저장이 리셋을 덮어쓰지 않는다
+        assertThat(sessionManager.load("s-1", null)
+                .getContextService().getContext().getTurnCount()).isZero();
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private HomeRecommendationOrchestrator orchestrator() {
+
+        UserInputProcessor userInputProcessor = new UserInputProcessor(null, null) {
+            @Override
+            public AnswerInterpretation interpret(String userInput, DecisionSlot lastAskedSlot) {
+                interpretThreads.add(Thread.currentThread().getName());
+                return new AnswerInterpretation(AnswerIntent.UNKNOWN, null);
+            }
+
+            @Override
+            public void applyInterpretation(
+                    AnswerInterpretation interpretation,
+                    HomeConversationState state
+            ) {
+                stateThreads.add(Thread.currentThread().getName());
+            }
+        };
+
+        CriteriaService criteriaService =
+                new CriteriaService(userInput -> criteriaAi.apply(userInput));
+
+        HomeService homeService = new HomeService(
+                null, null, null, null, null, null, null, null
+        ) {
+            @Override
+            public RecommendationResponseDto handle(
+                    DecisionResult decisionResult,
+                    RecommendationCriteria criteria,
+                    HomeConversationState conversationState
+            ) {
+                stateThreads.add(Thread.currentThread().getName());
+                homeServiceHook.run();
+                return RecommendationResponseDto.requery("어떤 상품을 찾으세요?");
+            }
+        };
+
+        return new HomeRecommendationOrchestrator(
+                sessionManager,
+                new SessionTurnGate("coalesce", 3, turnExecutor, registry),
+                new SearchReadinessEvaluator(),
+                new SearchService(null, null, registry, 30, 100),
+                new RecommendationService(null),
+                homeService,
+                new RecommendationResponseAssembler(
+                        null, null, stageBudgets, pipelineMetrics, pipelineExecutor
+                ),
+                userInputProcessor,
+                new TurnInputResolver(
+                        userInputProcessor,
+                        criteriaService,
+                        null,
+                        pipelineExecutor,
+                        stageBudgets,
+                        pipelineMetrics,
+                        false,
+                        registry
+                ),
+                stageBudgets,
+                pipelineMetrics,
+                pipelineExecutor,
+                turnExecutor
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RecommendationRequestDto request(String userInput) {
+        return new RecommendationRequestDto(userInput);
+    }
+
+    private static AiCriteriaResultDto aiCriteria(String searchKeyword) {
+        AiCriteriaResultDto dto = new AiCriteriaResultDto();
+        dto.setSearchKeyword(searchKeyword);
+        dto.setOptionKeywords(List.of());
+        return dto;
+    }
+}
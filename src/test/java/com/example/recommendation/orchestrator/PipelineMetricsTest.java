@@ -0,0 +1,52 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PipelineMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final PipelineMetrics metrics = new PipelineMetrics(registry);
+
+    @Test
+    void 단계_실행_시간을_stage_태그로_기록한다() {
+        String result = metrics.time(PipelineMetrics.SEARCH, () -> "window");
+
+        assertThat(result).isEqualTo("window");
+
+        Timer timer = registry.get("pipeline.stage")
+                .tag("stage", "search")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.find("pipeline.errors").counter()).isNull();
+    }
+
+    @Test
+    void 예외는_지표를_남기고_그대로_전파된다() {
+        assertThatThrownBy(() ->
+                metrics.time(PipelineMetrics.EVALUATION, () -> {
+                    throw new IllegalStateException("boom");
+                })
+        ).isInstanceOf(IllegalStateException.class);
+
+        assertThat(
+                registry.get("pipeline.stage")
+                        .tag("stage", "evaluation")
+                        .timer()
+                        .count()
+        ).isEqualTo(1);
+        assertThat(
+                registry.get("pipeline.errors")
+                        .tag("stage", "evaluation")
+                        .tag("exception", "IllegalStateException")
+                        .counter()
+                        .count()
+        ).isEqualTo(1.0);
+    }
+}
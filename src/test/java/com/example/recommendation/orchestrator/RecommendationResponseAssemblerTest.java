@@ -0,0 +1,577 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.RecommendationCriteria;
+import com.example.recommendation.domain.evaluation.EvaluatedProduct;
+import com.example.recommendation.domain.evaluation.EvaluationResult;
+import com.example.recommendation.domain.evaluation.MatchField;
+import com.example.recommendation.domain.explanation.CardExplanationCache;
+import com.example.recommendation.domain.explanation.CardExplanationPrompt;
+import com.example.recommendation.domain.explanation.ExplanationPolicy;
+import com.example.recommendation.domain.explanation.ExplanationService;
+import com.example.recommendation.dto.RecommendationResponseDto;
+import com.example.recommendation.external.naver.dto.Product;
+import com.example.recommendation.external.openai.OpenAiExplanationClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RecommendationResponseAssembler (오케스트레이터 설명 단계, AI는 가짜)
+ *
+ * - 메인 / 카드 설명 병렬 생성
+ * - 카드 설명 캐시
+ * - 설명 단계 예산 fallback
+ * - 스트리밍 이벤트 순서
+ */
+class RecommendationResponseAssemblerTest {
+
+    @Test
+    void 메인_설명과_카드_설명을_동시에_생성해_합친다() {
+        // given
+        Product product =
+                new Product(1L, "무선 헤드셋", 10000, true);
+
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        product,
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        EvaluationResult evaluationResult =
+                EvaluationResult.of(List.of(ep), true, true);
+
+        RecommendationCriteria criteria =
+                new RecommendationCriteria(
+                        "헤드셋",
+                        List.of("무선"),
+                        null,
+                        null
+                );
+
+        // 두 호출이 서로를 기다린다 → 직렬이면 타임아웃
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        new RendezvousExplanationService(bothStarted),
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        executor
+                );
+
+        try {
+            // when
+            RecommendationResponseDto response =
+                    assembler.assemble(evaluationResult, criteria);
+
+            // then
+            assertThat(response.getType())
+                    .isEqualTo(RecommendationResponseDto.ResponseType.RECOMMEND);
+            assertThat(response.getMessage())
+                    .isEqualTo("메인 설명");
+            assertThat(response.getItems()).hasSize(1);
+            assertThat(response.getItems().get(0).getExplanation())
+                    .isEqualTo("카드 설명");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 캐시에_있는_카드는_AI에_보내지_않는다() {
+        // given
+        EvaluatedProduct ep1 =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선", "노이즈캔슬링"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        EvaluatedProduct ep1Reordered =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("노이즈캔슬링", "무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        EvaluatedProduct ep2 =
+                new EvaluatedProduct(
+                        new Product(2L, "블루투스 헤드셋", 12000, false),
+                        1,
+                        false,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        RecommendationCriteria criteria =
+                new RecommendationCriteria(
+                        "헤드셋",
+                        List.of("무선"),
+                        null,
+                        null
+                );
+
+        RecordingExplanationService explanationService =
+                new RecordingExplanationService();
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        explanationService,
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        Runnable::run
+                );
+
+        // when
+        assembler.buildCardExplanations(
+                EvaluationResult.of(List.of(ep1), true, true),
+                criteria
+        );
+        Map<Long, String> second =
+                assembler.buildCardExplanations(
+                        EvaluationResult.of(List.of(ep1Reordered, ep2), true, true),
+                        criteria
+                );
+
+        // then: 두 번째 호출은 2번 상품만 AI로
+        assertThat(explanationService.requestedIds)
+                .containsExactly(List.of(1L), List.of(2L));
+        assertThat(second)
+                .containsEntry(1L, "설명-1")
+                .containsEntry(2L, "설명-2");
+    }
+
+    @Test
+    void 사용자_조건이_다르면_같은_상품이라도_카드_설명을_다시_만든다() {
+        // given: 상품 / 맞은 키워드는 같고 조건(예산)만 다르다
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        RecordingExplanationService explanationService =
+                new RecordingExplanationService();
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        explanationService,
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        Runnable::run
+                );
+
+        EvaluationResult evaluationResult =
+                EvaluationResult.of(List.of(ep), true, true);
+
+        // when
+        assembler.buildCardExplanations(
+                evaluationResult,
+                new RecommendationCriteria("헤드셋", List.of("무선"), null, null)
+        );
+        assembler.buildCardExplanations(
+                evaluationResult,
+                new RecommendationCriteria("헤드셋", List.of("무선"), 30000, null)
+        );
+        assembler.buildCardExplanations(
+                evaluationResult,
+                new RecommendationCriteria("헤드셋", List.of("무선"), 30000, null)
+        );
+
+        // then: 조건이 바뀐 두 번째만 다시, 같은 조건인 세 번째는 캐시
+        assertThat(explanationService.requestedIds)
+                .containsExactly(List.of(1L), List.of(1L));
+    }
+
+    @Test
+    void fallback_카드_설명은_캐시하지_않는다() {
+        // given
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        RecordingExplanationService explanationService =
+                new RecordingExplanationService();
+        explanationService.fail = true;
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        explanationService,
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        Runnable::run
+                );
+
+        EvaluationResult evaluationResult =
+                EvaluationResult.of(List.of(ep), true, true);
+
+        // when
+        assembler.buildCardExplanations(evaluationResult, null);
+        assembler.buildCardExplanations(evaluationResult, null);
+
+        // then
+        assertThat(explanationService.requestedIds).hasSize(2);
+    }
+
+    @Test
+    void 설명_단계_예산을_넘기면_fallback_문장으로_응답한다() {
+        // given
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        new BlockingExplanationService(release),
+                        new CardExplanationCache("test", 100, 10),
+                        new StageBudgets(registry, 10_000, 10_000, 10_000, 10_000, 50),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        executor
+                );
+
+        try {
+            // when
+            RecommendationResponseDto response =
+                    assembler.assemble(
+                            EvaluationResult.of(List.of(ep), true, true),
+                            null
+                    );
+
+            // then
+            assertThat(response.getMessage())
+                    .isEqualTo(ExplanationPolicy.RECOMMEND_CONFIDENT.getMessage());
+            assertThat(response.getItems().get(0).getExplanation())
+                    .isEqualTo(OpenAiExplanationClient.CARD_FALLBACK_MESSAGE);
+            assertThat(
+                    registry.get("pipeline.degraded")
+                            .tag("stage", "explanation")
+                            .tag("reason", "timeout")
+                            .counter()
+                            .count()
+            ).isEqualTo(2.0);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 스트리밍은_items_토큰_메시지_카드_done_순으로_전달한다() {
+        // given: 동기 executor → 이벤트 순서가 결정적
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        new StreamingExplanationService(false),
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        Runnable::run
+                );
+
+        RecordingStreamListener listener = new RecordingStreamListener();
+
+        // when
+        assembler.stream(
+                EvaluationResult.of(List.of(ep), true, true),
+                null,
+                listener
+        ).join();
+
+        // then
+        assertThat(listener.events).containsExactly(
+                "items:1",
+                "token:메인",
+                "token: 설명",
+                "message:메인 설명",
+                "card:1=카드 설명",
+                "done:메인 설명"
+        );
+        assertThat(listener.completed.getItems().get(0).getExplanation())
+                .isEqualTo("카드 설명");
+    }
+
+    @Test
+    void 스트리밍_중_실패하면_done_없이_error로_끝난다() {
+        // given
+        EvaluatedProduct ep =
+                new EvaluatedProduct(
+                        new Product(1L, "무선 헤드셋", 10000, true),
+                        1,
+                        true,
+                        true,
+                        List.of("무선"),
+                        Set.of(MatchField.TITLE)
+                );
+
+        RecommendationResponseAssembler assembler =
+                new RecommendationResponseAssembler(
+                        new StreamingExplanationService(true),
+                        new CardExplanationCache("test", 100, 10),
+                        stageBudgets(),
+                        new PipelineMetrics(new SimpleMeterRegistry()),
+                        Runnable::run
+                );
+
+        RecordingStreamListener listener = new RecordingStreamListener();
+
+        // when
+        assembler.stream(
+                EvaluationResult.of(List.of(ep), true, true),
+                null,
+                listener
+        ).exceptionally(error -> null).join();
+
+        // then: 이미 보낸 이벤트는 그대로, 마지막은 error 하나
+        assertThat(listener.events).startsWith("items:1");
+        assertThat(listener.events).last().isEqualTo("error:카드 실패");
+        assertThat(listener.events).noneMatch(event -> event.startsWith("done"));
+    }
+
+    private static StageBudgets stageBudgets() {
+        return new StageBudgets(
+                new SimpleMeterRegistry(),
+                10_000, 10_000, 10_000, 10_000, 10_000
+        );
+    }
+
+    /* =========================
+     * Fake Explanation Service
+     * ========================= */
+
+    static class RendezvousExplanationService extends ExplanationService {
+
+        private final CountDownLatch bothStarted;
+
+        RendezvousExplanationService(CountDownLatch bothStarted) {
+            super(null);
+            this.bothStarted = bothStarted;
+        }
+
+        @Override
+        public String generateExplanation(
+                List<EvaluatedProduct> products,
+                RecommendationCriteria criteria
+        ) {
+            awaitOther();
+            return "메인 설명";
+        }
+
+        @Override
+        public Map<Long, String> generateCardExplanations(
+                List<CardExplanationPrompt> prompts,
+                RecommendationCriteria criteria
+        ) {
+            awaitOther();
+            return Map.of(prompts.get(0).productId(), "카드 설명");
+        }
+
+        private void awaitOther() {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("직렬 호출됨");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class BlockingExplanationService extends ExplanationService {
+
+        private final CountDownLatch release;
+
+        BlockingExplanationService(CountDownLatch release) {
+            super(null);
+            this.release = release;
+        }
+
+        @Override
+        public String generateExplanation(
+                List<EvaluatedProduct> products,
+                RecommendationCriteria criteria
+        ) {
+            block();
+            return "늦은 메인 설명";
+        }
+
+        @Override
+        public Map<Long, String> generateCardExplanations(
+                List<CardExplanationPrompt> prompts,
+                RecommendationCriteria criteria
+        ) {
+            block();
+            return Map.of(prompts.get(0).productId(), "늦은 카드 설명");
+        }
+
+        private void block() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class RecordingExplanationService extends ExplanationService {
+
+        final List<List<Long>> requestedIds = new ArrayList<>();
+        boolean fail;
+
+        RecordingExplanationService() {
+            super(null);
+        }
+
+        @Override
+        public Map<Long, String> generateCardExplanations(
+                List<CardExplanationPrompt> prompts,
+                RecommendationCriteria criteria
+        ) {
+            requestedIds.add(
+                    prompts.stream()
+                            .map(CardExplanationPrompt::productId)
+                            .toList()
+            );
+            return prompts.stream()
+                    .collect(
+                            java.util.stream.Collectors.toMap(
+                                    CardExplanationPrompt::productId,
+                                    p -> fail
+                                            ? OpenAiExplanationClient.CARD_FALLBACK_MESSAGE
+                                            : "설명-" + p.productId()
+                            )
+                    );
+        }
+    }
+
+    static class StreamingExplanationService extends ExplanationService {
+
+        private final boolean failCards;
+
+        StreamingExplanationService(boolean failCards) {
+            super(null);
+            this.failCards = failCards;
+        }
+
+        @Override
+        public String generateExplanationStreaming(
+                List<EvaluatedProduct> products,
+                RecommendationCriteria criteria,
+                Consumer<String> onToken
+        ) {
+            onToken.accept("메인");
+            onToken.accept(" 설명");
+            return "메인 설명";
+        }
+
+        @Override
+        public Map<Long, String> generateCardExplanations(
+                List<CardExplanationPrompt> prompts,
+                RecommendationCriteria criteria
+        ) {
+            if (failCards) {
+                throw new IllegalStateException("카드 실패");
+            }
+            return Map.of(prompts.get(0).productId(), "카드 설명");
+        }
+    }
+
+    static class RecordingStreamListener implements RecommendationStreamListener {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        RecommendationResponseDto completed;
+
+        @Override
+        public void onItems(List<RecommendationResponseDto.Item> items) {
+            events.add("items:" + items.size());
+        }
+
+        @Override
+        public void onMessageToken(String token) {
+            events.add("token:" + token);
+        }
+
+        @Override
+        public void onMessage(String message) {
+            events.add("message:" + message);
+        }
+
+        @Override
+        public void onCardExplanation(Long productId, String explanation) {
+            events.add("card:" + productId + "=" + explanation);
+        }
+
+        @Override
+        public void onComplete(RecommendationResponseDto response) {
+            completed = response;
+            events.add("done:" + response.getMessage());
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            events.add("error:" + cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SessionTurnGateTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_세션_턴은_앞_턴이_끝난_뒤에_시작한다() {
+        // given
+        SessionTurnGate gate = gate("coalesce", 3);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<String> firstTurn = new CompletableFuture<>();
+
+        // when: 첫 턴이 끝나지 않은 상태에서 두 번째 턴
+        CompletableFuture<String> first = gate.submit("s-1", "노트북", () -> {
+            events.add("first start");
+            return firstTurn;
+        });
+        CompletableFuture<String> second = gate.submit("s-1", "가벼운 걸로", () -> {
+            events.add("second start");
+            return CompletableFuture.completedFuture("second");
+        });
+
+        // then: 두 번째는 대기
+        assertThat(events).containsExactly("first start");
+
+        // when
+        events.add("first end");
+        firstTurn.complete("first");
+
+        // then
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(second.join()).isEqualTo("second");
+        assertThat(events).containsExactly("first start", "first end", "second start");
+        assertThat(registry.get("conversation.turn.gate").tag("outcome", "queued")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_세션은_서로_기다리지_않는다() {
+        // given
+        SessionTurnGate gate = gate("coalesce", 3);
+        gate.submit("s-1", "노트북", CompletableFuture::new);
+
+        // when
+        CompletableFuture<String> other = gate.submit(
+                "s-2", "노트북", () -> CompletableFuture.completedFuture("s-2")
+        );
+
+        // then
+        assertThat(other).isCompletedWithValue("s-2");
+    }
+
+    @Test
+    void coalesce_정책은_진행_중인_같은_입력을_한_번만_실행한다() {
+        // given
+        SessionTurnGate gate = gate("coalesce", 3);
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<String> turn = new CompletableFuture<>();
+
+        // when: 더블클릭
+        CompletableFuture<String> first = gate.submit("s-1", "노트북", () -> {
+            runs.incrementAndGet();
+            return turn;
+        });
+        CompletableFuture<String> duplicate = gate.submit("s-1", "노트북", () -> {
+            runs.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicate");
+        });
+        turn.complete("result");
+
+        // then
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(duplicate.join()).isEqualTo("result");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void reject_정책은_진행_중인_같은_입력을_거절한다() {
+        // given
+        SessionTurnGate gate = gate("reject", 3);
+        gate.submit("s-1", "노트북", CompletableFuture::new);
+
+        // when
+        CompletableFuture<String> duplicate = gate.submit(
+                "s-1", "노트북", () -> CompletableFuture.completedFuture("duplicate")
+        );
+
+        // then
+        assertThatThrownBy(duplicate::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SessionTurnGate.BusyException.class);
+    }
+
+    @Test
+    void 대기_한도를_넘으면_거절한다() {
+        // given
+        SessionTurnGate gate = gate("coalesce", 2);
+        gate.submit("s-1", "1", CompletableFuture::new);
+        gate.submit("s-1", "2", CompletableFuture::new);
+
+        // when
+        CompletableFuture<String> third = gate.submit(
+                "s-1", "3", () -> CompletableFuture.completedFuture("3")
+        );
+
+        // then
+        assertThatThrownBy(third::join)
+                .hasCauseInstanceOf(SessionTurnGate.BusyException.class);
+    }
+
+    @Test
+    void 실패한_턴도_다음_턴을_막지_않고_끝나면_세션이_정리된다() {
+        // given
+        SessionTurnGate gate = gate("coalesce", 3);
+
+        // when
+        CompletableFuture<String> failed = gate.submit("s-1", "노트북", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = gate.submit(
+                "s-1", "가벼운 걸로", () -> CompletableFuture.completedFuture("next")
+        );
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next.join()).isEqualTo("next");
+        assertThat(gate.activeSessions()).isZero();
+    }
+
+    @Test
+    void 세션_키가_없으면_바로_실행한다() {
+        SessionTurnGate gate = gate("coalesce", 1);
+
+        gate.submit(null, "노트북", CompletableFuture::new);
+        CompletableFuture<String> second = gate.submit(
+                null, "노트북", () -> CompletableFuture.completedFuture("second")
+        );
+
+        assertThat(second).isCompletedWithValue("second");
+        assertThat(gate.activeSessions()).isZero();
+    }
+
+    private SessionTurnGate gate(String policy, int maxPending) {
+        return new SessionTurnGate(policy, maxPending, executor, registry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StageBudgetsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final StageBudgets budgets =
+            new StageBudgets(registry, 1_000, 1_000, 50, 1_000, 1_000);
+
+    @Test
+    void 단계_예산_안에_끝나면_원래_결과() {
+        TurnDeadline deadline = budgets.start();
+
+        String result =
+                budgets.await(
+                        CompletableFuture.completedFuture("AI"),
+                        PipelineStage.CRITERIA,
+                        budgets.stageEnd(deadline, PipelineStage.CRITERIA),
+                        () -> "fallback"
+                );
+
+        assertThat(result).isEqualTo("AI");
+        assertThat(registry.find("pipeline.degraded").counter()).isNull();
+    }
+
+    @Test
+    void 단계_예산을_넘기면_기다리지_않고_fallback으로_완료된다() {
+        TurnDeadline deadline = budgets.start();
+
+        // 끝나지 않는 작업
+        CompletableFuture<String> never = new CompletableFuture<>();
+
+        CompletableFuture<String> bounded =
+                budgets.within(
+                        never,
+                        PipelineStage.CRITERIA,
+                        budgets.stageEnd(deadline, PipelineStage.CRITERIA),
+                        () -> "fallback"
+                );
+
+        // 호출 스레드는 막히지 않는다
+        assertThat(bounded).isNotDone();
+
+        assertThat(bounded.join()).isEqualTo("fallback");
+        assertThat(
+                registry.get("pipeline.degraded")
+                        .tag("stage", "criteria")
+                        .tag("reason", "timeout")
+                        .counter()
+                        .count()
+        ).isEqualTo(1.0);
+    }
+
+    @Test
+    void 작업_예외는_degrade하지_않고_그대로_전파된다() {
+        TurnDeadline deadline = budgets.start();
+
+        CompletableFuture<String> failed =
+                CompletableFuture.failedFuture(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() ->
+                budgets.await(
+                        failed,
+                        PipelineStage.SEARCH,
+                        budgets.stageEnd(deadline, PipelineStage.SEARCH),
+                        () -> "fallback"
+                )
+        ).isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void 턴_마감이_지났으면_단계를_생략한다() {
+        StageBudgets expired =
+                new StageBudgets(registry, 0, 1_000, 1_000, 1_000, 1_000);
+
+        assertThat(
+                expired.skipIfExpired(expired.start(), PipelineStage.EXPLANATION)
+        ).isTrue();
+        assertThat(
+                registry.get("pipeline.degraded")
+                        .tag("stage", "explanation")
+                        .tag("reason", "deadline")
+                        .counter()
+                        .count()
+        ).isEqualTo(1.0);
+    }
+
+    @Test
+    void 예산이_꺼져_있으면_마감이_지나도_기다리고_생략하지_않는다() {
+        StageBudgets disabled =
+                new StageBudgets(registry, false, 0, 0, 0, 0, 0);
+        TurnDeadline deadline = disabled.start();
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> bounded =
+                disabled.within(
+                        pending,
+                        PipelineStage.CRITERIA,
+                        disabled.stageEnd(deadline, PipelineStage.CRITERIA),
+                        () -> "fallback"
+                );
+        pending.complete("AI");
+
+        assertThat(bounded.join()).isEqualTo("AI");
+        assertThat(disabled.skipIfExpired(deadline, PipelineStage.SEARCH)).isFalse();
+        assertThat(registry.find("pipeline.degraded").counter()).isNull();
+    }
+}
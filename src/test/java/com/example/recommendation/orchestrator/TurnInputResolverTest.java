@@ -0,0 +1,267 @@
+package com.example.recommendation.orchestrator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.recommendation.domain.criteria.CriteriaService;
+import com.example.recommendation.domain.home.answer.AnswerIntent;
+import com.example.recommendation.domain.home.answer.AnswerInterpretation;
+import com.example.recommendation.domain.home.answer.UserInputProcessor;
+import com.example.recommendation.domain.home.slot.DecisionSlot;
+import com.example.recommendation.domain.home.state.HomeConversationState;
+import com.example.recommendation.dto.AiCriteriaResultDto;
+import com.example.recommendation.external.openai.OpenAiCriteriaClient;
+import com.example.recommendation.external.openai.OpenAiTurnExtractionClient;
+import com.example.recommendation.external.openai.TurnExtraction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TurnInputResolverTest {
+
+    private final ExecutorService pipelineExecutor = Executors.newFixedThreadPool(4);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final StageBudgets stageBudgets =
+            new StageBudgets(registry, 5_000, 5_000, 5_000, 5_000, 5_000);
+
+    @AfterEach
+    void tearDown() {
+        pipelineExecutor.shutdownNow();
+    }
+
+    @Test
+    void 답변_해석과_Criteria_호출은_동시에_진행된다() {
+        // given: 두 호출이 서로를 만나야만 끝나는 가짜 AI
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        UserInputProcessor processor = new UserInputProcessor(null, null) {
+            @Override
+            public AnswerInterpretation interpret(String userInput, DecisionSlot lastAskedSlot) {
+                threads.add(Thread.currentThread().getName());
+                awaitPeer(bothStarted);
+                return new AnswerInterpretation(AnswerIntent.ANSWER, userInput);
+            }
+
+            @Override
+            public void applyInterpretation(
+                    AnswerInterpretation interpretation,
+                    HomeConversationState state
+            ) {
+                throw new AssertionError("resolver는 세션 state를 바꾸지 않는다");
+            }
+        };
+        OpenAiCriteriaClient criteriaClient = userInput -> {
+            threads.add(Thread.currentThread().getName());
+            awaitPeer(bothStarted);
+            return keyword(userInput);
+        };
+
+        TurnInputResolver resolver = resolver(processor, new CriteriaService(criteriaClient));
+
+        // when
+        TurnInput turnInput =
+                resolver.resolve("무선청소기", DecisionSlot.PURPOSE, stageBudgets.start());
+
+        // then: 한쪽이 다른 쪽을 기다렸다면 예산 fallback이 났을 것
+        assertThat(turnInput.interpretation().getNormalizedValue()).isEqualTo("무선청소기");
+        assertThat(turnInput.criteria().getSearchKeyword()).isEqualTo("무선청소기");
+        assertThat(threads).hasSize(2)
+                .doesNotContain(Thread.currentThread().getName());
+        assertThat(registry.find("pipeline.degraded").counter()).isNull();
+    }
+
+    @Test
+    void 통합_모드는_한_번의_호출로_받고_criteria는_캐시에_남긴다() {
+        // given
+        RecordingCriteriaClient criteriaClient = new RecordingCriteriaClient();
+        AtomicInteger combinedCalls = new AtomicInteger();
+        OpenAiTurnExtractionClient turnClient = (userInput, lastAskedSlot) -> {
+            combinedCalls.incrementAndGet();
+            return new TurnExtraction(
+                    new AnswerInterpretation(AnswerIntent.ANSWER, "친구 결혼"),
+                    keyword("커피머신")
+            );
+        };
+        TurnInputResolver resolver = resolver(
+                aiOnlyProcessor(), new CriteriaService(criteriaClient), turnClient
+        );
+
+        // when
+        TurnInput turnInput =
+                resolver.resolve("친구 결혼 선물", DecisionSlot.PURPOSE, stageBudgets.start());
+
+        // then
+        assertThat(combinedCalls.get()).isEqualTo(1);
+        assertThat(criteriaClient.calls.get()).isZero();
+        assertThat(turnInput.interpretation().getNormalizedValue()).isEqualTo("친구 결혼");
+        assertThat(turnInput.criteria().getSearchKeyword()).isEqualTo("커피머신");
+        assertThat(criteriaClient.cache).containsKey("친구 결혼 선물");
+        assertThat(extractionCount("combined")).isEqualTo(1);
+    }
+
+    @Test
+    void 통합_호출이_실패하면_개별_호출로_다시_해석한다() {
+        // given
+        RecordingCriteriaClient criteriaClient = new RecordingCriteriaClient();
+        OpenAiTurnExtractionClient turnClient = (userInput, lastAskedSlot) -> {
+            throw new IllegalStateException("Invalid turn extraction response");
+        };
+        TurnInputResolver resolver = resolver(
+                aiOnlyProcessor(), new CriteriaService(criteriaClient), turnClient
+        );
+
+        // when
+        TurnInput turnInput =
+                resolver.resolve("친구 결혼 선물", DecisionSlot.PURPOSE, stageBudgets.start());
+
+        // then
+        assertThat(criteriaClient.calls.get()).isEqualTo(1);
+        assertThat(turnInput.interpretation().getNormalizedValue()).isEqualTo("친구 결혼 선물");
+        assertThat(turnInput.criteria().getSearchKeyword()).isEqualTo("친구 결혼 선물");
+        assertThat(extractionCount("combined")).isZero();
+        assertThat(extractionCount("separate")).isEqualTo(1);
+    }
+
+    @Test
+    void Criteria가_캐시에_있으면_통합_호출을_하지_않는다() {
+        // given
+        RecordingCriteriaClient criteriaClient = new RecordingCriteriaClient();
+        criteriaClient.cache.put("친구 결혼 선물", keyword("커피머신"));
+        OpenAiTurnExtractionClient turnClient = (userInput, lastAskedSlot) -> {
+            throw new AssertionError("캐시된 입력은 통합 호출 ❌");
+        };
+        TurnInputResolver resolver = resolver(
+                aiOnlyProcessor(), new CriteriaService(criteriaClient), turnClient
+        );
+
+        // when
+        TurnInput turnInput =
+                resolver.resolve("친구 결혼 선물", DecisionSlot.PURPOSE, stageBudgets.start());
+
+        // then
+        assertThat(turnInput.criteria().getSearchKeyword()).isEqualTo("커피머신");
+        assertThat(extractionCount("separate")).isEqualTo(1);
+    }
+
+    /* =====================
+       내부
+       ===================== */
+
+    private TurnInputResolver resolver(
+            UserInputProcessor processor,
+            CriteriaService criteriaService
+    ) {
+        return new TurnInputResolver(
+                processor,
+                criteriaService,
+                null,
+                pipelineExecutor,
+                stageBudgets,
+                new PipelineMetrics(registry),
+                false,
+                registry
+        );
+    }
+
+    private TurnInputResolver resolver(
+            UserInputProcessor processor,
+            CriteriaService criteriaService,
+            OpenAiTurnExtractionClient turnExtractionClient
+    ) {
+        return new TurnInputResolver(
+                processor,
+                criteriaService,
+                turnExtractionClient,
+                pipelineExecutor,
+                stageBudgets,
+                new PipelineMetrics(registry),
+                true,
+                registry
+        );
+    }
+
+    private double extractionCount(String mode) {
+        return registry.get("turn.extraction").tag("mode", mode).counter().count();
+    }
+
+    /**
+     * 로컬 분류기로는 해석할 수 없는 입력 (AI 해석은 입력 그대로)
+     */
+    private static UserInputProcessor aiOnlyProcessor() {
+        return new UserInputProcessor(null, null) {
+            @Override
+            public boolean canInterpretLocally(String userInput, DecisionSlot lastAskedSlot) {
+                return false;
+            }
+
+            @Override
+            public AnswerInterpretation interpret(String userInput, DecisionSlot lastAskedSlot) {
+                return new AnswerInterpretation(AnswerIntent.ANSWER, userInput);
+            }
+        };
+    }
+
+    /**
+     * 캐시 계약만 흉내 내는 Criteria AI (키 = 입력 그대로)
+     */
+    private static class RecordingCriteriaClient implements OpenAiCriteriaClient {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Map<String, AiCriteriaResultDto> cache = new ConcurrentHashMap<>();
+
+        @Override
+        public AiCriteriaResultDto extractCriteria(String userInput) {
+            AiCriteriaResultDto cached = cache.get(userInput);
+            if (cached != null) {
+                return cached;
+            }
+            calls.incrementAndGet();
+            return keyword(userInput);
+        }
+
+        @Override
+        public AiCriteriaResultDto findCached(String userInput) {
+            return cache.get(userInput);
+        }
+
+        @Override
+        public void recordExtraction(String userInput, AiCriteriaResultDto result) {
+            cache.put(userInput, result);
+        }
+    }
+
+    /**
+     * 상대 호출이 시작될 때까지 대기 (직렬 실행이면 예산보다 오래 막힌다)
+     */
+    private static void awaitPeer(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("다른 호출이 시작되지 않았다 (직렬 실행)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private static AiCriteriaResultDto keyword(String userInput) {
+        AiCriteriaResultDto dto = new AiCriteriaResultDto();
+        dto.setSearchKeyword(userInput);
+        dto.setOptionKeywords(List.of());
+        return dto;
+    }
+}